@@ -0,0 +1,82 @@
+#!/bin/sh
+# AppCDS training run for the container image (see Dockerfile).
+# Starts the application against an in-memory H2 database, exercises the API so request handling,
+# JSON and Hibernate classes get loaded, then stops it gracefully so the JVM writes the class archive.
+# Afterwards startup is measured with and without the archive and written to /app/startup-report.txt.
+set -eu
+
+APP_CLASSPATH=/app/app.jar:/app/cds/h2.jar
+MAIN_CLASS=com.fintrellis.blogmanager.Application
+PORT=8888
+BASE_URL="http://localhost:${PORT}"
+
+TRAINING_PROPERTIES="-Ddatasources.default.url=jdbc:h2:mem:cds;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE \
+  -Ddatasources.default.driver-class-name=org.h2.Driver \
+  -Ddatasources.default.username=sa -Ddatasources.default.password= \
+  -Ddatasources.default.dialect=H2 \
+  -Djpa.default.properties.hibernate.hbm2ddl.auto=create-drop \
+  -Dblog.search.backend=memory \
+  -Dendpoints.prometheus.sensitive=false \
+  -Dmicronaut.server.port=${PORT}"
+
+now_millis() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# Waits until the list endpoint answers, prints the elapsed milliseconds since $1
+await_first_request() {
+  started=$1
+  for attempt in $(seq 1 600); do
+    if curl -sf -o /dev/null "${BASE_URL}/api/posts"; then
+      echo $(( $(now_millis) - started ))
+      return 0
+    fi
+    sleep 0.1
+  done
+  echo "Application did not answer within 60s" >&2
+  return 1
+}
+
+stop() {
+  kill -TERM "$1"
+  wait "$1" || true
+}
+
+# 1. Training run, the archive is written when the JVM exits
+started=$(now_millis)
+# shellcheck disable=SC2086
+java -XX:ArchiveClassesAtExit=/app/app.jsa ${TRAINING_PROPERTIES} -cp "${APP_CLASSPATH}" "${MAIN_CLASS}" &
+pid=$!
+await_first_request "${started}" > /dev/null
+for i in $(seq 1 20); do
+  curl -sf -o /dev/null -H 'Content-Type: application/json' \
+    -d "{\"title\":\"Training post ${i}\",\"content\":\"Class data sharing training content ${i}\",\"tags\":\"cds, training\",\"published\":true}" \
+    "${BASE_URL}/api/posts"
+done
+curl -sf -o /dev/null -H 'Content-Type: application/json' \
+  -d '[{"op":"update","id":1,"post":{"title":"Training post, updated"}},{"op":"delete","id":2}]' "${BASE_URL}/api/posts/batch" || true
+for path in "/api/posts?limit=10" "/api/posts/published" "/api/posts/1" "/api/posts/1/view" \
+            "/api/posts/search/title?q=training" "/api/posts/search/content?q=sharing" "/api/posts/search/tags?q=cds" \
+            "/api/posts/tags" "/api/posts/popular" "/api/posts/analytics/summary" "/api/posts/export" "/health" "/prometheus"; do
+  curl -sf -o /dev/null "${BASE_URL}${path}" || true
+done
+stop "${pid}"
+
+# 2. Time to first request without and with the archive
+measure() {
+  started=$(now_millis)
+  # shellcheck disable=SC2086
+  java "$@" ${TRAINING_PROPERTIES} -cp "${APP_CLASSPATH}" "${MAIN_CLASS}" > /dev/null 2>&1 &
+  pid=$!
+  elapsed=$(await_first_request "${started}")
+  stop "${pid}"
+  echo "${elapsed}"
+}
+
+without_cds=$(measure -Xshare:off)
+with_cds=$(measure -XX:SharedArchiveFile=/app/app.jsa)
+{
+  echo "Time to first request (ms), JVM ${JAVA_VERSION:-unknown}"
+  echo "  without class data sharing: ${without_cds}"
+  echo "  with AppCDS archive:        ${with_cds}"
+} | tee /app/startup-report.txt
@@ -0,0 +1,63 @@
+package com.fintrellis.blogmanager;
+
+import io.micronaut.context.ApplicationContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Shared setup for the benchmarks: an application context on an in-memory H2 database
+ * and deterministic post content.
+ */
+public final class BenchmarkData {
+
+    public static final List<String> WORDS = List.of(
+            "micronaut", "java", "reactor", "hibernate", "postgres", "index", "cache", "latency",
+            "throughput", "thread", "virtual", "query", "search", "token", "buffer", "stream",
+            "netty", "kotlin", "gradle", "docker", "cloud", "native", "memory", "garbage");
+    public static final List<String> TAGS = List.of("java", "micronaut", "databases", "performance", "devops", "testing");
+
+    private BenchmarkData() {
+    }
+
+    // Context on a private in-memory database; SQL and debug logging are off so they do not dominate the measurements
+    public static ApplicationContext start(String database, Map<String, Object> overrides) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("datasources.default.url", "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1");
+        properties.put("datasources.default.driver-class-name", "org.h2.Driver");
+        properties.put("datasources.default.username", "sa");
+        properties.put("datasources.default.password", "");
+        properties.put("datasources.default.dialect", "H2");
+        properties.put("jpa.default.properties.hibernate.hbm2ddl.auto", "create-drop");
+        properties.put("jpa.default.properties.hibernate.show_sql", false);
+        properties.put("jpa.default.properties.hibernate.format_sql", false);
+        properties.put("blog.search.backend", "memory");
+        properties.put("blog.virtual-threads.pinning-monitor.enabled", false);
+        properties.put("logger.levels.com.fintrellis.blogmanager", "WARN");
+        properties.put("logger.levels.io.micronaut.data", "WARN");
+        properties.putAll(overrides);
+        return ApplicationContext.run(properties, "benchmark");
+    }
+
+    public static BlogPost post(Random random, int contentWords) {
+        BlogPost post = new BlogPost(sentence(random, 6), sentence(random, contentWords));
+        post.setSummary(sentence(random, 20));
+        post.setAuthor("author" + random.nextInt(50));
+        post.setTags(TAGS.get(random.nextInt(TAGS.size())) + ", " + TAGS.get(random.nextInt(TAGS.size())));
+        post.setPublished(random.nextBoolean());
+        return post;
+    }
+
+    public static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder(words * 8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS.get(random.nextInt(WORDS.size())));
+        }
+        return sentence.toString();
+    }
+}
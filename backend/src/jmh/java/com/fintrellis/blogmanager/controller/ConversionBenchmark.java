@@ -0,0 +1,69 @@
+package com.fintrellis.blogmanager.controller;
+
+import com.fintrellis.blogmanager.BenchmarkData;
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.dto.CreatePostRequest;
+import com.fintrellis.blogmanager.dto.PostResponse;
+import com.fintrellis.blogmanager.dto.UpdatePostRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO to entity conversion in {@link BlogPostController#convertToEntity}, and entity to
+ * response conversion in {@link PostResponse}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConversionBenchmark {
+
+    private BlogPostController controller;
+    private CreatePostRequest createRequest;
+    private UpdatePostRequest updateRequest;
+    private BlogPost post;
+
+    @Setup
+    public void setUp() {
+        controller = new BlogPostController(); // The converters use no injected state
+        Random random = new Random(42);
+        post = BenchmarkData.post(random, 1300);
+        post.setId(1L);
+        createRequest = new CreatePostRequest(post.getTitle(), post.getContent());
+        createRequest.setSummary(post.getSummary());
+        createRequest.setAuthor(post.getAuthor());
+        createRequest.setTags(post.getTags());
+        createRequest.setPublished(true);
+        updateRequest = new UpdatePostRequest();
+        updateRequest.setTitle(post.getTitle());
+        updateRequest.setContent(post.getContent());
+        updateRequest.setPublished(false);
+    }
+
+    @Benchmark
+    public BlogPost createRequestToEntity() {
+        return controller.convertToEntity(createRequest);
+    }
+
+    @Benchmark
+    public BlogPost updateRequestToEntity() {
+        return controller.convertToEntity(updateRequest);
+    }
+
+    @Benchmark
+    public PostResponse entityToResponse() {
+        return PostResponse.from(post);
+    }
+
+    @Benchmark
+    public PostResponse entityToSummary() {
+        return PostResponse.summaryOf(post);
+    }
+}
@@ -0,0 +1,80 @@
+package com.fintrellis.blogmanager.controller;
+
+import com.fintrellis.blogmanager.BenchmarkData;
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.dto.CreatePostRequest;
+import com.fintrellis.blogmanager.dto.PostResponse;
+import io.micronaut.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of response bodies: one full post, and list pages of full posts
+ * and of content-free summaries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    // 20 is a default page, 1000 a large list
+    @Param({"20", "1000"})
+    private int listSize;
+
+    private JsonMapper jsonMapper;
+    private BlogPost post;
+    private List<BlogPost> posts;
+    private List<PostResponse> summaries;
+    private byte[] createRequestJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonMapper = JsonMapper.createDefault();
+        Random random = new Random(42);
+        post = BenchmarkData.post(random, 1300); // About 10k chars of content, the validation maximum
+        post.setId(1L);
+        posts = new ArrayList<>(listSize);
+        summaries = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            BlogPost listed = BenchmarkData.post(random, 300);
+            listed.setId((long) i + 2);
+            posts.add(listed);
+            summaries.add(PostResponse.summaryOf(listed));
+        }
+        CreatePostRequest request = new CreatePostRequest(post.getTitle(), post.getContent());
+        request.setTags(post.getTags());
+        createRequestJson = jsonMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] serializePost() throws IOException {
+        return jsonMapper.writeValueAsBytes(post);
+    }
+
+    @Benchmark
+    public byte[] serializeFullList() throws IOException {
+        return jsonMapper.writeValueAsBytes(posts);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaryList() throws IOException {
+        return jsonMapper.writeValueAsBytes(summaries);
+    }
+
+    @Benchmark
+    public CreatePostRequest deserializeCreateRequest() throws IOException {
+        return jsonMapper.readValue(createRequestJson, CreatePostRequest.class);
+    }
+}
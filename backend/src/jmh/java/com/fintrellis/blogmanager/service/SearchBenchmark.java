@@ -0,0 +1,80 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.BenchmarkData;
+import com.fintrellis.blogmanager.BlogPost;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code searchBy*} paths of {@link BlogPostService}: ranking in the configured search
+ * backend plus loading one page of posts. {@code like} selects the postgres backend, which
+ * falls back to LIKE queries on H2.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchBenchmark {
+
+    @Param({"memory", "like"})
+    private String backend;
+
+    @Param({"5000"})
+    private int posts;
+
+    private ApplicationContext context;
+    private BlogPostService blogPostService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String property = backend.equals("like") ? "postgres" : backend;
+        context = BenchmarkData.start("searchBenchmark" + backend, Map.of("blog.search.backend", property));
+        blogPostService = context.getBean(BlogPostService.class);
+        Random random = new Random(42);
+        for (int i = 0; i < posts; i++) {
+            blogPostService.createPost(BenchmarkData.post(random, 300));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPage<BlogPost> searchByTitle() {
+        return blogPostService.searchByTitle("reactor", null, 20);
+    }
+
+    @Benchmark
+    public CursorPage<BlogPost> searchByTitleTwoTerms() {
+        return blogPostService.searchByTitle("virtual thread", null, 20);
+    }
+
+    @Benchmark
+    public CursorPage<BlogPost> searchByContent() {
+        return blogPostService.searchByContent("garbage collection latency", null, 20);
+    }
+
+    @Benchmark
+    public CursorPage<BlogPost> searchByTagsAll() {
+        return blogPostService.searchByTags("java, performance", "all", null, 20);
+    }
+
+    @Benchmark
+    public CursorPage<BlogPost> searchByTagsAny() {
+        return blogPostService.searchByTags("java, performance", "any", null, 20);
+    }
+}
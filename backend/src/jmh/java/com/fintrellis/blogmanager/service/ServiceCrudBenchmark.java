@@ -0,0 +1,94 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.BenchmarkData;
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.dto.PostResponse;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BlogPostService} CRUD against an in-memory H2 database, through the real
+ * transaction, event and cache wiring.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceCrudBenchmark {
+
+    @Param({"1000"})
+    private int posts;
+
+    private ApplicationContext context;
+    private BlogPostService blogPostService;
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.start("crudBenchmark", Map.of());
+        blogPostService = context.getBean(BlogPostService.class);
+        Random random = new Random(42);
+        ids = new ArrayList<>(posts);
+        for (int i = 0; i < posts; i++) {
+            ids.add(blogPostService.createPost(BenchmarkData.post(random, 300)).getId());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BlogPost createPost() {
+        return blogPostService.createPost(BenchmarkData.post(ThreadLocalRandom.current(), 300));
+    }
+
+    // Mostly post cache hits once warmed up
+    @Benchmark
+    public BlogPost getPostById() {
+        return blogPostService.getPostById(randomId());
+    }
+
+    @Benchmark
+    public BlogPost updatePost() {
+        BlogPost changes = new BlogPost();
+        changes.setTitle(BenchmarkData.sentence(ThreadLocalRandom.current(), 6));
+        return blogPostService.updatePost(randomId(), changes);
+    }
+
+    @Benchmark
+    public void createThenDeletePost() {
+        BlogPost post = blogPostService.createPost(BenchmarkData.post(ThreadLocalRandom.current(), 300));
+        blogPostService.deletePost(post.getId());
+    }
+
+    @Benchmark
+    public CursorPage<PostResponse> listSummaryPage() {
+        return blogPostService.getAllPosts(null, 20, null);
+    }
+
+    @Benchmark
+    public CursorPage<PostResponse> listFullPage() {
+        return blogPostService.getAllPosts(null, 20, "full");
+    }
+
+    private Long randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
@@ -0,0 +1,77 @@
+package com.fintrellis.blogmanager.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms (microseconds, 3 significant digits) and error counts per endpoint.
+ * Requests are only recorded between {@link #startRecording} and {@link #stopRecording},
+ * so warmup traffic is left out.
+ */
+final class EndpointStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+    private volatile long startedAt;
+    private volatile long stoppedAt;
+
+    void startRecording() {
+        startedAt = System.nanoTime();
+        recording = true;
+    }
+
+    void stopRecording() {
+        recording = false;
+        stoppedAt = System.nanoTime();
+    }
+
+    void record(String endpoint, long elapsedNanos, boolean error) {
+        if (!recording) {
+            return;
+        }
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        stats.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_LATENCY_MICROS));
+        if (error) {
+            stats.errors.increment();
+        }
+    }
+
+    double recordedSeconds() {
+        return (stoppedAt - startedAt) / 1e9;
+    }
+
+    // Sorted by endpoint name for a stable report
+    Map<String, Endpoint> endpoints() {
+        return new TreeMap<>(endpoints);
+    }
+
+    static final class Endpoint {
+
+        private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        long requests() {
+            return latency.getTotalCount();
+        }
+
+        long errors() {
+            return errors.sum();
+        }
+
+        double percentileMillis(double percentile) {
+            return latency.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        double maxMillis() {
+            return latency.getMaxValue() / 1000.0;
+        }
+    }
+}
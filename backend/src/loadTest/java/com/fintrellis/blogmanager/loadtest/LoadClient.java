@@ -0,0 +1,91 @@
+package com.fintrellis.blogmanager.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Issues requests against the server under test and records each one under its endpoint.
+ * Shared by all clients of a scenario; every client brings its own {@link Random}.
+ */
+final class LoadClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final EndpointStats stats;
+    private final List<Long> postIds;
+
+    LoadClient(HttpClient httpClient, URI baseUri, EndpointStats stats, List<Long> postIds) {
+        this.httpClient = httpClient;
+        this.baseUri = baseUri;
+        this.stats = stats;
+        this.postIds = postIds;
+    }
+
+    Response get(String endpoint, String path) {
+        return send(endpoint, request(path).GET().build());
+    }
+
+    Response post(String endpoint, String path, String json) {
+        return send(endpoint, request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build());
+    }
+
+    long randomPostId(Random random) {
+        return postIds.get(random.nextInt(postIds.size()));
+    }
+
+    // The same post for every client
+    long hotPostId() {
+        return postIds.get(0);
+    }
+
+    static String createOperation(Random random) {
+        return "{\"op\":\"create\",\"post\":{"
+                + "\"title\":\"" + Words.sentence(random, 6) + "\","
+                + "\"content\":\"" + Words.sentence(random, 300) + "\","
+                + "\"summary\":\"" + Words.sentence(random, 20) + "\","
+                + "\"author\":\"author" + random.nextInt(50) + "\","
+                + "\"tags\":\"" + Words.tags(random) + "\","
+                + "\"published\":" + random.nextBoolean() + "}}";
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private Response send(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            stats.record(endpoint, System.nanoTime() - start, response.statusCode() >= 400);
+            return new Response(response.statusCode(), response.headers(), response.body());
+        } catch (IOException e) {
+            stats.record(endpoint, System.nanoTime() - start, true);
+            return Response.FAILED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Response.FAILED;
+        }
+    }
+
+    record Response(int status, HttpHeaders headers, byte[] body) {
+
+        static final Response FAILED = new Response(-1, HttpHeaders.of(Map.of(), (name, value) -> true), new byte[0]);
+
+        String header(String name) {
+            return headers.firstValue(name).orElse(null);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.fintrellis.blogmanager.loadtest;
+
+import io.micronaut.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Prints one table per scenario and writes the same figures as JSON
+final class LoadReport {
+
+    private static final String ROW = "%-28s %10s %10s %9s %9s %9s %9s %8s%n";
+
+    private LoadReport() {
+    }
+
+    static void write(Scenario scenario, LoadTestConfig config, EndpointStats stats, Path directory) throws IOException {
+        double seconds = stats.recordedSeconds();
+        System.out.printf("%n== %s: %d clients, %.0fs measured ==%n", scenario.id(), config.clients(), seconds);
+        System.out.printf(ROW, "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors");
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (Map.Entry<String, EndpointStats.Endpoint> entry : stats.endpoints().entrySet()) {
+            EndpointStats.Endpoint endpoint = entry.getValue();
+            double throughput = endpoint.requests() / seconds;
+            double errorRate = endpoint.requests() == 0 ? 0 : (double) endpoint.errors() / endpoint.requests();
+            System.out.printf(ROW, entry.getKey(), endpoint.requests(), format(throughput),
+                    format(endpoint.percentileMillis(50)), format(endpoint.percentileMillis(99)),
+                    format(endpoint.percentileMillis(99.9)), format(endpoint.maxMillis()),
+                    String.format("%.2f%%", errorRate * 100));
+
+            Map<String, Object> figures = new LinkedHashMap<>();
+            figures.put("requests", endpoint.requests());
+            figures.put("throughput", throughput);
+            figures.put("p50Millis", endpoint.percentileMillis(50));
+            figures.put("p99Millis", endpoint.percentileMillis(99));
+            figures.put("p999Millis", endpoint.percentileMillis(99.9));
+            figures.put("maxMillis", endpoint.maxMillis());
+            figures.put("errors", endpoint.errors());
+            figures.put("errorRate", errorRate);
+            endpoints.put(entry.getKey(), figures);
+            totalRequests += endpoint.requests();
+            totalErrors += endpoint.errors();
+        }
+        System.out.printf("total: %d requests, %s req/s, %d errors%n", totalRequests, format(totalRequests / seconds), totalErrors);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("scenario", scenario.id());
+        report.put("clients", config.clients());
+        report.put("posts", config.posts());
+        report.put("measuredSeconds", seconds);
+        report.put("database", config.embeddedDatabase() ? "h2" : config.jdbcUrl());
+        report.put("endpoints", endpoints);
+        Files.createDirectories(directory);
+        Files.write(directory.resolve(scenario.id() + ".json"), JsonMapper.createDefault().writeValueAsBytes(report));
+    }
+
+    private static String format(double value) {
+        return String.format("%.1f", value);
+    }
+}
@@ -0,0 +1,34 @@
+package com.fintrellis.blogmanager.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Harness settings, read from {@code loadtest.*} system properties
+ * (passed through by {@code ./gradlew loadTest -Ploadtest.clients=2000}).
+ */
+record LoadTestConfig(int clients, Duration warmup, Duration duration, int posts, List<Scenario> scenarios,
+                      String jdbcUrl, String jdbcUsername, String jdbcPassword, String reportDirectory) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.clients", 200),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 30)),
+                Integer.getInteger("loadtest.posts", 2000),
+                Arrays.stream(System.getProperty("loadtest.scenarios", "browse,view-storm,search-typing,bulk-writes,mixed").split(","))
+                        .map(String::trim)
+                        .map(Scenario::parse)
+                        .toList(),
+                // Embedded H2 in PostgreSQL mode unless a real database is given
+                System.getProperty("loadtest.jdbc-url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE"),
+                System.getProperty("loadtest.jdbc-username", "sa"),
+                System.getProperty("loadtest.jdbc-password", ""),
+                System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+    }
+
+    boolean embeddedDatabase() {
+        return jdbcUrl.startsWith("jdbc:h2:");
+    }
+}
@@ -0,0 +1,121 @@
+package com.fintrellis.blogmanager.loadtest;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.runtime.server.EmbeddedServer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * End-to-end load test: starts the application on a random port, seeds posts through the
+ * batch endpoint, then runs each configured {@link Scenario} with a fixed number of
+ * closed-loop virtual-thread clients and reports throughput, latency percentiles and
+ * error rates per endpoint.
+ *
+ * <pre>./gradlew loadTest -Ploadtest.clients=1000 -Ploadtest.duration-seconds=60 -Ploadtest.scenarios=mixed</pre>
+ */
+public final class LoadTestRunner {
+
+    private static final int SEED_BATCH_SIZE = 500;
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        try (EmbeddedServer server = ApplicationContext.run(EmbeddedServer.class, serverProperties(config), "loadtest");
+             ExecutorService httpExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(httpExecutor)
+                    .build();
+            URI baseUri = server.getURI();
+            List<Long> postIds = seed(httpClient, baseUri, config.posts());
+            System.out.printf("Seeded %d posts, server at %s%n", postIds.size(), baseUri);
+
+            for (Scenario scenario : config.scenarios()) {
+                EndpointStats stats = run(scenario, config, httpClient, baseUri, postIds);
+                LoadReport.write(scenario, config, stats, Path.of(config.reportDirectory()));
+            }
+        }
+    }
+
+    private static Map<String, Object> serverProperties(LoadTestConfig config) {
+        boolean embedded = config.embeddedDatabase();
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("micronaut.server.port", -1);
+        properties.put("datasources.default.url", config.jdbcUrl());
+        properties.put("datasources.default.driver-class-name", embedded ? "org.h2.Driver" : "org.postgresql.Driver");
+        properties.put("datasources.default.username", config.jdbcUsername());
+        properties.put("datasources.default.password", config.jdbcPassword());
+        properties.put("datasources.default.dialect", embedded ? "H2" : "POSTGRES");
+        properties.put("jpa.default.properties.hibernate.hbm2ddl.auto", embedded ? "create-drop" : "update");
+        properties.put("jpa.default.properties.hibernate.show_sql", false);
+        properties.put("jpa.default.properties.hibernate.format_sql", false);
+        properties.put("logger.levels.com.fintrellis.blogmanager", "WARN");
+        properties.put("logger.levels.io.micronaut.data", "WARN");
+        return properties;
+    }
+
+    // Create posts through the batch endpoint and return their ids
+    private static List<Long> seed(HttpClient httpClient, URI baseUri, int posts) throws Exception {
+        LoadClient client = new LoadClient(httpClient, baseUri, new EndpointStats(), List.of());
+        JsonMapper jsonMapper = JsonMapper.createDefault();
+        Random random = new Random(42);
+        List<Long> ids = new ArrayList<>(posts);
+        while (ids.size() < posts) {
+            int count = Math.min(SEED_BATCH_SIZE, posts - ids.size());
+            StringJoiner operations = new StringJoiner(",", "[", "]");
+            for (int i = 0; i < count; i++) {
+                operations.add(LoadClient.createOperation(random));
+            }
+            LoadClient.Response response = client.post("seed", "/api/posts/batch", operations.toString());
+            if (response.status() != 200) {
+                throw new IllegalStateException("Seeding failed with HTTP " + response.status());
+            }
+            for (Map<String, Object> result : jsonMapper.readValue(response.body(), Argument.listOf(Argument.mapOf(String.class, Object.class)))) {
+                ids.add(((Number) result.get("id")).longValue());
+            }
+        }
+        return ids;
+    }
+
+    private static EndpointStats run(Scenario scenario, LoadTestConfig config, HttpClient httpClient, URI baseUri,
+                                     List<Long> postIds) throws InterruptedException {
+        EndpointStats stats = new EndpointStats();
+        LoadClient client = new LoadClient(httpClient, baseUri, stats, postIds);
+        AtomicBoolean running = new AtomicBoolean(true);
+        System.out.printf("%nRunning %s: %d clients, %ds warmup, %ds measured%n", scenario.id(), config.clients(),
+                config.warmup().toSeconds(), config.duration().toSeconds());
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.clients(); i++) {
+                Random random = new Random(i);
+                clients.submit(() -> {
+                    while (running.get()) {
+                        scenario.step(client, random);
+                    }
+                });
+            }
+            Thread.sleep(config.warmup().toMillis());
+            stats.startRecording();
+            Thread.sleep(config.duration().toMillis());
+            stats.stopRecording();
+            running.set(false);
+        } // Waits for every client to finish its current step
+        return stats;
+    }
+}
@@ -0,0 +1,110 @@
+package com.fintrellis.blogmanager.loadtest;
+
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+
+/**
+ * Workloads driven by every client. Each call of {@link #step} is one user action,
+ * which may issue several requests.
+ */
+enum Scenario {
+
+    // Reader paging through the newest posts and opening a few of them
+    BROWSE("browse") {
+        @Override
+        void step(LoadClient client, Random random) {
+            String cursor = null;
+            int pages = 1 + random.nextInt(3);
+            for (int page = 0; page < pages; page++) {
+                String query = cursor == null ? "?limit=20" : "?limit=20&cursor=" + cursor;
+                LoadClient.Response response = client.get("GET /posts", "/api/posts" + query);
+                cursor = response.header("X-Next-Cursor");
+                if (cursor == null) {
+                    break;
+                }
+            }
+            client.get("GET /posts/published", "/api/posts/published?limit=20");
+            for (int i = 0; i < 2; i++) {
+                client.get("GET /posts/{id}", "/api/posts/" + client.randomPostId(random));
+            }
+        }
+    },
+
+    // Every client viewing the same hot post
+    VIEW_STORM("view-storm") {
+        @Override
+        void step(LoadClient client, Random random) {
+            client.get("GET /posts/{id}/view", "/api/posts/" + client.hotPostId() + "/view");
+        }
+    },
+
+    // A search box firing one request per typed character
+    SEARCH_TYPING("search-typing") {
+        private static final List<String> QUERIES = List.of("reactor", "virtual", "latency", "postgres", "garbage");
+
+        @Override
+        void step(LoadClient client, Random random) {
+            String word = QUERIES.get(random.nextInt(QUERIES.size()));
+            for (int length = 2; length <= word.length(); length++) {
+                String endpoint = random.nextBoolean() ? "title" : "content";
+                client.get("GET /posts/search/" + endpoint, "/api/posts/search/" + endpoint + "?limit=10&q=" + word.substring(0, length));
+            }
+            client.get("GET /posts/search/tags", "/api/posts/search/tags?match=any&q=java,performance");
+        }
+    },
+
+    // Editors importing and cleaning up posts through the batch endpoint
+    BULK_WRITES("bulk-writes") {
+        @Override
+        void step(LoadClient client, Random random) {
+            StringJoiner operations = new StringJoiner(",", "[", "]");
+            for (int i = 0; i < 40; i++) {
+                operations.add(LoadClient.createOperation(random));
+            }
+            for (int i = 0; i < 10; i++) {
+                operations.add("{\"op\":\"update\",\"id\":" + client.randomPostId(random)
+                        + ",\"post\":{\"title\":\"" + Words.sentence(random, 5) + "\"}}");
+            }
+            client.post("POST /posts/batch", "/api/posts/batch", operations.toString());
+        }
+    },
+
+    // Production-like blend: mostly reads, some views and searches, few writes
+    MIXED("mixed") {
+        @Override
+        void step(LoadClient client, Random random) {
+            int roll = random.nextInt(100);
+            if (roll < 55) {
+                BROWSE.step(client, random);
+            } else if (roll < 80) {
+                VIEW_STORM.step(client, random);
+            } else if (roll < 97) {
+                SEARCH_TYPING.step(client, random);
+            } else {
+                BULK_WRITES.step(client, random);
+            }
+        }
+    };
+
+    private final String id;
+
+    Scenario(String id) {
+        this.id = id;
+    }
+
+    String id() {
+        return id;
+    }
+
+    abstract void step(LoadClient client, Random random);
+
+    static Scenario parse(String id) {
+        for (Scenario scenario : values()) {
+            if (scenario.id.equals(id)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario '" + id + "'");
+    }
+}
@@ -0,0 +1,184 @@
+package com.fintrellis.blogmanager.loadtest;
+
+import io.micronaut.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Starts the JVM jar and the native executable one after the other, measures the time
+ * from process start to the first healthy response and the resident set size, and runs
+ * the same HTTP smoke checks against both. Exits non-zero when a check fails.
+ * Run with {@code ./gradlew nativeSmokeTest}; both builds use the database from the
+ * usual DB_* environment variables.
+ */
+public final class StartupComparison {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+    private static final int SMOKE_CHECKS = 10;
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private StartupComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path reportDirectory = Path.of(System.getProperty("startup.report-dir", "build/reports/native"));
+        Files.createDirectories(reportDirectory);
+        List<Build> builds = List.of(
+                new Build("jvm", List.of(javaExecutable(), "-jar", System.getProperty("startup.jvm-jar"))),
+                new Build("native", List.of(System.getProperty("startup.native-binary"))));
+
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        Map<String, Object> report = new LinkedHashMap<>();
+        List<String> failures = new ArrayList<>();
+        for (Build build : builds) {
+            Result result = run(build, httpClient, reportDirectory);
+            result.failures().forEach(failure -> failures.add(build.name() + ": " + failure));
+            report.put(build.name(), result.toMap());
+        }
+
+        System.out.printf("%n%-8s %14s %14s %14s %8s%n", "build", "startup ms", "rss start MB", "rss smoke MB", "checks");
+        report.forEach((name, figures) -> {
+            Map<?, ?> values = (Map<?, ?>) figures;
+            System.out.printf("%-8s %14s %14s %14s %8s%n", name, values.get("startupMillis"),
+                    values.get("rssAfterStartupMb"), values.get("rssAfterSmokeMb"), values.get("checksPassed"));
+        });
+        Files.write(reportDirectory.resolve("startup.json"), JsonMapper.createDefault().writeValueAsBytes(report));
+
+        if (!failures.isEmpty()) {
+            failures.forEach(failure -> System.err.println("FAILED " + failure));
+            System.exit(1);
+        }
+    }
+
+    private static Result run(Build build, HttpClient httpClient, Path reportDirectory) throws Exception {
+        int port = freePort();
+        ProcessBuilder processBuilder = new ProcessBuilder(build.command())
+                .redirectErrorStream(true)
+                .redirectOutput(reportDirectory.resolve(build.name() + ".log").toFile());
+        processBuilder.environment().put("MICRONAUT_SERVER_PORT", Integer.toString(port));
+        processBuilder.environment().put("BLOG_MANAGEMENT_SENSITIVE", "false"); // The checks below read /prometheus
+        URI baseUri = URI.create("http://localhost:" + port);
+        LoadClient client = new LoadClient(httpClient, baseUri, new EndpointStats(), List.of());
+
+        long start = System.nanoTime();
+        Process process = processBuilder.start();
+        try {
+            long startupNanos = awaitHealthy(client, process, start);
+            long rssAfterStartup = residentKilobytes(process.pid());
+            List<String> failures = smokeChecks(client);
+            return new Result(TimeUnit.NANOSECONDS.toMillis(startupNanos), rssAfterStartup,
+                    residentKilobytes(process.pid()), SMOKE_CHECKS - failures.size(), failures);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static long awaitHealthy(LoadClient client, Process process, long start) throws InterruptedException {
+        long deadline = start + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Process exited with " + process.exitValue() + " before becoming healthy");
+            }
+            if (client.get("health", "/health").status() == 200) {
+                return System.nanoTime() - start;
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("Not healthy within " + STARTUP_TIMEOUT.toSeconds() + "s");
+    }
+
+    // One pass over the API surface, touching serialization, JPA, search, batching and metrics
+    private static List<String> smokeChecks(LoadClient client) {
+        List<String> failures = new ArrayList<>();
+        LoadClient.Response created = client.post("create", "/api/posts",
+                "{\"title\":\"Native smoke post\",\"content\":\"Written by the native smoke test\","
+                        + "\"tags\":\"native, smoke\",\"published\":true}");
+        expect(failures, "create", created, 201);
+        Matcher matcher = ID.matcher(new String(created.body(), StandardCharsets.UTF_8));
+        if (!matcher.find()) {
+            failures.add("create: no id in response");
+            return failures;
+        }
+        String id = matcher.group(1);
+        expect(failures, "get", client.get("get", "/api/posts/" + id), 200);
+        expect(failures, "view", client.get("view", "/api/posts/" + id + "/view"), 200);
+        expect(failures, "list", client.get("list", "/api/posts?limit=5"), 200);
+        expect(failures, "search", client.get("search", "/api/posts/search/title?q=smoke"), 200);
+        expect(failures, "tags", client.get("tags", "/api/posts/search/tags?q=native"), 200);
+        expect(failures, "batch", client.post("batch", "/api/posts/batch",
+                "[{\"op\":\"update\",\"id\":" + id + ",\"post\":{\"title\":\"Native smoke post, updated\"}},"
+                        + "{\"op\":\"delete\",\"id\":" + id + "}]"), 200);
+        expect(failures, "deleted", client.get("deleted", "/api/posts/" + id), 404);
+        expect(failures, "analytics", client.get("analytics", "/api/posts/analytics/summary"), 200);
+        expect(failures, "prometheus", client.get("prometheus", "/prometheus"), 200);
+        return failures;
+    }
+
+    private static void expect(List<String> failures, String check, LoadClient.Response response, int status) {
+        if (response.status() != status) {
+            failures.add(check + ": expected HTTP " + status + ", got " + response.status());
+        }
+    }
+
+    // VmRSS from /proc, -1 where that is not available
+    private static long residentKilobytes(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Not Linux, or the process is gone
+        }
+        return -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String javaExecutable() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private record Build(String name, List<String> command) {
+    }
+
+    private record Result(long startupMillis, long rssAfterStartupKb, long rssAfterSmokeKb, int checksPassed,
+                          List<String> failures) {
+
+        Map<String, Object> toMap() {
+            Map<String, Object> figures = new LinkedHashMap<>();
+            figures.put("startupMillis", startupMillis);
+            figures.put("rssAfterStartupMb", megabytes(rssAfterStartupKb));
+            figures.put("rssAfterSmokeMb", megabytes(rssAfterSmokeKb));
+            figures.put("checksPassed", checksPassed);
+            figures.put("failures", failures);
+            return figures;
+        }
+
+        private static double megabytes(long kilobytes) {
+            return kilobytes < 0 ? -1 : Math.round(kilobytes / 102.4) / 10.0;
+        }
+    }
+}
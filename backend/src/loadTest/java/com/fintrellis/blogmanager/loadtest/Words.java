@@ -0,0 +1,32 @@
+package com.fintrellis.blogmanager.loadtest;
+
+import java.util.List;
+import java.util.Random;
+
+// Deterministic post text for seeding and writes
+final class Words {
+
+    static final List<String> WORDS = List.of(
+            "micronaut", "java", "reactor", "hibernate", "postgres", "index", "cache", "latency",
+            "throughput", "thread", "virtual", "query", "search", "token", "buffer", "stream",
+            "netty", "kotlin", "gradle", "docker", "cloud", "native", "memory", "garbage");
+    static final List<String> TAGS = List.of("java", "micronaut", "databases", "performance", "devops", "testing");
+
+    private Words() {
+    }
+
+    static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder(words * 8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS.get(random.nextInt(WORDS.size())));
+        }
+        return sentence.toString();
+    }
+
+    static String tags(Random random) {
+        return TAGS.get(random.nextInt(TAGS.size())) + ", " + TAGS.get(random.nextInt(TAGS.size()));
+    }
+}
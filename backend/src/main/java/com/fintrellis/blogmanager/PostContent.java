@@ -0,0 +1,69 @@
+package com.fintrellis.blogmanager;
+import io.micronaut.core.annotation.Introspected;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+// Body of a post, kept out of blog_posts so metadata reads and writes never touch it.
+// On PostgreSQL the column is LZ4-compressed at rest (see PostContentMigration).
+@Entity
+@Table(name = "post_contents")
+@Introspected
+public class PostContent {
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    // Same column as postId; lets queries fetch the post with its body, and deletes cascade in the database
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private BlogPost post;
+
+    @NotBlank(message = "Content is required")
+    @Size(max = 10000, message = "Content must be less than 10000 characters")
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    // Constructors
+    public PostContent() {
+    }
+
+    public PostContent(BlogPost post, String content) {
+        this.postId = post.getId();
+        this.post = post;
+        this.content = content;
+    }
+
+    // Getters and Setters
+    public Long getPostId() {
+        return postId;
+    }
+
+    public void setPostId(Long postId) {
+        this.postId = postId;
+    }
+
+    public BlogPost getPost() {
+        return post;
+    }
+
+    public void setPost(BlogPost post) {
+        this.post = post;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    // The owning post with this body filled in; only for rows loaded together with their post
+    public BlogPost toPost() {
+        post.loadContent(content);
+        return post;
+    }
+}
@@ -0,0 +1,82 @@
+package com.fintrellis.blogmanager;
+import io.micronaut.core.annotation.Introspected;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.util.Objects;
+// Normalized post -> tag relation, kept in sync with BlogPost.tags
+@Entity
+@Table(name = "post_tags", indexes = {
+        @Index(name = "idx_post_tags_tag", columnList = "tag_id, post_id")
+})
+@Introspected
+public class PostTag {
+    @EmbeddedId
+    private Key id;
+
+    // Constructors
+    public PostTag() {
+    }
+
+    public PostTag(Long postId, Long tagId) {
+        this.id = new Key(postId, tagId);
+    }
+
+    // Getters and Setters
+    public Key getId() {
+        return id;
+    }
+
+    public void setId(Key id) {
+        this.id = id;
+    }
+
+    @Embeddable
+    @Introspected
+    public static class Key implements Serializable {
+        @Column(name = "post_id", nullable = false)
+        private Long postId;
+
+        @Column(name = "tag_id", nullable = false)
+        private Long tagId;
+
+        public Key() {
+        }
+
+        public Key(Long postId, Long tagId) {
+            this.postId = postId;
+            this.tagId = tagId;
+        }
+
+        public Long getPostId() {
+            return postId;
+        }
+
+        public void setPostId(Long postId) {
+            this.postId = postId;
+        }
+
+        public Long getTagId() {
+            return tagId;
+        }
+
+        public void setTagId(Long tagId) {
+            this.tagId = tagId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return Objects.equals(postId, key.postId) && Objects.equals(tagId, key.tagId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(postId, tagId);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.fintrellis.blogmanager;
+import io.micronaut.core.annotation.Introspected;
+import jakarta.persistence.*;
+// Dictionary of normalized tag names, referenced by PostTag
+@Entity
+@Table(name = "tags")
+@Introspected
+public class Tag {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String name;
+
+    // Constructors
+    public Tag() {
+    }
+
+    public Tag(String name) {
+        this.name = name;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
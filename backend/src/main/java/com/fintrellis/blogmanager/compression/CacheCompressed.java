@@ -0,0 +1,18 @@
+package com.fintrellis.blogmanager.compression;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a route whose compressed responses are kept by {@link CompressedBodyCache}, keyed
+ * by request URI and ETag. Only put it on routes that set a strong ETag for every body
+ * they return, since a cached body is served again whenever the ETag repeats.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CacheCompressed {
+}
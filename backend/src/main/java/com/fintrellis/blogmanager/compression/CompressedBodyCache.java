@@ -0,0 +1,117 @@
+package com.fintrellis.blogmanager.compression;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Response bodies that were already serialized and compressed, so a repeat request for the
+ * same representation is answered with the stored bytes. Keys carry the coding, the request
+ * URI and the ETag of the resource version, so a changed post or list simply stops matching
+ * and its old bodies age out. Bounded by the total size of the stored bodies, least recently
+ * used first. The stored arrays are shared between responses and must not be modified.
+ */
+@Singleton
+public class CompressedBodyCache {
+
+    // Rough heap cost of an entry besides its body: map node, key string, array header
+    private static final long ENTRY_OVERHEAD = 128;
+
+    private final long maxWeight;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Guarded by lock
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long savedNanos;
+
+    @Inject
+    public CompressedBodyCache(CompressionConfiguration configuration) {
+        this.maxWeight = configuration.getCacheMaxWeight();
+    }
+
+    static String key(ContentCoding coding, String uri, String etag) {
+        return coding.token() + ' ' + uri + ' ' + etag;
+    }
+
+    // The stored body, or null; a hit counts the work it took to produce the body as saved
+    public byte[] get(String key) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                misses++;
+                return null;
+            }
+            hits++;
+            savedNanos += entry.costNanos;
+            return entry.body;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // costNanos: time spent serializing and compressing the body
+    public void put(String key, byte[] body, long costNanos) {
+        long entryWeight = weigh(key, body);
+        if (entryWeight > maxWeight) {
+            return;
+        }
+        lock.lock();
+        try {
+            Entry previous = entries.put(key, new Entry(body, entryWeight, costNanos));
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            weight += entryWeight;
+            evictToFit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            weight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(hits, misses, evictions, entries.size(), weight, maxWeight, savedNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long weigh(String key, byte[] body) {
+        return ENTRY_OVERHEAD + 2L * key.length() + body.length;
+    }
+
+    private void evictToFit() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (weight > maxWeight && eldest.hasNext()) {
+            weight -= eldest.next().weight;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private record Entry(byte[] body, long weight, long costNanos) {
+    }
+
+    public record Stats(long hits, long misses, long evictions, int size, long weight, long maxWeight, long savedNanos) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.fintrellis.blogmanager.compression;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.convert.format.ReadableBytes;
+
+@ConfigurationProperties("blog.compression")
+public class CompressionConfiguration {
+
+    private int threshold = 1024;
+    private int gzipLevel = 6;
+    private int brotliQuality = 5;
+    private long cacheMaxWeight = 16 * 1024 * 1024;
+
+    // Serialized bodies smaller than this are sent uncompressed
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(@ReadableBytes int threshold) {
+        this.threshold = threshold;
+    }
+
+    // Deflate level 1 (fastest) to 9 (smallest)
+    public int getGzipLevel() {
+        return gzipLevel;
+    }
+
+    public void setGzipLevel(int gzipLevel) {
+        this.gzipLevel = gzipLevel;
+    }
+
+    // Brotli quality 0 (fastest) to 11 (smallest)
+    public int getBrotliQuality() {
+        return brotliQuality;
+    }
+
+    public void setBrotliQuality(int brotliQuality) {
+        this.brotliQuality = brotliQuality;
+    }
+
+    // Budget of the compressed bodies kept for repeat requests, in bytes
+    public long getCacheMaxWeight() {
+        return cacheMaxWeight;
+    }
+
+    public void setCacheMaxWeight(@ReadableBytes long cacheMaxWeight) {
+        this.cacheMaxWeight = cacheMaxWeight;
+    }
+}
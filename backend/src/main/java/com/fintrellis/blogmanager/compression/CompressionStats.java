@@ -0,0 +1,51 @@
+package com.fintrellis.blogmanager.compression;
+
+import jakarta.inject.Singleton;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running totals of the bodies compressed per content coding, read by the compression meters.
+ */
+@Singleton
+public class CompressionStats {
+
+    private final Map<ContentCoding, Counters> counters = new EnumMap<>(ContentCoding.class);
+
+    public CompressionStats() {
+        for (ContentCoding coding : ContentCoding.values()) {
+            counters.put(coding, new Counters());
+        }
+    }
+
+    // One body serialized and compressed from scratch
+    void record(ContentCoding coding, int identityBytes, int encodedBytes, long nanos) {
+        Counters counter = counters.get(coding);
+        counter.bodies.increment();
+        counter.identityBytes.add(identityBytes);
+        counter.encodedBytes.add(encodedBytes);
+        counter.nanos.add(nanos);
+    }
+
+    public Snapshot snapshot(ContentCoding coding) {
+        Counters counter = counters.get(coding);
+        return new Snapshot(counter.bodies.sum(), counter.identityBytes.sum(), counter.encodedBytes.sum(), counter.nanos.sum());
+    }
+
+    private static final class Counters {
+        private final LongAdder bodies = new LongAdder();
+        private final LongAdder identityBytes = new LongAdder();
+        private final LongAdder encodedBytes = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+
+    public record Snapshot(long bodies, long identityBytes, long encodedBytes, long nanos) {
+
+        // Uncompressed size over compressed size, 0 before the first body
+        public double ratio() {
+            return encodedBytes == 0 ? 0 : (double) identityBytes / encodedBytes;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.fintrellis.blogmanager.compression;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The content codings a response body can be compressed with, in order of preference.
+ */
+public enum ContentCoding {
+
+    BROTLI("br") {
+        @Override
+        public boolean isAvailable() {
+            // The native library is missing on unsupported platforms and in the native image
+            return Brotli4jLoader.isAvailable();
+        }
+
+        @Override
+        byte[] encode(byte[] body, CompressionConfiguration configuration) throws IOException {
+            return Encoder.compress(body, new Encoder.Parameters()
+                    .setQuality(configuration.getBrotliQuality())
+                    .setMode(Encoder.Mode.TEXT));
+        }
+    },
+
+    GZIP("gzip") {
+        @Override
+        byte[] encode(byte[] body, CompressionConfiguration configuration) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+                {
+                    def.setLevel(configuration.getGzipLevel());
+                }
+            }) {
+                gzip.write(body);
+            }
+            return out.toByteArray();
+        }
+    };
+
+    private final String token;
+
+    ContentCoding(String token) {
+        this.token = token;
+    }
+
+    // Value of the Content-Encoding header
+    public String token() {
+        return token;
+    }
+
+    public boolean isAvailable() {
+        return true;
+    }
+
+    abstract byte[] encode(byte[] body, CompressionConfiguration configuration) throws IOException;
+
+    // The available coding the client weights highest, brotli on ties; empty when it accepts none
+    public static Optional<ContentCoding> negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return Optional.empty();
+        }
+        ContentCoding best = null;
+        double bestQuality = 0;
+        for (ContentCoding coding : values()) {
+            if (!coding.isAvailable()) {
+                continue;
+            }
+            double quality = quality(acceptEncoding, coding.token);
+            if (quality > bestQuality) {
+                best = coding;
+                bestQuality = quality;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    // q value of the token in an Accept-Encoding header, falling back to "*" and then to 0 (not acceptable)
+    private static double quality(String acceptEncoding, String token) {
+        double wildcard = 0;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parameters = element.split(";");
+            String name = parameters[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < parameters.length; i++) {
+                String parameter = parameters[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equals(token)) {
+                return quality;
+            }
+            if (name.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        return wildcard;
+    }
+}
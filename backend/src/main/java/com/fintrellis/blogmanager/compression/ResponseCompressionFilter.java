@@ -0,0 +1,126 @@
+package com.fintrellis.blogmanager.compression;
+
+import com.fintrellis.blogmanager.service.ReactiveBlogPostService;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Order;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.ResponseFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import io.micronaut.http.filter.ServerFilterPhase;
+import io.micronaut.http.server.types.files.StreamedFile;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.web.router.RouteAttributes;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.util.ReferenceCountUtil;
+import jakarta.inject.Inject;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Compresses JSON responses of the post API with the best coding the client accepts
+ * (brotli, then gzip) once they reach the configured size. The filter serializes the body
+ * itself, or copies it out of an already serialized JSON buffer, so it can store the
+ * compressed bytes: on routes marked {@link CacheCompressed} a repeat request for the
+ * same URI and ETag skips serialization and compression and is answered from
+ * {@link CompressedBodyCache}.
+ * <p>
+ * Responses that leave here with a Content-Encoding are not compressed again by Netty,
+ * which still handles the streamed export and everything outside /api/posts.
+ */
+@ServerFilter("/api/posts/**")
+@Order(ServerFilterPhase.FIRST.after()) // Outermost, so the body is final when it is compressed
+@Requires(property = "blog.compression.enabled", notEquals = "false")
+@Requires(notEnv = ReactiveBlogPostService.ENVIRONMENT)
+public class ResponseCompressionFilter {
+
+    @Inject
+    private CompressionConfiguration configuration;
+
+    @Inject
+    private CompressedBodyCache cache;
+
+    @Inject
+    private CompressionStats stats;
+
+    @Inject
+    private JsonMapper jsonMapper;
+
+    @ResponseFilter
+    public void compress(HttpRequest<?> request, MutableHttpResponse<?> response) {
+        if (request.getMethod() == HttpMethod.HEAD || response.code() < 200 || response.code() >= 300) {
+            return;
+        }
+        Object body = response.getBody().orElse(null);
+        if (body == null || body instanceof StreamedFile || body instanceof byte[] || !isJson(response)) {
+            return;
+        }
+        response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        Optional<ContentCoding> negotiated = ContentCoding.negotiate(request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING));
+        if (negotiated.isEmpty()) {
+            return; // Identity: the body is serialized as usual
+        }
+        ContentCoding coding = negotiated.get();
+
+        String key = cacheKey(request, response, coding);
+        byte[] cached = key == null ? null : cache.get(key);
+        if (cached != null) {
+            encoded(response, coding, cached);
+            return;
+        }
+
+        long start = System.nanoTime();
+        byte[] json;
+        byte[] compressed;
+        try {
+            json = body instanceof ByteBuf serialized ? ByteBufUtil.getBytes(serialized) : jsonMapper.writeValueAsBytes(body);
+            if (json.length < configuration.getThreshold()) {
+                if (!(body instanceof ByteBuf)) {
+                    response.body(json).contentType(MediaType.APPLICATION_JSON_TYPE); // Small enough as is, but keep the serialized bytes
+                }
+                return;
+            }
+            compressed = coding.encode(json, configuration);
+        } catch (IOException e) {
+            return; // Left to the regular body writer, which reports the failure
+        }
+        long nanos = System.nanoTime() - start;
+        stats.record(coding, json.length, compressed.length, nanos);
+        if (key != null) {
+            cache.put(key, compressed, nanos);
+        }
+        encoded(response, coding, compressed);
+    }
+
+    // Replaces the body, releasing it when it was an already serialized buffer
+    private static void encoded(MutableHttpResponse<?> response, ContentCoding coding, byte[] compressed) {
+        response.getBody().ifPresent(ReferenceCountUtil::release);
+        response.body(compressed)
+                .contentType(MediaType.APPLICATION_JSON_TYPE)
+                .header(HttpHeaders.CONTENT_ENCODING, coding.token());
+    }
+
+    // Only versioned representations of marked routes are cached
+    private static String cacheKey(HttpRequest<?> request, MutableHttpResponse<?> response, ContentCoding coding) {
+        if (request.getMethod() != HttpMethod.GET) {
+            return null;
+        }
+        boolean marked = RouteAttributes.getRouteMatch(request)
+                .map(match -> match.hasAnnotation(CacheCompressed.class))
+                .orElse(false);
+        String etag = response.getHeaders().get(HttpHeaders.ETAG);
+        return marked && etag != null ? CompressedBodyCache.key(coding, request.getUri().toString(), etag) : null;
+    }
+
+    // Routes returning entities have no content type yet, they are written as JSON
+    private static boolean isJson(MutableHttpResponse<?> response) {
+        return response.getContentType()
+                .map(type -> MediaType.APPLICATION_JSON_TYPE.getName().equals(type.getName()))
+                .orElse(true);
+    }
+}
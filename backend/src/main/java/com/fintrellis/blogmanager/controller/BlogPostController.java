@@ -1,24 +1,61 @@
 package com.fintrellis.blogmanager.controller;
 
 import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.compression.CacheCompressed;
+import com.fintrellis.blogmanager.dto.AnalyticsSummary;
+import com.fintrellis.blogmanager.dto.BatchOperation;
+import com.fintrellis.blogmanager.dto.BatchResult;
 import com.fintrellis.blogmanager.dto.CreatePostRequest;
+import com.fintrellis.blogmanager.dto.PatchPostRequest;
+import com.fintrellis.blogmanager.dto.PostResponse;
 import com.fintrellis.blogmanager.dto.UpdatePostRequest;
 import com.fintrellis.blogmanager.service.BlogPostService;
+import com.fintrellis.blogmanager.service.ChangeTracker;
+import com.fintrellis.blogmanager.service.CursorPage;
+import com.fintrellis.blogmanager.service.EntityTags;
+import com.fintrellis.blogmanager.service.ExportFormat;
+import com.fintrellis.blogmanager.service.PostExportService;
+import com.fintrellis.blogmanager.service.ReactiveBlogPostService;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.annotation.*;
+import io.micronaut.http.server.types.files.StreamedFile;
+import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.micronaut.validation.Validated;
+import io.netty.buffer.ByteBuf;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 @Controller("/api/posts") // Marks this class as a REST controller with base URL path "/api/posts"
 @Validated // Enables validation for all methods in this controller
+@Requires(notEnv = ReactiveBlogPostService.ENVIRONMENT) // Reactive read nodes serve /api/posts from ReactiveBlogPostController
+@ExecuteOn(BlogPostController.REQUEST_EXECUTOR) // Every route blocks on JDBC, so none of them runs on a Netty event loop thread
 public class BlogPostController {
 
+    static final String REQUEST_EXECUTOR = "requests"; // Executor configured under micronaut.executors.requests, virtual threads by default
+
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor"; // Response header carrying the continuation token of the next page
+
     @Inject // Injects the BlogPostService dependency using dependency injection
     private BlogPostService blogPostService; // Service layer instance to handle business logic
 
+    @Inject // Injects the streaming export service
+    private PostExportService postExportService; // Writes every post without loading them all into memory
+
+    @Inject // Injects the table-level change generation
+    private ChangeTracker changeTracker; // Versions list and search responses for conditional GETs
+
+    @Inject // Injects the off-heap JSON cache of single posts
+    private SerializedPostCache serializedPostCache; // Serves single posts without serializing them per request
+
     // CREATE - Add new blog post
     @Post // Maps HTTP POST requests to this method
     public HttpResponse<BlogPost> createPost(@Valid @Body CreatePostRequest request) { // Validates request body and maps it to CreatePostRequest DTO
@@ -29,30 +66,47 @@ public class BlogPostController {
 
     // READ - Get all posts
     @Get // Maps HTTP GET requests to this method
-    public HttpResponse<List<BlogPost>> getAllPosts() { // Returns a list of all blog posts
-        List<BlogPost> posts = blogPostService.getAllPosts(); // Retrieves all posts from service layer
-        return HttpResponse.ok(posts); // Returns HTTP 200 OK with the posts list
+    public HttpResponse<List<PostResponse>> getAllPosts(@QueryValue @Nullable String cursor, @QueryValue @Nullable Integer limit, // Returns one page of blog posts
+                                                        @QueryValue @Nullable String fields, // "summary" (default, no content) or "full"
+                                                        @Header(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch) { // Tag of the copy the client already has
+        return conditionalPage(ifNoneMatch, () -> blogPostService.getAllPosts(cursor, limit, fields)); // Returns HTTP 200 OK with the posts and the next page cursor, or 304 when unchanged
     }
 
     // READ - Get all published posts (bonus feature)
     @Get("/published") // Maps GET requests to "/api/posts/published"
-    public HttpResponse<List<BlogPost>> getAllPublishedPosts() { // Returns only published posts
-        List<BlogPost> posts = blogPostService.getAllPublishedPosts(); // Gets published posts from service
-        return HttpResponse.ok(posts); // Returns HTTP 200 OK with published posts
+    public HttpResponse<List<PostResponse>> getAllPublishedPosts(@QueryValue @Nullable String cursor, @QueryValue @Nullable Integer limit, // Returns one page of published posts
+                                                                 @QueryValue @Nullable String fields, // "summary" (default, no content) or "full"
+                                                                 @Header(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch) { // Tag of the copy the client already has
+        return conditionalPage(ifNoneMatch, () -> blogPostService.getAllPublishedPosts(cursor, limit, fields)); // Returns HTTP 200 OK with published posts, or 304 when unchanged
+    }
+
+    // READ - Export all posts as one streamed JSON array (default) or as NDJSON, one post per line
+    @Get("/export") // Maps GET requests to "/api/posts/export"
+    @Produces({MediaType.APPLICATION_JSON, "application/x-ndjson"}) // Declares both export body types
+    public HttpResponse<StreamedFile> exportPosts(@QueryValue @Nullable String format) { // Gets "json" or "ndjson"
+        ExportFormat exportFormat = ExportFormat.parse(format); // Validates the requested format
+        StreamedFile body = new StreamedFile(postExportService.openExport(exportFormat), exportFormat.getMediaType()); // Rows are serialized as the body is read
+        return HttpResponse.ok(body); // Returns HTTP 200 OK, streamed with chunked transfer encoding
     }
 
     // READ - Get post by ID
     @Get("/{id}") // Maps GET requests with path variable to "/api/posts/{id}"
-    public HttpResponse<BlogPost> getPostById(@PathVariable Long id) { // Extracts ID from URL path
-        BlogPost post = blogPostService.getPostById(id); // Retrieves specific post by ID
-        return HttpResponse.ok(post); // Returns HTTP 200 OK with the found post
+    @CacheCompressed // Compressed bodies are kept per post ETag, repeat requests skip serialization
+    public HttpResponse<?> getPostById(@PathVariable Long id, // Extracts ID from URL path
+                                       @Header(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch) { // Tag of the copy the client already has
+        BlogPost post = blogPostService.getPostById(id); // Retrieves specific post by ID, from the post cache when possible
+        String etag = EntityTags.strong(post); // Derived from id, updatedAt and view count
+        if (EntityTags.matches(ifNoneMatch, etag)) { // Checks if the client copy is current
+            return HttpResponse.notModified().header(HttpHeaders.ETAG, etag); // Returns HTTP 304 without serializing the post
+        }
+        return postResponse(post).header(HttpHeaders.ETAG, etag).header(HttpHeaders.CACHE_CONTROL, "no-cache"); // Returns HTTP 200 OK with the found post
     }
 
     // READ - Get post by ID with view count increment (bonus feature)
     @Get("/{id}/view") // Maps GET requests to "/api/posts/{id}/view"
-    public HttpResponse<BlogPost> viewPost(@PathVariable Long id) { // Extracts post ID from URL
+    public HttpResponse<?> viewPost(@PathVariable Long id) { // Extracts post ID from URL
         BlogPost post = blogPostService.getPostByIdWithViewCount(id); // Gets post and increments view count
-        return HttpResponse.ok(post); // Returns HTTP 200 OK with the post
+        return postResponse(post); // Returns HTTP 200 OK with the post
     }
 
     // UPDATE - Update existing post
@@ -63,6 +117,13 @@ public class BlogPostController {
         return HttpResponse.ok(updatedPost); // Returns HTTP 200 OK with updated post
     }
 
+    // PATCH - Update only the supplied fields, as one statement checked against the client's version
+    @Patch("/{id}") // Maps HTTP PATCH requests to "/api/posts/{id}"
+    public HttpResponse<BlogPost> patchPost(@PathVariable Long id, @Valid @Body PatchPostRequest request) { // Gets ID from path and validates the partial update
+        BlogPost patchedPost = blogPostService.patchPost(id, request); // Writes the supplied fields via service, 409 if the version is outdated
+        return HttpResponse.ok(patchedPost); // Returns HTTP 200 OK with the post at its new version
+    }
+
     // DELETE - Delete post by ID
     @Delete("/{id}") // Maps HTTP DELETE requests to "/api/posts/{id}"
     public HttpResponse<Void> deletePost(@PathVariable Long id) { // Extracts post ID to delete
@@ -70,41 +131,60 @@ public class BlogPostController {
         return HttpResponse.noContent(); // Returns HTTP 204 No Content (successful deletion)
     }
 
+    // BATCH - Create, update and delete many posts in one request
+    // Invalid items (400) and missing posts (404) are skipped and reported; the rest are written in one transaction
+    @Post("/batch") // Maps HTTP POST requests to "/api/posts/batch"
+    public HttpResponse<List<BatchResult>> applyBatch(@Body List<BatchOperation> operations) { // Gets the operations as a JSON array
+        List<BatchResult> results = blogPostService.applyBatch(operations); // Applies every valid operation via service
+        return HttpResponse.ok(results); // Returns HTTP 200 OK with one result per operation, in request order
+    }
+
     // BONUS FEATURES - Search and Filter APIs
 
     // Search posts by title
     @Get("/search/title") // Maps GET requests to "/api/posts/search/title"
-    public HttpResponse<List<BlogPost>> searchByTitle(@QueryValue String q) { // Gets search query from URL parameter
-        List<BlogPost> posts = blogPostService.searchByTitle(q); // Searches posts by title containing query
-        return HttpResponse.ok(posts); // Returns matching posts
+    public HttpResponse<List<BlogPost>> searchByTitle(@QueryValue String q, @QueryValue @Nullable String cursor, @QueryValue @Nullable Integer limit, // Gets search query from URL parameter
+                                                      @Header(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch) { // Tag of the copy the client already has
+        return conditionalPage(ifNoneMatch, () -> blogPostService.searchByTitle(q, cursor, limit)); // Returns posts with titles matching the query
     }
 
     // Search posts by content
     @Get("/search/content") // Maps GET requests to "/api/posts/search/content"
-    public HttpResponse<List<BlogPost>> searchByContent(@QueryValue String q) { // Gets search query parameter
-        List<BlogPost> posts = blogPostService.searchByContent(q); // Searches posts by content containing query
-        return HttpResponse.ok(posts); // Returns matching posts
+    public HttpResponse<List<BlogPost>> searchByContent(@QueryValue String q, @QueryValue @Nullable String cursor, @QueryValue @Nullable Integer limit, // Gets search query parameter
+                                                        @Header(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch) { // Tag of the copy the client already has
+        return conditionalPage(ifNoneMatch, () -> blogPostService.searchByContent(q, cursor, limit)); // Returns posts with content matching the query
     }
 
     // Search posts by tags
     @Get("/search/tags") // Maps GET requests to "/api/posts/search/tags"
-    public HttpResponse<List<BlogPost>> searchByTags(@QueryValue String q) { // Gets tag search query
-        List<BlogPost> posts = blogPostService.searchByTags(q); // Searches posts by tags containing query
-        return HttpResponse.ok(posts); // Returns posts with matching tags
+    public HttpResponse<List<BlogPost>> searchByTags(@QueryValue String q, @QueryValue @Nullable String match, // Gets comma separated tags and "all" (default) or "any"
+                                                     @QueryValue @Nullable String cursor, @QueryValue @Nullable Integer limit,
+                                                     @Header(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch) { // Tag of the copy the client already has
+        return conditionalPage(ifNoneMatch, () -> blogPostService.searchByTags(q, match, cursor, limit)); // Returns posts with matching tags
+    }
+
+    // Get number of posts per tag
+    @Get("/tags") // Maps GET requests to "/api/posts/tags"
+    public HttpResponse<Map<String, Integer>> getTagCounts() { // Returns tag -> post count, most used first
+        Map<String, Integer> counts = blogPostService.getTagCounts(); // Reads counts from the in-memory tag index
+        return HttpResponse.ok(counts); // Returns HTTP 200 OK with the counts
     }
 
     // Get posts by author
     @Get("/author/{author}") // Maps GET requests to "/api/posts/author/{author}"
-    public HttpResponse<List<BlogPost>> getPostsByAuthor(@PathVariable String author) { // Extracts author name from path
-        List<BlogPost> posts = blogPostService.getPostsByAuthor(author); // Gets all posts by specific author
-        return HttpResponse.ok(posts); // Returns author's posts
+    public HttpResponse<List<PostResponse>> getPostsByAuthor(@PathVariable String author, @QueryValue @Nullable String cursor, @QueryValue @Nullable Integer limit, // Extracts author name from path
+                                                             @QueryValue @Nullable String fields, // "summary" (default, no content) or "full"
+                                                             @Header(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch) { // Tag of the copy the client already has
+        return conditionalPage(ifNoneMatch, () -> blogPostService.getPostsByAuthor(author, cursor, limit, fields)); // Returns author's posts
     }
 
     // Get most popular posts (by view count)
+    // Not conditional: ranks move with unflushed views, which the change generation does not track
     @Get("/popular") // Maps GET requests to "/api/posts/popular"
-    public HttpResponse<List<BlogPost>> getMostPopularPosts() { // Returns posts sorted by popularity
-        List<BlogPost> posts = blogPostService.getMostPopularPosts(); // Gets posts ordered by view count
-        return HttpResponse.ok(posts); // Returns most popular posts
+    public HttpResponse<List<PostResponse>> getMostPopularPosts(@QueryValue @Nullable Integer limit, // Returns the top N posts by views, a single bounded page
+                                                                @QueryValue @Nullable String fields) { // "summary" (default, no content) or "full"
+        CursorPage<PostResponse> page = blogPostService.getMostPopularPosts(limit, fields); // Gets posts ordered by view count
+        return pageResponse(page); // Returns most popular posts
     }
 
     // Toggle publish status
@@ -116,6 +196,12 @@ public class BlogPostController {
 
     // ANALYTICS ENDPOINTS (bonus feature)
 
+    @Get("/analytics/summary") // Maps GET requests to "/api/posts/analytics/summary"
+    public HttpResponse<AnalyticsSummary> getAnalyticsSummary() { // Returns every dashboard metric in one response
+        AnalyticsSummary summary = blogPostService.getAnalyticsSummary(); // Reads the in-memory aggregates, no database query
+        return HttpResponse.ok(summary); // Returns the summary as HTTP 200
+    }
+
     @Get("/analytics/total") // Maps GET requests to "/api/posts/analytics/total"
     public HttpResponse<Long> getTotalPostsCount() { // Returns total count of all posts
         long count = blogPostService.getTotalPostsCount(); // Gets total post count from service
@@ -134,9 +220,34 @@ public class BlogPostController {
         return HttpResponse.ok(count); // Returns author's post count
     }
 
-    // PRIVATE HELPER METHODS
+    // PRIVATE HELPER METHODS (the converters are package-private for ConversionBenchmark)
+
+    private <T> HttpResponse<List<T>> conditionalPage(String ifNoneMatch, Supplier<CursorPage<T>> loader) { // Helper method to answer list requests with 304 when nothing changed
+        String etag = changeTracker.listTag(); // Read before the query, so a concurrent change can only make the tag older than the body
+        if (EntityTags.matches(ifNoneMatch, etag)) { // Checks if the client copy is current
+            return HttpResponse.<List<T>>notModified().header(HttpHeaders.ETAG, etag); // Returns HTTP 304, the query never runs
+        }
+        MutableHttpResponse<List<T>> response = pageResponse(loader.get()); // Runs the query
+        return response.header(HttpHeaders.ETAG, etag).header(HttpHeaders.CACHE_CONTROL, "no-cache"); // Browsers revalidate with If-None-Match instead of reusing blindly
+    }
+
+    private MutableHttpResponse<?> postResponse(BlogPost post) { // Helper method to write a single post from its cached JSON
+        ByteBuf json = serializedPostCache.json(post); // Direct buffers serialized once per post version, only the view count is written per request
+        if (json == null) { // Checks if the post could not be cached
+            return HttpResponse.ok(post); // Falls back to serializing the entity
+        }
+        return HttpResponse.ok(json).contentType(MediaType.APPLICATION_JSON_TYPE); // Netty writes and releases the buffer without a heap copy
+    }
+
+    private <T> MutableHttpResponse<List<T>> pageResponse(CursorPage<T> page) { // Helper method to turn a page into a response
+        MutableHttpResponse<List<T>> response = HttpResponse.ok(page.getItems()); // Body stays a plain JSON array
+        if (page.hasNext()) { // Checks if there is another page
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor()); // Passes the opaque continuation token in a header
+        }
+        return response; // Returns HTTP 200 OK with the page items
+    }
 
-    private BlogPost convertToEntity(CreatePostRequest request) { // Helper method to convert create request to entity
+    BlogPost convertToEntity(CreatePostRequest request) { // Helper method to convert create request to entity
         BlogPost blogPost = new BlogPost(); // Creates new BlogPost instance
         blogPost.setTitle(request.getTitle()); // Sets title from request
         blogPost.setContent(request.getContent()); // Sets content from request
@@ -147,7 +258,7 @@ public class BlogPostController {
         return blogPost; // Returns populated BlogPost entity
     }
 
-    private BlogPost convertToEntity(UpdatePostRequest request) { // Helper method to convert update request to entity
+    BlogPost convertToEntity(UpdatePostRequest request) { // Helper method to convert update request to entity
         BlogPost blogPost = new BlogPost(); // Creates new BlogPost instance
         blogPost.setTitle(request.getTitle()); // Sets title from update request
         blogPost.setContent(request.getContent()); // Sets content from update request
@@ -0,0 +1,30 @@
+package com.fintrellis.blogmanager.controller;
+
+import com.fintrellis.blogmanager.profiling.PinningMonitor;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+import jakarta.inject.Inject;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Exposes virtual thread pinning diagnostics at "/pinning"
+@Endpoint(id = "pinning", defaultSensitive = false)
+@Requires(beans = PinningMonitor.class) // Only present while the pinning monitor is enabled
+public class PinningEndpoint {
+
+    @Inject
+    private PinningMonitor pinningMonitor; // Monitor whose counters are reported
+
+    @Read // Maps GET requests to "/pinning"
+    public Map<String, Object> stats() {
+        PinningMonitor.Snapshot snapshot = pinningMonitor.snapshot(); // Reads the counters once
+        Map<String, Object> body = new LinkedHashMap<>(); // Keeps the field order stable in the JSON output
+        body.put("pinnedEvents", snapshot.pinnedEvents());
+        body.put("totalPinnedMillis", snapshot.totalPinned().toMillis());
+        body.put("thresholdMillis", snapshot.threshold().toMillis());
+        body.put("sites", snapshot.sites()); // Pinning frames, most frequent first
+        return body; // Returns HTTP 200 OK with the diagnostics
+    }
+}
@@ -0,0 +1,32 @@
+package com.fintrellis.blogmanager.controller;
+
+import com.fintrellis.blogmanager.service.PostCache;
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+import jakarta.inject.Inject;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Exposes post cache statistics at "/postcache"
+@Endpoint(id = "postcache", defaultSensitive = false)
+public class PostCacheEndpoint {
+
+    @Inject
+    private PostCache postCache; // Cache whose statistics are reported
+
+    @Read // Maps GET requests to "/postcache"
+    public Map<String, Object> stats() {
+        PostCache.Stats stats = postCache.stats(); // Takes a consistent snapshot of the counters
+        Map<String, Object> body = new LinkedHashMap<>(); // Keeps the field order stable in the JSON output
+        body.put("hits", stats.hits());
+        body.put("misses", stats.misses());
+        body.put("hitRate", stats.hitRate());
+        body.put("evictions", stats.evictions());
+        body.put("expirations", stats.expirations());
+        body.put("size", stats.size());
+        body.put("weight", stats.weight());
+        body.put("maxWeight", stats.maxWeight());
+        return body; // Returns HTTP 200 OK with the statistics
+    }
+}
@@ -0,0 +1,142 @@
+package com.fintrellis.blogmanager.controller;
+
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.dto.AnalyticsSummary;
+import com.fintrellis.blogmanager.dto.PostResponse;
+import com.fintrellis.blogmanager.service.CursorPage;
+import com.fintrellis.blogmanager.service.EntityTags;
+import com.fintrellis.blogmanager.service.ExportFormat;
+import com.fintrellis.blogmanager.service.ReactiveBlogPostService;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.*;
+import jakarta.inject.Inject;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+@Controller("/api/posts") // Same base URL path as BlogPostController, which is disabled on reactive nodes
+@Requires(env = ReactiveBlogPostService.ENVIRONMENT) // Only active on read nodes started with the "reactive" environment
+public class ReactiveBlogPostController { // Read-only REST controller; every route returns a publisher and runs on the event loop
+
+    @Inject // Injects the R2DBC backed read service
+    private ReactiveBlogPostService reactiveBlogPostService; // Service layer instance that never blocks
+
+    // READ - Get all posts
+    @Get // Maps HTTP GET requests to this method
+    public Mono<HttpResponse<List<PostResponse>>> getAllPosts(@QueryValue @Nullable String cursor, @QueryValue @Nullable Integer limit, // Returns one page of blog posts
+                                                              @QueryValue @Nullable String fields) { // "summary" (default, no content) or "full"
+        return reactiveBlogPostService.getAllPosts(cursor, limit, fields).map(this::pageResponse); // Emits the page once its rows have arrived
+    }
+
+    // READ - Get all published posts
+    @Get("/published") // Maps GET requests to "/api/posts/published"
+    public Mono<HttpResponse<List<PostResponse>>> getAllPublishedPosts(@QueryValue @Nullable String cursor, @QueryValue @Nullable Integer limit, // Returns one page of published posts
+                                                                       @QueryValue @Nullable String fields) { // "summary" (default, no content) or "full"
+        return reactiveBlogPostService.getAllPublishedPosts(cursor, limit, fields).map(this::pageResponse); // Emits the page of published posts
+    }
+
+    // READ - Export all posts as one streamed JSON array (default) or as NDJSON, one post per line
+    @Get("/export") // Maps GET requests to "/api/posts/export"
+    @Produces({MediaType.APPLICATION_JSON, "application/x-ndjson"}) // Declares both export body types
+    public HttpResponse<Flux<byte[]>> exportPosts(@QueryValue @Nullable String format) { // Gets "json" or "ndjson"
+        ExportFormat exportFormat = ExportFormat.parse(format); // Validates the requested format
+        return HttpResponse.ok(reactiveBlogPostService.exportPosts(exportFormat)).contentType(exportFormat.getMediaType()); // Chunks are written as the client reads them
+    }
+
+    // READ - Get post by ID
+    @Get("/{id}") // Maps GET requests with path variable to "/api/posts/{id}"
+    public Mono<HttpResponse<BlogPost>> getPostById(@PathVariable Long id, // Extracts ID from URL path
+                                                    @Header(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch) { // Tag of the copy the client already has
+        return reactiveBlogPostService.getPostById(id).map(post -> { // Read from the database, writes happen on other nodes
+            String etag = EntityTags.strong(post); // Derived from id, updatedAt and view count
+            if (EntityTags.matches(ifNoneMatch, etag)) { // Checks if the client copy is current
+                return HttpResponse.<BlogPost>notModified().header(HttpHeaders.ETAG, etag); // Returns HTTP 304 without serializing the post
+            }
+            return HttpResponse.ok(post).header(HttpHeaders.ETAG, etag).header(HttpHeaders.CACHE_CONTROL, "no-cache"); // Returns HTTP 200 OK with the found post
+        });
+    }
+
+    // READ - Get post by ID with view count increment
+    @Get("/{id}/view") // Maps GET requests to "/api/posts/{id}/view"
+    public Mono<BlogPost> viewPost(@PathVariable Long id) { // Extracts post ID from URL
+        return reactiveBlogPostService.getPostByIdWithViewCount(id); // Views are buffered in memory, no write on the request path
+    }
+
+    // Search posts by title
+    @Get("/search/title") // Maps GET requests to "/api/posts/search/title"
+    public Mono<HttpResponse<List<BlogPost>>> searchByTitle(@QueryValue String q, @QueryValue @Nullable String cursor, @QueryValue @Nullable Integer limit) { // Gets search query from URL parameter
+        return reactiveBlogPostService.searchByTitle(q, cursor, limit).map(this::pageResponse); // Emits matching posts
+    }
+
+    // Search posts by content
+    @Get("/search/content") // Maps GET requests to "/api/posts/search/content"
+    public Mono<HttpResponse<List<BlogPost>>> searchByContent(@QueryValue String q, @QueryValue @Nullable String cursor, @QueryValue @Nullable Integer limit) { // Gets search query parameter
+        return reactiveBlogPostService.searchByContent(q, cursor, limit).map(this::pageResponse); // Emits matching posts
+    }
+
+    // Search posts by tags
+    @Get("/search/tags") // Maps GET requests to "/api/posts/search/tags"
+    public Mono<HttpResponse<List<BlogPost>>> searchByTags(@QueryValue String q, @QueryValue @Nullable String match, // Gets comma separated tags and "all" (default) or "any"
+                                                           @QueryValue @Nullable String cursor, @QueryValue @Nullable Integer limit) {
+        return reactiveBlogPostService.searchByTags(q, match, cursor, limit).map(this::pageResponse); // Emits posts with matching tags
+    }
+
+    // Get number of posts per tag
+    @Get("/tags") // Maps GET requests to "/api/posts/tags"
+    public Mono<Map<String, Integer>> getTagCounts() { // Returns tag -> post count, most used first
+        return reactiveBlogPostService.getTagCounts(); // Emits the counts once the grouped query completes
+    }
+
+    // Get posts by author
+    @Get("/author/{author}") // Maps GET requests to "/api/posts/author/{author}"
+    public Mono<HttpResponse<List<PostResponse>>> getPostsByAuthor(@PathVariable String author, @QueryValue @Nullable String cursor, @QueryValue @Nullable Integer limit, // Extracts author name from path
+                                                                   @QueryValue @Nullable String fields) { // "summary" (default, no content) or "full"
+        return reactiveBlogPostService.getPostsByAuthor(author, cursor, limit, fields).map(this::pageResponse); // Emits the author's posts
+    }
+
+    // Get most popular posts (by view count)
+    @Get("/popular") // Maps GET requests to "/api/posts/popular"
+    public Mono<HttpResponse<List<PostResponse>>> getMostPopularPosts(@QueryValue @Nullable Integer limit, // Returns the top N posts by views
+                                                                      @QueryValue @Nullable String fields) { // "summary" (default, no content) or "full"
+        return reactiveBlogPostService.getMostPopularPosts(limit, fields).map(this::pageResponse); // Emits the most popular posts
+    }
+
+    // ANALYTICS ENDPOINTS
+
+    @Get("/analytics/summary") // Maps GET requests to "/api/posts/analytics/summary"
+    public Mono<AnalyticsSummary> getAnalyticsSummary() { // Returns every dashboard metric in one response
+        return reactiveBlogPostService.getAnalyticsSummary(); // Emits the summary once the aggregate queries complete
+    }
+
+    @Get("/analytics/total") // Maps GET requests to "/api/posts/analytics/total"
+    public Mono<Long> getTotalPostsCount() { // Returns total count of all posts
+        return reactiveBlogPostService.getTotalPostsCount(); // Emits the count once the query completes
+    }
+
+    @Get("/analytics/published") // Maps GET requests to "/api/posts/analytics/published"
+    public Mono<Long> getPublishedPostsCount() { // Returns count of published posts only
+        return reactiveBlogPostService.getPublishedPostsCount(); // Emits the published count
+    }
+
+    @Get("/analytics/author/{author}") // Maps GET requests to "/api/posts/analytics/author/{author}"
+    public Mono<Long> getPostsCountByAuthor(@PathVariable String author) { // Gets author from path variable
+        return reactiveBlogPostService.getPostsCountByAuthor(author); // Emits the author's post count
+    }
+
+    // PRIVATE HELPER METHODS
+
+    private <T> HttpResponse<List<T>> pageResponse(CursorPage<T> page) { // Helper method to turn a page into a response
+        MutableHttpResponse<List<T>> response = HttpResponse.ok(page.getItems()); // Body stays a plain JSON array
+        if (page.hasNext()) { // Checks if there is another page
+            response.header(BlogPostController.NEXT_CURSOR_HEADER, page.getNextCursor()); // Same continuation header as the blocking controller
+        }
+        return response; // Returns HTTP 200 OK with the page items
+    }
+}
@@ -0,0 +1,220 @@
+package com.fintrellis.blogmanager.controller;
+
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.event.PostChangedEvent;
+import io.micronaut.json.JsonMapper;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The JSON of single posts, serialized once per post version and kept in direct memory,
+ * so the single post routes write it to the socket without serializing the entity or
+ * copying the bytes onto the heap.
+ * <p>
+ * The view count changes with every flush and, on the view route, with every request, without
+ * a new version. Each entry is therefore stored as the JSON before and after the view count,
+ * and a response is a composite buffer of those two slices around the current count.
+ * Entries are bounded by their total size, least recently used first, and dropped when a
+ * write to the post commits.
+ */
+@Singleton
+public class SerializedPostCache {
+
+    private static final int VIEW_COUNT_SENTINEL = Integer.MIN_VALUE;
+    private static final byte[] VIEW_COUNT_FIELD = ("\"viewCount\":" + VIEW_COUNT_SENTINEL).getBytes(StandardCharsets.US_ASCII);
+    private static final int VIEW_COUNT_PREFIX = "\"viewCount\":".length();
+
+    private final long maxWeight;
+    private final JsonMapper jsonMapper;
+
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Guarded by lock
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    @Inject
+    public SerializedPostCache(SerializedPostCacheConfiguration configuration, JsonMapper jsonMapper) {
+        this.maxWeight = configuration.getMaxWeight();
+        this.jsonMapper = jsonMapper;
+    }
+
+    // Drop a post once a write to it has been committed
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        invalidate(event.getPostId());
+    }
+
+    /**
+     * The post as a JSON buffer owned by the caller, who passes it on as a response body or
+     * releases it. Null when the post cannot be cached, the caller then serializes as usual.
+     */
+    public ByteBuf json(BlogPost post) {
+        Entry entry = retain(post);
+        if (entry == null) {
+            entry = serialize(post);
+            if (entry == null) {
+                return null;
+            }
+            store(post.getId(), entry);
+        }
+        // Every component direct, so the channel writes them as they are instead of copying into one direct buffer
+        ByteBuf viewCount = ByteBufAllocator.DEFAULT.directBuffer(11);
+        viewCount.writeCharSequence(Integer.toString(post.getViewCount()), StandardCharsets.US_ASCII);
+        CompositeByteBuf json = ByteBufAllocator.DEFAULT.compositeDirectBuffer(3);
+        json.addComponents(true, entry.head, viewCount, entry.tail);
+        return json;
+    }
+
+    public void invalidate(Long id) {
+        lock.lock();
+        try {
+            removeEntry(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void clear() {
+        lock.lock();
+        try {
+            entries.values().forEach(Entry::release);
+            entries.clear();
+            weight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(hits, misses, evictions, entries.size(), weight, maxWeight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // A cached entry for this version with both slices retained for the caller, or null on a miss
+    private Entry retain(BlogPost post) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(post.getId());
+            if (entry == null || entry.version != post.getVersion()) {
+                misses++;
+                return null;
+            }
+            hits++;
+            // Retained under the lock, so an eviction cannot free the memory before the response is written
+            return new Entry(entry.version, entry.head.retainedDuplicate(), entry.tail.retainedDuplicate());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Serializes the post with a marker view count and splits the JSON around it, null if the marker is not found
+    private Entry serialize(BlogPost post) {
+        BlogPost marked = post.copy();
+        marked.setViewCount(VIEW_COUNT_SENTINEL);
+        byte[] json;
+        try {
+            json = jsonMapper.writeValueAsBytes(marked);
+        } catch (IOException e) {
+            return null;
+        }
+        int field = indexOf(json, VIEW_COUNT_FIELD);
+        if (field < 0) {
+            return null;
+        }
+        int headLength = field + VIEW_COUNT_PREFIX;
+        int tailStart = field + VIEW_COUNT_FIELD.length;
+        ByteBuf head = Unpooled.directBuffer(headLength).writeBytes(json, 0, headLength);
+        ByteBuf tail = Unpooled.directBuffer(json.length - tailStart).writeBytes(json, tailStart, json.length - tailStart);
+        return new Entry(post.getVersion(), head, tail);
+    }
+
+    // Keeps the entry and hands the caller its own references to the slices
+    private void store(Long id, Entry entry) {
+        long entryWeight = entry.weight();
+        if (entryWeight > maxWeight) {
+            return;
+        }
+        lock.lock();
+        try {
+            removeEntry(id);
+            entries.put(id, new Entry(entry.version, entry.head.retainedDuplicate(), entry.tail.retainedDuplicate()));
+            weight += entryWeight;
+            evictToFit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictToFit() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (weight > maxWeight && eldest.hasNext()) {
+            Entry entry = eldest.next();
+            weight -= entry.weight();
+            entry.release();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private void removeEntry(Long id) {
+        Entry removed = entries.remove(id);
+        if (removed != null) {
+            weight -= removed.weight();
+            removed.release();
+        }
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target) {
+        outer:
+        for (int i = 0; i <= bytes.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (bytes[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private record Entry(long version, ByteBuf head, ByteBuf tail) {
+
+        long weight() {
+            return head.capacity() + tail.capacity();
+        }
+
+        void release() {
+            head.release();
+            tail.release();
+        }
+    }
+
+    public record Stats(long hits, long misses, long evictions, int size, long weight, long maxWeight) {
+
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.fintrellis.blogmanager.controller;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.convert.format.ReadableBytes;
+
+@ConfigurationProperties("blog.cache.post-json")
+public class SerializedPostCacheConfiguration {
+
+    private long maxWeight = 64 * 1024 * 1024;
+
+    // Direct memory budget of the serialized posts, in bytes
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public void setMaxWeight(@ReadableBytes long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+}
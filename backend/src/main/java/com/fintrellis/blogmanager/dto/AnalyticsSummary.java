@@ -0,0 +1,56 @@
+package com.fintrellis.blogmanager.dto; // Package declaration for DTO (Data Transfer Object) classes
+
+import io.micronaut.core.annotation.Introspected; // Import for Micronaut reflection optimization
+import java.time.LocalDateTime; // Import for the reconciliation timestamp
+import java.util.Map; // Import Map for the per-author counts
+
+@Introspected // Enables compile-time introspection for better performance in Micronaut
+public class AnalyticsSummary { // DTO carrying every dashboard metric in one response
+
+    private final long totalPosts; // Number of posts, published or not
+    private final long publishedPosts; // Number of published posts
+    private final long draftPosts; // Number of unpublished posts
+    private final long totalViews; // Views over all posts, including views not yet flushed to the database
+    private final double averageViews; // Total views divided by total posts
+    private final Map<String, Long> postsByAuthor; // Posts per author, most prolific first
+    private final LocalDateTime reconciledAt; // When the figures were last checked against the database
+
+    public AnalyticsSummary(long totalPosts, long publishedPosts, long totalViews, // Constructor deriving drafts and average views
+                            Map<String, Long> postsByAuthor, LocalDateTime reconciledAt) {
+        this.totalPosts = totalPosts; // Sets the total post count
+        this.publishedPosts = publishedPosts; // Sets the published post count
+        this.draftPosts = totalPosts - publishedPosts; // Every post that is not published is a draft
+        this.totalViews = totalViews; // Sets the total view count
+        this.averageViews = totalPosts == 0 ? 0 : (double) totalViews / totalPosts; // Avoids dividing by zero on an empty blog
+        this.postsByAuthor = postsByAuthor; // Sets the per-author counts
+        this.reconciledAt = reconciledAt; // Sets the reconciliation timestamp
+    }
+
+    public long getTotalPosts() { // Getter method for totalPosts field
+        return totalPosts; // Returns the total post count
+    }
+
+    public long getPublishedPosts() { // Getter method for publishedPosts field
+        return publishedPosts; // Returns the published post count
+    }
+
+    public long getDraftPosts() { // Getter method for draftPosts field
+        return draftPosts; // Returns the draft post count
+    }
+
+    public long getTotalViews() { // Getter method for totalViews field
+        return totalViews; // Returns the total view count
+    }
+
+    public double getAverageViews() { // Getter method for averageViews field
+        return averageViews; // Returns the average views per post
+    }
+
+    public Map<String, Long> getPostsByAuthor() { // Getter method for postsByAuthor field
+        return postsByAuthor; // Returns the per-author counts
+    }
+
+    public LocalDateTime getReconciledAt() { // Getter method for reconciledAt field
+        return reconciledAt; // Returns when the figures were last reconciled
+    }
+}
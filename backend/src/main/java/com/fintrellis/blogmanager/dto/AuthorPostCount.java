@@ -0,0 +1,33 @@
+package com.fintrellis.blogmanager.dto; // Package declaration for DTO (Data Transfer Object) classes
+
+import io.micronaut.core.annotation.Introspected; // Import for Micronaut reflection optimization
+
+@Introspected // Enables compile-time introspection, required for query projections
+public class AuthorPostCount { // Projection of one row of the posts-per-author aggregate query
+
+    private String author; // Field to store the author name
+    private long posts; // Field to store how many posts the author has written
+
+    public AuthorPostCount() {} // Default no-argument constructor used by the projection
+
+    public AuthorPostCount(String author, long posts) { // Parameterized constructor with all fields
+        this.author = author; // Sets the author name
+        this.posts = posts; // Sets the post count
+    }
+
+    public String getAuthor() { // Getter method for author field
+        return author; // Returns the author name
+    }
+
+    public void setAuthor(String author) { // Setter method for author field
+        this.author = author; // Sets the author name
+    }
+
+    public long getPosts() { // Getter method for posts field
+        return posts; // Returns the post count
+    }
+
+    public void setPosts(long posts) { // Setter method for posts field
+        this.posts = posts; // Sets the post count
+    }
+}
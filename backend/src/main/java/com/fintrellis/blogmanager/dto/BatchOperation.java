@@ -0,0 +1,45 @@
+package com.fintrellis.blogmanager.dto; // Package declaration for DTO (Data Transfer Object) classes
+
+import io.micronaut.core.annotation.Introspected; // Import for Micronaut reflection optimization
+
+@Introspected // Enables compile-time introspection for better performance in Micronaut
+public class BatchOperation { // DTO class for one item of a batch request
+
+    private String op; // Field to store the operation: "create", "update" or "delete"
+    private Long id; // Field to store the target post ID (update and delete only)
+    private UpdatePostRequest post; // Field to store the post fields (create: title and content required, update: changed fields only)
+
+    // Constructors
+    public BatchOperation() {} // Default no-argument constructor required for serialization/deserialization
+
+    public BatchOperation(String op, Long id, UpdatePostRequest post) { // Parameterized constructor with all fields
+        this.op = op; // Sets the operation
+        this.id = id; // Sets the target post ID
+        this.post = post; // Sets the post fields
+    }
+
+    // Getters and Setters
+    public String getOp() { // Getter method for op field
+        return op; // Returns the operation
+    }
+
+    public void setOp(String op) { // Setter method for op field
+        this.op = op; // Sets the operation
+    }
+
+    public Long getId() { // Getter method for id field
+        return id; // Returns the target post ID
+    }
+
+    public void setId(Long id) { // Setter method for id field
+        this.id = id; // Sets the target post ID
+    }
+
+    public UpdatePostRequest getPost() { // Getter method for post field
+        return post; // Returns the post fields
+    }
+
+    public void setPost(UpdatePostRequest post) { // Setter method for post field
+        this.post = post; // Sets the post fields
+    }
+}
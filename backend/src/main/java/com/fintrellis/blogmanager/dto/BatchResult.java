@@ -0,0 +1,43 @@
+package com.fintrellis.blogmanager.dto; // Package declaration for DTO (Data Transfer Object) classes
+
+import com.fasterxml.jackson.annotation.JsonInclude; // Import to leave out the error of successful items
+import io.micronaut.core.annotation.Introspected; // Import for Micronaut reflection optimization
+
+@Introspected // Enables compile-time introspection for better performance in Micronaut
+@JsonInclude(JsonInclude.Include.NON_NULL) // Omits id for failed creates and error for successful items
+public class BatchResult { // DTO class for the outcome of one batch item, returned in request order
+
+    private final int index; // Position of the item in the request array
+    private final String op; // Operation that was requested
+    private final Long id; // ID of the created, updated or deleted post
+    private final int status; // HTTP-style status of the item: 201, 200, 204, 400 or 404
+    private final String error; // Reason the item was rejected, null on success
+
+    public BatchResult(int index, String op, Long id, int status, String error) { // Parameterized constructor with all fields
+        this.index = index; // Sets the item position
+        this.op = op; // Sets the operation
+        this.id = id; // Sets the post ID
+        this.status = status; // Sets the item status
+        this.error = error; // Sets the rejection reason
+    }
+
+    public int getIndex() { // Getter method for index field
+        return index; // Returns the item position
+    }
+
+    public String getOp() { // Getter method for op field
+        return op; // Returns the operation
+    }
+
+    public Long getId() { // Getter method for id field
+        return id; // Returns the post ID
+    }
+
+    public int getStatus() { // Getter method for status field
+        return status; // Returns the item status
+    }
+
+    public String getError() { // Getter method for error field
+        return error; // Returns the rejection reason
+    }
+}
@@ -0,0 +1,94 @@
+package com.fintrellis.blogmanager.dto; // Package declaration for DTO (Data Transfer Object) classes
+
+import io.micronaut.core.annotation.Introspected; // Import for Micronaut reflection optimization
+import jakarta.validation.constraints.NotNull; // Import for validation - field must be present
+import jakarta.validation.constraints.Size; // Import for validation - restricts field size/length
+
+@Introspected // Enables compile-time introspection for better performance in Micronaut
+public class PatchPostRequest { // DTO class for PATCH requests: only non-null fields are written
+
+    @NotNull(message = "Version is required") // Validation: the client must say which version its change is based on
+    private Long version; // Field to store the version the client last read (optimistic lock)
+
+    @Size(max = 200, message = "Title must be less than 200 characters") // Validation: title length cannot exceed 200 characters
+    private String title; // Field to store the new title, or null to keep it
+
+    @Size(max = 10000, message = "Content must be less than 10000 characters") // Validation: content length cannot exceed 10000 characters
+    private String content; // Field to store the new content, or null to keep it
+
+    @Size(max = 500, message = "Summary must be less than 500 characters") // Validation: summary length cannot exceed 500 characters
+    private String summary; // Field to store the new summary, or null to keep it
+
+    private String author; // Field to store the new author, or null to keep it
+    private String tags; // Field to store the new tags, or null to keep them
+    private Boolean published; // Field to store the new published status, or null to keep it
+
+    // Constructors
+    public PatchPostRequest() {} // Default no-argument constructor required for serialization/deserialization
+
+    public PatchPostRequest(Long version) { // Constructor for a patch based on the given version
+        this.version = version; // Sets the expected version
+    }
+
+    // True when the request changes no field at all
+    public boolean isEmpty() { // Helper used by the service to reject no-op patches
+        return title == null && content == null && summary == null && author == null && tags == null && published == null; // Every field absent
+    }
+
+    // Getters and Setters
+    public Long getVersion() { // Getter method for version field
+        return version; // Returns the expected version
+    }
+
+    public void setVersion(Long version) { // Setter method for version field
+        this.version = version; // Sets the expected version
+    }
+
+    public String getTitle() { // Getter method for title field
+        return title; // Returns the new title (can be null)
+    }
+
+    public void setTitle(String title) { // Setter method for title field
+        this.title = title; // Sets the new title
+    }
+
+    public String getContent() { // Getter method for content field
+        return content; // Returns the new content (can be null)
+    }
+
+    public void setContent(String content) { // Setter method for content field
+        this.content = content; // Sets the new content
+    }
+
+    public String getSummary() { // Getter method for summary field
+        return summary; // Returns the new summary (can be null)
+    }
+
+    public void setSummary(String summary) { // Setter method for summary field
+        this.summary = summary; // Sets the new summary
+    }
+
+    public String getAuthor() { // Getter method for author field
+        return author; // Returns the new author (can be null)
+    }
+
+    public void setAuthor(String author) { // Setter method for author field
+        this.author = author; // Sets the new author
+    }
+
+    public String getTags() { // Getter method for tags field
+        return tags; // Returns the new tags (can be null)
+    }
+
+    public void setTags(String tags) { // Setter method for tags field
+        this.tags = tags; // Sets the new tags
+    }
+
+    public Boolean getPublished() { // Getter method for published field
+        return published; // Returns the new published status (can be null)
+    }
+
+    public void setPublished(Boolean published) { // Setter method for published field
+        this.published = published; // Sets the new published status
+    }
+}
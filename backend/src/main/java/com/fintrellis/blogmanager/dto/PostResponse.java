@@ -1,5 +1,7 @@
 package com.fintrellis.blogmanager.dto; // Package declaration for DTO (Data Transfer Object) classes
 
+import com.fasterxml.jackson.annotation.JsonInclude; // Import to leave out fields that were not loaded
+import com.fintrellis.blogmanager.BlogPost; // Import the BlogPost entity class
 import io.micronaut.core.annotation.Introspected; // Import for Micronaut reflection optimization
 import java.time.LocalDateTime; // Import for handling date and time without timezone
 
@@ -8,6 +10,7 @@ public class PostResponse { // DTO class for sending blog post data back to clie
 
     private Long id; // Field to store unique identifier of the blog post
     private String title; // Field to store blog post title
+    @JsonInclude(JsonInclude.Include.NON_NULL) // Omitted from JSON in list views, where content is not selected
     private String content; // Field to store blog post content/body
     private String summary; // Field to store optional blog post summary
     private String author; // Field to store author name
@@ -16,13 +19,14 @@ public class PostResponse { // DTO class for sending blog post data back to clie
     private LocalDateTime updatedAt; // Field to store when the post was last updated
     private boolean published; // Field to store whether the post is published or draft
     private int viewCount; // Field to store number of times the post has been viewed
+    private long version; // Field to store the version a PATCH must send back
 
     // Constructors
     public PostResponse() {} // Default no-argument constructor required for serialization/deserialization
 
     public PostResponse(Long id, String title, String content, String summary, // Parameterized constructor with all fields
                         String author, String tags, LocalDateTime createdAt,
-                        LocalDateTime updatedAt, boolean published, int viewCount) {
+                        LocalDateTime updatedAt, boolean published, int viewCount, long version) {
         this.id = id; // Sets the post ID
         this.title = title; // Sets the post title
         this.content = content; // Sets the post content
@@ -33,6 +37,19 @@ public class PostResponse { // DTO class for sending blog post data back to clie
         this.updatedAt = updatedAt; // Sets the last update timestamp
         this.published = published; // Sets the published status
         this.viewCount = viewCount; // Sets the view count
+        this.version = version; // Sets the version
+    }
+
+    public static PostResponse from(BlogPost post) { // Factory method copying every field of an entity, content included
+        return new PostResponse(post.getId(), post.getTitle(), post.getContent(), post.getSummary(), // Copies identity and text fields
+                post.getAuthor(), post.getTags(), post.getCreatedAt(), // Copies author, tags and creation time
+                post.getUpdatedAt(), post.isPublished(), post.getViewCount(), post.getVersion()); // Copies update time, status, views and version
+    }
+
+    public static PostResponse summaryOf(BlogPost post) { // Factory method copying every field except the content
+        PostResponse summary = from(post); // Copies all fields
+        summary.setContent(null); // Drops the body, as the list projections do
+        return summary; // Returns the content-free copy
     }
 
     // Getters and Setters
@@ -115,4 +132,12 @@ public class PostResponse { // DTO class for sending blog post data back to clie
     public void setViewCount(int viewCount) { // Setter method for viewCount field
         this.viewCount = viewCount; // Sets the number of views
     }
+
+    public long getVersion() { // Getter method for version field
+        return version; // Returns the version of the post
+    }
+
+    public void setVersion(long version) { // Setter method for version field
+        this.version = version; // Sets the version of the post
+    }
 }
@@ -0,0 +1,33 @@
+package com.fintrellis.blogmanager.dto; // Package declaration for DTO (Data Transfer Object) classes
+
+import io.micronaut.core.annotation.Introspected; // Import for Micronaut reflection optimization
+
+@Introspected // Enables compile-time introspection, required for query projections
+public class TagPostCount { // Projection of one row of the posts-per-tag aggregate query
+
+    private String name; // Field to store the tag name
+    private long posts; // Field to store how many posts carry the tag
+
+    public TagPostCount() {} // Default no-argument constructor used by the projection
+
+    public TagPostCount(String name, long posts) { // Parameterized constructor with all fields
+        this.name = name; // Sets the tag name
+        this.posts = posts; // Sets the post count
+    }
+
+    public String getName() { // Getter method for name field
+        return name; // Returns the tag name
+    }
+
+    public void setName(String name) { // Setter method for name field
+        this.name = name; // Sets the tag name
+    }
+
+    public long getPosts() { // Getter method for posts field
+        return posts; // Returns the post count
+    }
+
+    public void setPosts(long posts) { // Setter method for posts field
+        this.posts = posts; // Sets the post count
+    }
+}
@@ -0,0 +1,63 @@
+package com.fintrellis.blogmanager.event;
+
+import com.fintrellis.blogmanager.BlogPost;
+
+/**
+ * Published by the service layer whenever a post is written. Listeners that
+ * keep derived in-memory state (indexes, caches, aggregates) subscribe to it.
+ */
+public class PostChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        PUBLISH_TOGGLED
+    }
+
+    private final Type type;
+    private final Long postId;
+    private final BlogPost post;
+    private final BlogPost previous;
+
+    private PostChangedEvent(Type type, Long postId, BlogPost post, BlogPost previous) {
+        this.type = type;
+        this.postId = postId;
+        this.post = post;
+        this.previous = previous;
+    }
+
+    public static PostChangedEvent created(BlogPost post) {
+        return new PostChangedEvent(Type.CREATED, post.getId(), post, null);
+    }
+
+    public static PostChangedEvent updated(BlogPost previous, BlogPost post) {
+        return new PostChangedEvent(Type.UPDATED, post.getId(), post, previous);
+    }
+
+    public static PostChangedEvent publishToggled(BlogPost previous, BlogPost post) {
+        return new PostChangedEvent(Type.PUBLISH_TOGGLED, post.getId(), post, previous);
+    }
+
+    public static PostChangedEvent deleted(BlogPost previous) {
+        return new PostChangedEvent(Type.DELETED, previous.getId(), null, previous);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    // The post as written, or null for deletions
+    public BlogPost getPost() {
+        return post;
+    }
+
+    // A copy of the post before the write, or null for creations
+    public BlogPost getPrevious() {
+        return previous;
+    }
+}
@@ -0,0 +1,8 @@
+package com.fintrellis.blogmanager.exception; // Package declaration for custom exception classes
+
+public class ConflictException extends RuntimeException { // Custom exception thrown when a write is based on an outdated version of a post
+
+    public ConflictException(Long id, long version) { // Constructor that takes the post ID and the version the client based its change on
+        super("Blog post " + id + " was modified since version " + version + ", reload it and try again"); // Tells the client to re-read before retrying
+    }
+}
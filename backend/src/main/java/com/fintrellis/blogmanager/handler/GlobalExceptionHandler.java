@@ -2,6 +2,7 @@ package com.fintrellis.blogmanager.handler; // Package declaration for exception
 
 import com.fintrellis.blogmanager.dto.ErrorResponse; // Import custom ErrorResponse DTO
 import com.fintrellis.blogmanager.exception.BlogPostNotFoundException; // Import custom BlogPostNotFoundException
+import com.fintrellis.blogmanager.exception.ConflictException; // Import custom ConflictException
 import com.fintrellis.blogmanager.exception.ValidationException; // Import custom ValidationException
 import io.micronaut.context.annotation.Requires; // Import for conditional bean creation
 import io.micronaut.http.HttpRequest; // Import for HTTP request handling
@@ -34,6 +35,14 @@ public class GlobalExceptionHandler implements ExceptionHandler<Exception, HttpR
             errorResponse.setError("Validation Error"); // Sets error type description
             return HttpResponse.badRequest(errorResponse); // Returns HTTP 400 Bad Request response with error details
 
+        } else if (exception instanceof ConflictException // Checks if a versioned PATCH matched an outdated version
+                || exception instanceof jakarta.persistence.OptimisticLockException // Or Hibernate detected a concurrent update through @Version
+                || exception instanceof org.hibernate.StaleStateException) { // Same, when raised without the JPA wrapper
+            errorResponse.setMessage(exception instanceof ConflictException ? exception.getMessage() : "The post was modified concurrently, reload it and try again"); // Sets the conflict message
+            errorResponse.setStatus(HttpStatus.CONFLICT.getCode()); // Sets HTTP status code to 409
+            errorResponse.setError("Conflict"); // Sets error type description
+            return HttpResponse.status(HttpStatus.CONFLICT).body(errorResponse); // Returns HTTP 409 Conflict response with error details
+
         } else if (exception instanceof jakarta.validation.ConstraintViolationException) { // Checks if exception is Jakarta validation constraint violation
             errorResponse.setMessage("Validation failed: " + exception.getMessage()); // Sets message with validation failure prefix
             errorResponse.setStatus(HttpStatus.BAD_REQUEST.getCode()); // Sets HTTP status code to 400
@@ -0,0 +1,87 @@
+package com.fintrellis.blogmanager.metrics;
+
+import com.fintrellis.blogmanager.compression.CompressedBodyCache;
+import com.fintrellis.blogmanager.compression.CompressionStats;
+import com.fintrellis.blogmanager.compression.ContentCoding;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes response compression per coding (bodies, bytes before and after, time spent and
+ * the resulting ratio) and the compressed body cache, including the compression time its
+ * hits saved.
+ */
+@Singleton
+@Requires(property = "blog.compression.enabled", notEquals = "false")
+public class CompressionMetrics implements MeterBinder {
+
+    private static final String CACHE = "compressed-bodies";
+
+    @Inject
+    private CompressionStats compressionStats;
+
+    @Inject
+    private CompressedBodyCache compressedBodyCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ContentCoding coding : ContentCoding.values()) {
+            String token = coding.token();
+            FunctionCounter.builder("blog.compression.bodies", compressionStats, stats -> stats.snapshot(coding).bodies())
+                    .tag("coding", token)
+                    .description("Response bodies compressed, excluding those served from the cache")
+                    .register(registry);
+            FunctionCounter.builder("blog.compression.bytes", compressionStats, stats -> stats.snapshot(coding).identityBytes())
+                    .tag("coding", token).tag("stage", "identity")
+                    .baseUnit("bytes")
+                    .register(registry);
+            FunctionCounter.builder("blog.compression.bytes", compressionStats, stats -> stats.snapshot(coding).encodedBytes())
+                    .tag("coding", token).tag("stage", "encoded")
+                    .baseUnit("bytes")
+                    .register(registry);
+            FunctionCounter.builder("blog.compression.time", compressionStats, stats -> stats.snapshot(coding).nanos() / 1e9)
+                    .tag("coding", token)
+                    .description("Time spent serializing and compressing response bodies")
+                    .baseUnit("seconds")
+                    .register(registry);
+            Gauge.builder("blog.compression.ratio", compressionStats, stats -> stats.snapshot(coding).ratio())
+                    .tag("coding", token)
+                    .description("Uncompressed over compressed size of all bodies compressed so far")
+                    .register(registry);
+        }
+
+        FunctionCounter.builder("blog.compression.saved", compressedBodyCache, cache -> cache.stats().savedNanos() / 1e9)
+                .description("Serialization and compression time avoided by serving cached bodies")
+                .baseUnit("seconds")
+                .register(registry);
+        cacheCounter(registry, "cache.gets", "hit", CompressedBodyCache.Stats::hits);
+        cacheCounter(registry, "cache.gets", "miss", CompressedBodyCache.Stats::misses);
+        cacheCounter(registry, "cache.evictions", null, CompressedBodyCache.Stats::evictions);
+        Gauge.builder("cache.size", compressedBodyCache, cache -> cache.stats().size())
+                .tag("cache", CACHE)
+                .description("Compressed bodies currently cached")
+                .register(registry);
+        Gauge.builder("cache.weight", compressedBodyCache, cache -> cache.stats().weight())
+                .tag("cache", CACHE)
+                .description("Approximate heap held by cached compressed bodies")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private void cacheCounter(MeterRegistry registry, String name, String result, ToDoubleFunction<CompressedBodyCache.Stats> count) {
+        FunctionCounter.Builder<CompressedBodyCache> builder = FunctionCounter
+                .builder(name, compressedBodyCache, cache -> count.applyAsDouble(cache.stats()))
+                .tag("cache", CACHE);
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        builder.register(registry);
+    }
+}
@@ -0,0 +1,55 @@
+package com.fintrellis.blogmanager.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes Hibernate's session factory statistics (statements, queries, entity loads,
+ * flushes) as meters. The counters are read from {@link Statistics} when the registry is
+ * scraped, so nothing is added to the request path beyond Hibernate's own bookkeeping,
+ * which needs {@code hibernate.generate_statistics=true}.
+ */
+@Singleton
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    @Inject
+    private EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+        counter(registry, statistics, "hibernate.statements", "JDBC statements prepared", Statistics::getPrepareStatementCount);
+        counter(registry, statistics, "hibernate.query.executions", "HQL and native queries executed", Statistics::getQueryExecutionCount);
+        counter(registry, statistics, "hibernate.entities.loads", "Entities loaded from the database", Statistics::getEntityLoadCount);
+        counter(registry, statistics, "hibernate.entities.fetches", "Entities fetched lazily", Statistics::getEntityFetchCount);
+        counter(registry, statistics, "hibernate.entities.inserts", "Entities inserted", Statistics::getEntityInsertCount);
+        counter(registry, statistics, "hibernate.entities.updates", "Entities updated", Statistics::getEntityUpdateCount);
+        counter(registry, statistics, "hibernate.entities.deletes", "Entities deleted", Statistics::getEntityDeleteCount);
+        counter(registry, statistics, "hibernate.flushes", "Session flushes", Statistics::getFlushCount);
+        counter(registry, statistics, "hibernate.transactions", "Transactions completed", Statistics::getTransactionCount);
+        counter(registry, statistics, "hibernate.optimistic.failures", "Optimistic lock failures", Statistics::getOptimisticFailureCount);
+        Gauge.builder("hibernate.query.executions.max", statistics, Statistics::getQueryExecutionMaxTime)
+                .description("Slowest query execution since startup")
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, Statistics statistics, String name, String description,
+                                ToDoubleFunction<Statistics> count) {
+        FunctionCounter.builder(name, statistics, count)
+                .description(description)
+                .register(registry);
+    }
+}
@@ -0,0 +1,51 @@
+package com.fintrellis.blogmanager.metrics;
+
+import com.fintrellis.blogmanager.service.PostCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the {@link PostCache} counters as meters, using the same names and
+ * {@code result} tag as Micrometer's own cache binders so the usual dashboards apply.
+ */
+@Singleton
+public class PostCacheMetrics implements MeterBinder {
+
+    private static final String CACHE = "posts";
+
+    @Inject
+    private PostCache postCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "cache.gets", "hit", PostCache.Stats::hits);
+        counter(registry, "cache.gets", "miss", PostCache.Stats::misses);
+        counter(registry, "cache.evictions", null, PostCache.Stats::evictions);
+        counter(registry, "cache.expirations", null, PostCache.Stats::expirations);
+        Gauge.builder("cache.size", postCache, cache -> cache.stats().size())
+                .tag("cache", CACHE)
+                .description("Posts currently cached")
+                .register(registry);
+        Gauge.builder("cache.weight", postCache, cache -> cache.stats().weight())
+                .tag("cache", CACHE)
+                .description("Approximate heap held by cached posts")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, String name, String result, ToDoubleFunction<PostCache.Stats> count) {
+        FunctionCounter.Builder<PostCache> builder = FunctionCounter
+                .builder(name, postCache, cache -> count.applyAsDouble(cache.stats()))
+                .tag("cache", CACHE);
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        builder.register(registry);
+    }
+}
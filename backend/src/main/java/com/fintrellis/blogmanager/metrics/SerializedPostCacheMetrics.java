@@ -0,0 +1,50 @@
+package com.fintrellis.blogmanager.metrics;
+
+import com.fintrellis.blogmanager.controller.SerializedPostCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the {@link SerializedPostCache} counters under the same cache meter names as
+ * {@link PostCacheMetrics}. Its weight is direct memory, next to Netty's own in jvm.buffer.*.
+ */
+@Singleton
+public class SerializedPostCacheMetrics implements MeterBinder {
+
+    private static final String CACHE = "post-json";
+
+    @Inject
+    private SerializedPostCache serializedPostCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "cache.gets", "hit", SerializedPostCache.Stats::hits);
+        counter(registry, "cache.gets", "miss", SerializedPostCache.Stats::misses);
+        counter(registry, "cache.evictions", null, SerializedPostCache.Stats::evictions);
+        Gauge.builder("cache.size", serializedPostCache, cache -> cache.stats().size())
+                .tag("cache", CACHE)
+                .description("Serialized posts currently cached")
+                .register(registry);
+        Gauge.builder("cache.weight", serializedPostCache, cache -> cache.stats().weight())
+                .tag("cache", CACHE)
+                .description("Direct memory held by serialized posts")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, String name, String result, ToDoubleFunction<SerializedPostCache.Stats> count) {
+        FunctionCounter.Builder<SerializedPostCache> builder = FunctionCounter
+                .builder(name, serializedPostCache, cache -> count.applyAsDouble(cache.stats()))
+                .tag("cache", CACHE);
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        builder.register(registry);
+    }
+}
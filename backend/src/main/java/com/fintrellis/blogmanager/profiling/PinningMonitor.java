@@ -0,0 +1,95 @@
+package com.fintrellis.blogmanager.profiling;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts virtual threads that block while pinned to their carrier thread (for example inside
+ * a {@code synchronized} block or a native frame), grouped by the application frame that pinned.
+ * Fed by the JDK's own {@code jdk.VirtualThreadPinned} event through a JFR recording stream.
+ */
+@Singleton
+@Requires(property = "blog.virtual-threads.pinning-monitor.enabled", value = "true")
+public class PinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.fintrellis.";
+    private static final int MAX_SITES = 50;
+
+    private final Duration threshold;
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final Map<String, LongAdder> sites = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public PinningMonitor(@Value("${blog.virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public Snapshot snapshot() {
+        Map<String, Long> topSites = new LinkedHashMap<>();
+        sites.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .forEach(entry -> topSites.put(entry.getKey(), entry.getValue().sum()));
+        return new Snapshot(pinnedEvents.sum(), Duration.ofNanos(pinnedNanos.sum()), threshold, topSites);
+    }
+
+    private void record(RecordedEvent event) {
+        pinnedEvents.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+        String site = site(event.getStackTrace());
+        // Bounded, so a pathological number of distinct sites cannot grow the map
+        if (sites.size() < MAX_SITES || sites.containsKey(site)) {
+            sites.computeIfAbsent(site, s -> new LongAdder()).increment();
+        }
+    }
+
+    // The innermost application frame, or the top frame when the pin happened entirely in library code
+    private static String site(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        RecordedFrame site = frames.get(0);
+        for (RecordedFrame frame : frames) {
+            if (frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                site = frame;
+                break;
+            }
+        }
+        return site.getMethod().getType().getName() + "." + site.getMethod().getName() + ":" + site.getLineNumber();
+    }
+
+    public record Snapshot(long pinnedEvents, Duration totalPinned, Duration threshold, Map<String, Long> sites) {
+    }
+}
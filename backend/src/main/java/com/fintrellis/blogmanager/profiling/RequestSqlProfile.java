@@ -0,0 +1,94 @@
+package com.fintrellis.blogmanager.profiling;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SQL executed on behalf of one HTTP request: statement count, time spent in the
+ * database, the slowest statements and how often each distinct statement ran.
+ * A JDBC batch counts as one statement, since it is one round trip.
+ */
+public class RequestSqlProfile {
+
+    private final int slowestCapacity;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Guarded by lock
+    private int statements;
+    private long totalNanos;
+    private final List<Statement> slowest = new ArrayList<>();
+    private final Map<String, Integer> executions = new HashMap<>();
+
+    public RequestSqlProfile(int slowestCapacity) {
+        this.slowestCapacity = slowestCapacity;
+    }
+
+    public void record(String sql, long nanos) {
+        lock.lock();
+        try {
+            statements++;
+            totalNanos += nanos;
+            executions.merge(sql, 1, Integer::sum);
+            if (slowestCapacity > 0 && (slowest.size() < slowestCapacity || nanos > slowest.get(slowest.size() - 1).nanos())) {
+                if (slowest.size() == slowestCapacity) {
+                    slowest.remove(slowest.size() - 1);
+                }
+                slowest.add(new Statement(sql, nanos));
+                slowest.sort(Comparator.comparingLong(Statement::nanos).reversed());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int statements() {
+        lock.lock();
+        try {
+            return statements;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long totalNanos() {
+        lock.lock();
+        try {
+            return totalNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Slowest first
+    public List<Statement> slowest() {
+        lock.lock();
+        try {
+            return List.copyOf(slowest);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Statements executed at least threshold times, most executed first
+    public Map<String, Integer> repeated(int threshold) {
+        lock.lock();
+        try {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            executions.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+            return repeated;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public record Statement(String sql, long nanos) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.fintrellis.blogmanager.profiling;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("blog.sql-profiler")
+public class SqlProfilerConfiguration {
+
+    private int logStatements = 25;
+    private Duration logTime = Duration.ofMillis(200);
+    private int repeatedStatements = 5;
+    private int slowestStatements = 3;
+    private int statementBudget;
+
+    // A request running more statements than this is logged
+    public int getLogStatements() {
+        return logStatements;
+    }
+
+    public void setLogStatements(int logStatements) {
+        this.logStatements = logStatements;
+    }
+
+    // A request spending longer than this in the database is logged
+    public Duration getLogTime() {
+        return logTime;
+    }
+
+    public void setLogTime(Duration logTime) {
+        this.logTime = logTime;
+    }
+
+    // The same statement executed this many times in one request is reported as a likely N+1
+    public int getRepeatedStatements() {
+        return repeatedStatements;
+    }
+
+    public void setRepeatedStatements(int repeatedStatements) {
+        this.repeatedStatements = repeatedStatements;
+    }
+
+    // Number of slowest statements kept per request for the log line, 0 logs none
+    public int getSlowestStatements() {
+        return slowestStatements;
+    }
+
+    public void setSlowestStatements(int slowestStatements) {
+        this.slowestStatements = slowestStatements;
+    }
+
+    // Requests over this many statements fail with HTTP 500, 0 disables the check (meant for tests)
+    public int getStatementBudget() {
+        return statementBudget;
+    }
+
+    public void setStatementBudget(int statementBudget) {
+        this.statementBudget = statementBudget;
+    }
+}
@@ -0,0 +1,60 @@
+package com.fintrellis.blogmanager.profiling;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.http.context.ServerRequestContext;
+import jakarta.inject.Singleton;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Wraps every JDBC {@link DataSource} so executed statements are timed and added to the
+ * {@link RequestSqlProfile} of the HTTP request they run for. Statements outside a request
+ * (startup, scheduled view flushes) are not recorded.
+ */
+@Singleton
+@Requires(property = "blog.sql-profiler.enabled", notEquals = "false")
+public class SqlProfilingDataSourceListener implements BeanCreatedEventListener<DataSource>, QueryExecutionListener {
+
+    private static final String STARTED = "sqlProfilerStarted";
+
+    @Override
+    public DataSource onCreated(BeanCreatedEvent<DataSource> event) {
+        return ProxyDataSourceBuilder.create(event.getBean())
+                .name(event.getBeanIdentifier().getName())
+                .listener(this)
+                .build();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(STARTED, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long started = execInfo.getCustomValue(STARTED, Long.class);
+        if (started == null) {
+            return;
+        }
+        long nanos = System.nanoTime() - started;
+        // The request context follows the route onto its executor thread
+        ServerRequestContext.currentRequest()
+                .flatMap(request -> request.getAttribute(SqlProfilingFilter.PROFILE_ATTRIBUTE, RequestSqlProfile.class))
+                .ifPresent(profile -> profile.record(sql(queryInfoList), nanos));
+    }
+
+    private static String sql(List<QueryInfo> queryInfoList) {
+        if (queryInfoList.size() == 1) {
+            return queryInfoList.get(0).getQuery();
+        }
+        return queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+    }
+}
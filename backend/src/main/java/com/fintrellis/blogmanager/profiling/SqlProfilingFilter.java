@@ -0,0 +1,81 @@
+package com.fintrellis.blogmanager.profiling;
+
+import com.fintrellis.blogmanager.dto.ErrorResponse;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ResponseFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts a {@link RequestSqlProfile} for every API request and reports it when the
+ * response is written: always as a {@code Server-Timing} header, and as a log line when
+ * the request ran too many statements, spent too long in the database or repeated a
+ * statement often enough to look like an N+1 query.
+ */
+@ServerFilter("/api/**")
+@Requires(bean = SqlProfilingDataSourceListener.class)
+public class SqlProfilingFilter {
+
+    public static final String PROFILE_ATTRIBUTE = "blog.sql-profile";
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private static final Logger LOG = LoggerFactory.getLogger(SqlProfilingFilter.class);
+
+    @Inject
+    private SqlProfilerConfiguration configuration;
+
+    @RequestFilter
+    public void startProfile(HttpRequest<?> request) {
+        request.setAttribute(PROFILE_ATTRIBUTE, new RequestSqlProfile(configuration.getSlowestStatements()));
+    }
+
+    @ResponseFilter
+    public void finishProfile(HttpRequest<?> request, MutableHttpResponse<?> response) {
+        Optional<RequestSqlProfile> recorded = request.getAttribute(PROFILE_ATTRIBUTE, RequestSqlProfile.class);
+        if (recorded.isEmpty()) {
+            return;
+        }
+        RequestSqlProfile profile = recorded.get();
+        int statements = profile.statements();
+        double millis = profile.totalNanos() / 1_000_000.0;
+        response.header(SERVER_TIMING, String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d statements\"", millis, statements));
+
+        Map<String, Integer> repeated = profile.repeated(configuration.getRepeatedStatements());
+        if (statements > configuration.getLogStatements()
+                || profile.totalNanos() > configuration.getLogTime().toNanos()
+                || !repeated.isEmpty()) {
+            LOG.warn(describe(request, profile, repeated));
+        }
+
+        int budget = configuration.getStatementBudget();
+        if (budget > 0 && statements > budget) {
+            String message = "SQL statement budget exceeded: " + statements + " statements, budget is " + budget;
+            LOG.error("{}\n{}", message, describe(request, profile, repeated));
+            response.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(message, HttpStatus.INTERNAL_SERVER_ERROR.getCode(), "Statement Budget Exceeded", request.getPath()));
+        }
+    }
+
+    private static String describe(HttpRequest<?> request, RequestSqlProfile profile, Map<String, Integer> repeated) {
+        StringBuilder line = new StringBuilder()
+                .append(request.getMethodName()).append(' ').append(request.getPath()).append(": ")
+                .append(profile.statements()).append(" statements, ")
+                .append(TimeUnit.NANOSECONDS.toMillis(profile.totalNanos())).append(" ms in database");
+        for (RequestSqlProfile.Statement statement : profile.slowest()) {
+            line.append("\n  slow ").append(TimeUnit.NANOSECONDS.toMillis(statement.nanos())).append(" ms: ").append(statement.sql());
+        }
+        repeated.forEach((sql, count) -> line.append("\n  repeated ").append(count).append("x (possible N+1): ").append(sql));
+        return line.toString();
+    }
+}
@@ -1,9 +1,15 @@
 package com.fintrellis.blogmanager.repository; // Package declaration for repository layer classes
 
 import com.fintrellis.blogmanager.BlogPost; // Import the BlogPost entity class
+import com.fintrellis.blogmanager.dto.AuthorPostCount; // Import the DTO for per-author aggregates
+import com.fintrellis.blogmanager.dto.PostResponse; // Import the DTO used for content-free list projections
+import io.micronaut.data.annotation.Query; // Import for explicit JPQL queries
 import io.micronaut.data.annotation.Repository; // Import Micronaut Data repository annotation
 import io.micronaut.data.jpa.repository.JpaRepository; // Import JPA repository interface for basic CRUD operations
+import io.micronaut.data.model.Pageable; // Import Pageable to bound the number of returned rows
 
+import java.time.LocalDateTime; // Import for keyset cursor timestamps
+import java.util.Collection; // Import Collection for id lists
 import java.util.List; // Import List interface for collections
 import java.util.Optional; // Import Optional for nullable return values
 
@@ -19,10 +25,6 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, Long> { // R
 
     List<BlogPost> findByTitleContainingIgnoreCase(String title); // Query method to find posts where title contains the given string (case-insensitive search)
 
-    List<BlogPost> findByContentContainingIgnoreCase(String content); // Query method to find posts where content contains the given string (case-insensitive search)
-
-    List<BlogPost> findByTagsContainingIgnoreCase(String tag); // Query method to find posts where tags field contains the given tag (case-insensitive search)
-
     List<BlogPost> findByPublishedTrueOrderByCreatedAtDesc(); // Query method to find all published posts ordered by creation date (newest first)
 
     List<BlogPost> findByPublishedTrueOrderByViewCountDesc(); // Query method to find all published posts ordered by view count (most viewed first)
@@ -32,4 +34,52 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, Long> { // R
     long countByPublishedTrue(); // Query method to count total number of published posts
 
     long countByAuthor(String author); // Query method to count total number of posts by a specific author
+
+    @Query("SELECT COALESCE(SUM(b.viewCount), 0) FROM BlogPost b")
+    long sumViewCount(); // Total flushed views over all posts, used to reconcile the in-memory analytics
+
+    // Changes with every committed write on any node: inserts and deletes move the count or the highest id,
+    // updates bump a version and view flushes add views. Used as the list ETag by ChangeTracker
+    @Query("SELECT CONCAT(CAST(COUNT(b) AS String), '-', CAST(COALESCE(MAX(b.id), 0) AS String), '-', CAST(COALESCE(SUM(b.version), 0) AS String), '-', CAST(COALESCE(SUM(b.viewCount), 0) AS String)) FROM BlogPost b")
+    String changeFingerprint(); // Fingerprint of the whole table in one aggregate query
+
+    @Query("SELECT b.author AS author, COUNT(b) AS posts FROM BlogPost b WHERE b.author IS NOT NULL AND b.author <> '' GROUP BY b.author")
+    List<AuthorPostCount> countPostsByAuthor(); // Posts per author in one grouped query
+
+    List<BlogPost> findByIdIn(Collection<Long> ids); // Query method to load several posts by ID in one round trip
+
+    @Query("SELECT b FROM BlogPost b WHERE b.id > :id AND b.tags IS NOT NULL AND b.tags <> '' AND NOT EXISTS (SELECT pt FROM PostTag pt WHERE pt.id.postId = b.id) ORDER BY b.id")
+    List<BlogPost> findUntaggedBatchAfterId(Long id, Pageable pageable); // Posts whose tags string has no normalized post_tags rows yet
+
+    // Keyset pagination: each query seeks past the (sort key, id) of the previous page's last row.
+    // Pass a Pageable of size N to limit the page; the offset is always 0.
+
+    @Query("SELECT b FROM BlogPost b WHERE b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id) ORDER BY b.createdAt DESC, b.id DESC")
+    List<BlogPost> findPageByCreatedAt(LocalDateTime createdAt, Long id, Pageable pageable); // Newest posts first, starting after the given cursor
+
+    @Query("SELECT b FROM BlogPost b WHERE b.published = true AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) ORDER BY b.createdAt DESC, b.id DESC")
+    List<BlogPost> findPublishedPageByCreatedAt(LocalDateTime createdAt, Long id, Pageable pageable); // Newest published posts first, starting after the given cursor
+
+    @Query("SELECT b FROM BlogPost b WHERE b.author = :author AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) ORDER BY b.createdAt DESC, b.id DESC")
+    List<BlogPost> findAuthorPageByCreatedAt(String author, LocalDateTime createdAt, Long id, Pageable pageable); // Newest posts of one author, starting after the given cursor
+
+    // Same pages as above projected onto PostResponse, for the summary (content-free) lists.
+    // The select aliases must match the DTO property names.
+
+    @Query("SELECT b.id AS id, b.title AS title, b.summary AS summary, b.author AS author, b.tags AS tags, b.createdAt AS createdAt, b.updatedAt AS updatedAt, b.published AS published, b.viewCount AS viewCount, b.version AS version FROM BlogPost b WHERE b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id) ORDER BY b.createdAt DESC, b.id DESC")
+    List<PostResponse> findSummaryPageByCreatedAt(LocalDateTime createdAt, Long id, Pageable pageable); // Newest post summaries first, starting after the given cursor
+
+    @Query("SELECT b.id AS id, b.title AS title, b.summary AS summary, b.author AS author, b.tags AS tags, b.createdAt AS createdAt, b.updatedAt AS updatedAt, b.published AS published, b.viewCount AS viewCount, b.version AS version FROM BlogPost b WHERE b.published = true AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) ORDER BY b.createdAt DESC, b.id DESC")
+    List<PostResponse> findPublishedSummaryPageByCreatedAt(LocalDateTime createdAt, Long id, Pageable pageable); // Newest published post summaries first
+
+    @Query("SELECT b.id AS id, b.title AS title, b.summary AS summary, b.author AS author, b.tags AS tags, b.createdAt AS createdAt, b.updatedAt AS updatedAt, b.published AS published, b.viewCount AS viewCount, b.version AS version FROM BlogPost b WHERE b.author = :author AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) ORDER BY b.createdAt DESC, b.id DESC")
+    List<PostResponse> findAuthorSummaryPageByCreatedAt(String author, LocalDateTime createdAt, Long id, Pageable pageable); // Newest post summaries of one author
+
+    @Query("SELECT b.id AS id, b.title AS title, b.summary AS summary, b.author AS author, b.tags AS tags, b.createdAt AS createdAt, b.updatedAt AS updatedAt, b.published AS published, b.viewCount AS viewCount, b.version AS version FROM BlogPost b WHERE b.published = true AND (b.viewCount < :viewCount OR (b.viewCount = :viewCount AND b.id < :id)) ORDER BY b.viewCount DESC, b.id DESC")
+    List<PostResponse> findPublishedSummaryPageByViewCount(int viewCount, Long id, Pageable pageable); // Most viewed published post summaries first, loads the popularity leaderboard
+
+    // Substring matches, newest id first, as id lists. Used by the LIKE search backend (content: PostContentRepository).
+
+    @Query("SELECT b.id FROM BlogPost b WHERE LOWER(b.title) LIKE LOWER(CONCAT('%', :title, '%')) AND b.id < :id ORDER BY b.id DESC")
+    List<Long> findIdsByTitleContaining(String title, Long id, Pageable pageable); // Title substring search, continuing below the given id
 }
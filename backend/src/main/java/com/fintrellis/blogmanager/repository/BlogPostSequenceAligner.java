@@ -0,0 +1,27 @@
+package com.fintrellis.blogmanager.repository; // Package declaration for repository layer classes
+
+import io.micronaut.context.annotation.Requires; // Import for conditional bean creation
+import io.micronaut.context.event.StartupEvent; // Import for the application startup event
+import io.micronaut.runtime.event.annotation.EventListener; // Import to run on startup
+import jakarta.inject.Singleton; // Import for singleton scope annotation
+import jakarta.persistence.EntityManager; // Import JPA EntityManager to run native SQL
+import jakarta.persistence.PersistenceContext; // Import to inject the current EntityManager
+import jakarta.transaction.Transactional; // Import for transactional boundaries
+
+@Singleton // Marks this class as a singleton bean (one instance per application)
+@Requires(property = "datasources.default.dialect", value = "POSTGRES") // Only existing PostgreSQL databases can hold rows with identity-generated ids
+public class BlogPostSequenceAligner { // Moves blog_posts_seq past ids handed out before posts switched from IDENTITY to a sequence
+
+    // Never moves the sequence backwards; the next pooled block then starts above every existing id
+    private static final String ALIGN_SQL =
+            "SELECT setval('blog_posts_seq', GREATEST((SELECT last_value FROM blog_posts_seq), (SELECT COALESCE(MAX(id), 0) FROM blog_posts)))";
+
+    @PersistenceContext // Injects the EntityManager bound to the current transaction
+    private EntityManager entityManager; // Used to run the native setval
+
+    @EventListener // Runs once Hibernate has created or updated the schema
+    @Transactional
+    public void onStartup(StartupEvent event) {
+        entityManager.createNativeQuery(ALIGN_SQL).getSingleResult();
+    }
+}
@@ -0,0 +1,107 @@
+package com.fintrellis.blogmanager.repository; // Package declaration for repository layer classes
+
+import io.micronaut.context.annotation.Requires; // Import for conditional bean creation
+import io.micronaut.context.annotation.Value; // Import to read whether the legacy column may be dropped
+import io.micronaut.context.event.BeanCreatedEvent; // Import for the bean creation event
+import io.micronaut.context.event.BeanCreatedEventListener; // Import to run as soon as the session factory exists
+import jakarta.inject.Singleton; // Import for singleton scope annotation
+import org.hibernate.SessionFactory; // Import the Hibernate session factory, built after hbm2ddl created post_contents
+import org.slf4j.Logger; // Import for logging what was migrated
+import org.slf4j.LoggerFactory; // Import to create the logger
+
+import java.sql.Connection; // Import for the JDBC connection of the migration transaction
+import java.sql.ResultSet; // Import for the catalog lookups
+import java.sql.SQLException; // Import for JDBC errors
+import java.sql.Savepoint; // Import to survive a rejected compression setting without aborting the transaction
+import java.sql.Statement; // Import for the DDL statements
+
+@Singleton // Marks this class as a singleton bean (one instance per application)
+@Requires(property = "datasources.default.dialect", value = "POSTGRES") // Only existing PostgreSQL databases hold bodies in blog_posts
+public class PostContentMigration implements BeanCreatedEventListener<SessionFactory> { // Compresses post bodies with LZ4 and moves them out of blog_posts tables created before post_contents existed
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostContentMigration.class); // Logger for this class
+
+    // Applies to values written from now on, so it runs before bodies are copied. Needs PostgreSQL 14 built with LZ4
+    private static final String COMPRESS_SQL = "ALTER TABLE post_contents ALTER COLUMN content SET COMPRESSION lz4";
+    private static final String LZ4_PROBE_SQL = "SET LOCAL default_toast_compression = 'lz4'"; // Rejected by servers built without LZ4, takes no table lock
+    private static final String COMPRESSION_SQL = // The column's compression method, 'l' once LZ4 is set. pg_attribute only has it from PostgreSQL 14
+            "SELECT attcompression FROM pg_attribute WHERE attrelid = 'post_contents'::regclass AND attname = 'content'";
+    private static final String VERSION_SQL = "SELECT current_setting('server_version_num')::int"; // Server version as a number, e.g. 160002
+    private static final int COMPRESSION_VERSION = 140000; // First version with per-column compression
+    private static final String LEGACY_COLUMN_SQL = // Finds the content column of the pre-split schema and whether it accepts NULL
+            "SELECT is_nullable FROM information_schema.columns WHERE table_schema = current_schema() AND table_name = 'blog_posts' AND column_name = 'content'";
+    private static final String COPY_SQL = // Idempotent, a copy interrupted by a restart is simply completed
+            "INSERT INTO post_contents (post_id, content) SELECT id, COALESCE(content, '') FROM blog_posts ON CONFLICT (post_id) DO NOTHING";
+    // CASCADE also drops the former search_vector generated from the column. Nodes still running the old schema must be stopped first
+    private static final String DROP_SQL = "ALTER TABLE blog_posts DROP COLUMN content CASCADE";
+    private static final String NULLABLE_SQL = "ALTER TABLE blog_posts ALTER COLUMN content DROP NOT NULL"; // New rows leave the kept column empty
+
+    @Value("${blog.post-contents.drop-legacy-column:false}") // Off by default, the column is dropped by an operator (see application.properties)
+    private boolean dropLegacyColumn; // Whether startup may drop blog_posts.content once its bodies are copied
+
+    // Every repository, and so every startup loader reading post_contents, waits for the session factory,
+    // so bodies are in place before anything reads them. Statements that take an ACCESS EXCLUSIVE lock
+    // only run when there is something to change or the legacy column drop was explicitly enabled
+    @Override
+    public SessionFactory onCreated(BeanCreatedEvent<SessionFactory> event) {
+        SessionFactory sessionFactory = event.getBean();
+        sessionFactory.inTransaction(session -> session.doWork(this::migrate));
+        return sessionFactory;
+    }
+
+    private void migrate(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (!isCompressed(statement)) {
+                compress(connection, statement);
+            }
+            String nullable = legacyColumnNullable(statement);
+            if (nullable == null) {
+                return; // Migrated, or created after the split
+            }
+            int copied = statement.executeUpdate(COPY_SQL); // Rows written after the setting above are LZ4-compressed
+            if (dropLegacyColumn) {
+                statement.execute(DROP_SQL);
+                LOG.info("Moved {} post bodies from blog_posts to post_contents and dropped blog_posts.content", copied);
+            } else {
+                if ("NO".equals(nullable)) {
+                    statement.execute(NULLABLE_SQL); // Only on the first startup, inserts no longer set the column
+                }
+                if (copied > 0) {
+                    LOG.info("Copied {} post bodies from blog_posts to post_contents, blog_posts.content is kept until dropped", copied);
+                }
+            }
+        }
+    }
+
+    // Servers without LZ4 keep their default (pglz) compression instead of failing startup
+    private static void compress(Connection connection, Statement statement) throws SQLException {
+        Savepoint savepoint = connection.setSavepoint(); // A failed statement would otherwise abort the whole transaction
+        try {
+            statement.execute(LZ4_PROBE_SQL); // Fails before the ALTER below would lock post_contents
+            statement.execute(COMPRESS_SQL);
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLException e) {
+            connection.rollback(savepoint);
+            LOG.warn("LZ4 compression is not available for post_contents, keeping the server default: {}", e.getMessage());
+        }
+    }
+
+    // Servers older than 14 cannot compress per column at all, there is nothing to set
+    private static boolean isCompressed(Statement statement) throws SQLException {
+        try (ResultSet version = statement.executeQuery(VERSION_SQL)) {
+            if (!version.next() || version.getInt(1) < COMPRESSION_VERSION) {
+                return true;
+            }
+        }
+        try (ResultSet method = statement.executeQuery(COMPRESSION_SQL)) {
+            return method.next() && "l".equals(method.getString(1));
+        }
+    }
+
+    // YES or NO while the column still exists, null once it is gone
+    private static String legacyColumnNullable(Statement statement) throws SQLException {
+        try (ResultSet row = statement.executeQuery(LEGACY_COLUMN_SQL)) {
+            return row.next() ? row.getString(1) : null;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.fintrellis.blogmanager.repository; // Package declaration for repository layer classes
+
+import com.fintrellis.blogmanager.PostContent; // Import the PostContent entity class
+import io.micronaut.data.annotation.Query; // Import for explicit JPQL queries
+import io.micronaut.data.annotation.Repository; // Import Micronaut Data repository annotation
+import io.micronaut.data.jpa.repository.JpaRepository; // Import JPA repository interface for basic CRUD operations
+import io.micronaut.data.model.Pageable; // Import Pageable to bound the number of returned rows
+
+import java.util.Collection; // Import Collection for id lists
+import java.util.List; // Import List interface for collections
+import java.util.Optional; // Import Optional for nullable return values
+
+@Repository // Marks this interface as a Micronaut Data repository
+public interface PostContentRepository extends JpaRepository<PostContent, Long> { // Repository for post bodies, keyed by post ID
+
+    Optional<String> findContentByPostId(Long postId); // Query method to read only the body of one post
+
+    List<PostContent> findByPostIdIn(Collection<Long> postIds); // Query method to load the bodies of several posts in one round trip
+
+    @Query("UPDATE PostContent c SET c.content = :content WHERE c.postId = :postId")
+    void updateContent(Long postId, String content); // Replaces a body without reading it first
+
+    // Posts together with their bodies, one join per query instead of a second round trip
+
+    @Query("SELECT c FROM PostContent c JOIN FETCH c.post WHERE c.postId = :postId")
+    Optional<PostContent> findWithPost(Long postId); // A single post and its body, used to fill the post cache
+
+    @Query("SELECT c FROM PostContent c JOIN FETCH c.post WHERE c.postId IN :postIds")
+    List<PostContent> findWithPostByPostIdIn(Collection<Long> postIds); // Several posts and their bodies, in no particular order
+
+    @Query("SELECT c FROM PostContent c JOIN FETCH c.post WHERE c.postId > :postId ORDER BY c.postId")
+    List<PostContent> findBatchAfterPostId(Long postId, Pageable pageable); // Walks every post in primary key order, used to rebuild in-memory indexes
+
+    @Query("SELECT c.postId FROM PostContent c WHERE LOWER(c.content) LIKE LOWER(CONCAT('%', :content, '%')) AND c.postId < :postId ORDER BY c.postId DESC")
+    List<Long> findIdsByContentContaining(String content, Long postId, Pageable pageable); // Content substring search, continuing below the given post ID
+}
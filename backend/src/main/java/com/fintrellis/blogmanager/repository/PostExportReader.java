@@ -0,0 +1,32 @@
+package com.fintrellis.blogmanager.repository; // Package declaration for repository layer classes
+
+import com.fintrellis.blogmanager.PostContent; // Import the PostContent entity class
+import jakarta.inject.Inject; // Import for dependency injection
+import jakarta.inject.Singleton; // Import for singleton scope annotation
+import org.hibernate.ScrollMode; // Import for forward-only cursors
+import org.hibernate.SessionFactory; // Import to open sessions outside of the request transaction
+import org.hibernate.StatelessSession; // Import for the session that keeps no first-level cache
+import org.hibernate.Transaction; // Import for the read transaction holding the cursor open
+
+@Singleton // Marks this class as a singleton bean (one instance per application)
+public class PostExportReader { // Opens server-side cursors over posts and their bodies for bulk reads
+
+    @Inject // Injects the Hibernate session factory of the default datasource
+    private SessionFactory sessionFactory; // Used to open stateless sessions
+
+    // Opens a cursor over every post in primary key order, each row joined with its body. The caller must close the returned scroll.
+    // A stateless session does not keep loaded entities, so memory stays bounded by the fetch size.
+    public PostScroll openScroll(int fetchSize) {
+        StatelessSession session = sessionFactory.openStatelessSession(); // Borrows a dedicated connection
+        try {
+            Transaction transaction = session.beginTransaction(); // Disables autocommit so the driver honours the fetch size
+            return new PostScroll(session, transaction, session.createQuery("SELECT c FROM PostContent c JOIN FETCH c.post ORDER BY c.postId", PostContent.class)
+                    .setReadOnly(true) // No dirty checking for exported rows
+                    .setFetchSize(fetchSize) // Rows fetched per round trip
+                    .scroll(ScrollMode.FORWARD_ONLY)); // Streams rows instead of materializing the result list
+        } catch (RuntimeException e) {
+            session.close(); // Returns the connection when the query could not be opened
+            throw e;
+        }
+    }
+}
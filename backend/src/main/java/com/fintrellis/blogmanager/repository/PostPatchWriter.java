@@ -0,0 +1,107 @@
+package com.fintrellis.blogmanager.repository; // Package declaration for repository layer classes
+
+import com.fintrellis.blogmanager.BlogPost; // Import the BlogPost entity class
+import io.micronaut.context.annotation.Value; // Import to read the configured SQL dialect
+import jakarta.inject.Singleton; // Import for singleton scope annotation
+import jakarta.persistence.EntityManager; // Import JPA EntityManager to reach the underlying Hibernate session
+import jakarta.persistence.PersistenceContext; // Import to inject the current EntityManager
+import jakarta.transaction.Transactional; // Import for transactional boundaries
+import org.hibernate.Session; // Import Hibernate Session to run plain JDBC work
+
+import java.sql.Connection; // Import for the JDBC connection of the current transaction
+import java.sql.PreparedStatement; // Import for the parameterized update
+import java.sql.ResultSet; // Import for the returned row
+import java.sql.SQLException; // Import for JDBC errors
+import java.sql.Timestamp; // Import for timestamp parameters and columns
+import java.time.LocalDateTime; // Import for the update time
+import java.util.ArrayList; // Import for the statement parameters
+import java.util.List; // Import for the statement parameters
+import java.util.Map; // Import Map for the column -> value pairs
+import java.util.Optional; // Import Optional for "no row matched"
+import java.util.Set; // Import Set for the writable columns
+import java.util.function.UnaryOperator; // Import for clauses built per table qualifier
+
+@Singleton // Marks this class as a singleton bean (one instance per application)
+public class PostPatchWriter { // Writes partial post updates as one UPDATE statement, without loading the row first
+
+    public static final Set<String> COLUMNS = Set.of("title", "summary", "author", "tags", "published"); // Columns a patch may set; names are never taken from the request. Bodies live in post_contents
+
+    private static final String ROW_COLUMNS = "id, title, summary, author, tags, created_at, updated_at, published, view_count, version"; // Every column of the row as it was before the update
+    private static final String OLD_ROW_COLUMNS = ROW_COLUMNS.replaceAll("(\\w+)", "old.$1"); // The same columns read from the self-joined pre-update row
+
+    @PersistenceContext // Injects the EntityManager bound to the current transaction
+    private EntityManager entityManager; // Used to reach the JDBC connection of the current transaction
+
+    @Value("${datasources.default.dialect:POSTGRES}") // Reads the dialect of the default datasource
+    private String dialect; // Selects how the previous row is returned by the update
+
+    // Sets the given columns if the post is still at expectedVersion and bumps its version.
+    // Returns the row as it was before the update, or empty when no post with that id and version exists.
+    @Transactional
+    public Optional<BlogPost> patch(Long id, long expectedVersion, Map<String, Object> columns, LocalDateTime updatedAt) {
+        List<Object> parameters = new ArrayList<>(); // Collects the statement parameters in placeholder order
+        StringBuilder assignments = new StringBuilder(); // Collects the SET clause for the supplied columns
+        columns.forEach((column, value) -> {
+            if (!COLUMNS.contains(column)) { // Guards the SQL against unknown column names
+                throw new IllegalArgumentException("Column cannot be patched: " + column);
+            }
+            assignments.append(column).append(" = ?, "); // One placeholder per supplied column
+            parameters.add(value);
+        });
+        parameters.add(Timestamp.valueOf(updatedAt));
+        parameters.add(id);
+        parameters.add(expectedVersion);
+        return execute(
+                table -> assignments + "updated_at = ?, version = " + table + "version + 1", // Every write moves the timestamp and the version
+                table -> table + "id = ? AND " + table + "version = ?", // Matches only the version the client read
+                parameters);
+    }
+
+    // Flips the published flag in the database itself, so concurrent toggles never cancel each other out.
+    // Returns the row as it was before the update, or empty when the post does not exist.
+    @Transactional
+    public Optional<BlogPost> togglePublished(Long id, LocalDateTime updatedAt) {
+        return execute(
+                table -> "published = NOT " + table + "published, updated_at = ?, version = " + table + "version + 1",
+                table -> table + "id = ?",
+                List.of(Timestamp.valueOf(updatedAt), id)); // Update time and post ID
+    }
+
+    // Clauses take the qualifier of the updated table ("p." on PostgreSQL, where the self-join makes plain names ambiguous)
+    private Optional<BlogPost> execute(UnaryOperator<String> assignments, UnaryOperator<String> condition, List<Object> parameters) {
+        String sql = "POSTGRES".equals(dialect) // One round trip in both dialects
+                ? "UPDATE blog_posts p SET " + assignments.apply("p.") + " FROM blog_posts old WHERE p.id = old.id AND " + condition.apply("p.") + " RETURNING " + OLD_ROW_COLUMNS // The self-join exposes the pre-update row to RETURNING
+                : "SELECT " + ROW_COLUMNS + " FROM OLD TABLE (UPDATE blog_posts SET " + assignments.apply("") + " WHERE " + condition.apply("") + ")"; // H2 (tests, embedded runs): the OLD TABLE delta table returns the pre-update row
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> query(connection, sql, parameters));
+    }
+
+    private static Optional<BlogPost> query(Connection connection, String sql, List<Object> parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i)); // Binds parameters in placeholder order
+            }
+            try (ResultSet row = statement.executeQuery()) {
+                return row.next() ? Optional.of(toPost(row)) : Optional.empty(); // No row means no match
+            }
+        }
+    }
+
+    private static BlogPost toPost(ResultSet row) throws SQLException {
+        BlogPost post = new BlogPost(); // Detached copy, never managed by Hibernate; the body is not read
+        post.setId(row.getLong("id"));
+        post.setTitle(row.getString("title"));
+        post.setSummary(row.getString("summary"));
+        post.setAuthor(row.getString("author"));
+        post.setTags(row.getString("tags"));
+        post.setCreatedAt(toDateTime(row.getTimestamp("created_at")));
+        post.setUpdatedAt(toDateTime(row.getTimestamp("updated_at")));
+        post.setPublished(row.getBoolean("published"));
+        post.setViewCount(row.getInt("view_count"));
+        post.setVersion(row.getLong("version"));
+        return post;
+    }
+
+    private static LocalDateTime toDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -0,0 +1,63 @@
+package com.fintrellis.blogmanager.repository; // Package declaration for repository layer classes
+
+import com.fintrellis.blogmanager.BlogPost; // Import the BlogPost entity class
+import com.fintrellis.blogmanager.PostContent; // Import the PostContent entity class, the row type of the cursor
+import org.hibernate.ScrollableResults; // Import for the server-side cursor over query results
+import org.hibernate.StatelessSession; // Import for the session that keeps no first-level cache
+import org.hibernate.Transaction; // Import for the read transaction holding the cursor open
+
+import java.util.Iterator; // Import Iterator so callers can walk the rows
+import java.util.NoSuchElementException; // Import for iteration past the last row
+
+/**
+ * Forward-only walk over all posts backed by a JDBC cursor. Rows are fetched from the
+ * database {@code fetchSize} at a time and are not retained after they are returned.
+ * Must be closed to release the cursor, the transaction and the connection.
+ */
+public class PostScroll implements Iterator<BlogPost>, AutoCloseable {
+
+    private final StatelessSession session; // Session owning the connection
+    private final Transaction transaction; // Open transaction, required by PostgreSQL for cursor-based fetching
+    private final ScrollableResults<PostContent> results; // Cursor over the bodies, each fetched with its post
+    private Boolean hasNext; // Lookahead state, null until the cursor has been advanced
+    private boolean closed; // Guards against releasing resources twice
+
+    PostScroll(StatelessSession session, Transaction transaction, ScrollableResults<PostContent> results) { // Created by PostExportReader only
+        this.session = session;
+        this.transaction = transaction;
+        this.results = results;
+    }
+
+    @Override
+    public boolean hasNext() { // Advances the cursor once and remembers the outcome
+        if (hasNext == null) {
+            hasNext = !closed && results.next();
+        }
+        return hasNext;
+    }
+
+    @Override
+    public BlogPost next() { // Returns the post of the current row, with its body, and moves past it
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        hasNext = null;
+        return results.get().toPost();
+    }
+
+    @Override
+    public void close() { // Releases the cursor, ends the read-only transaction and returns the connection
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            results.close();
+            if (transaction.isActive()) {
+                transaction.commit();
+            }
+        } finally {
+            session.close();
+        }
+    }
+}
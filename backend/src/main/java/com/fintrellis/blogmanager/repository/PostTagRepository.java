@@ -0,0 +1,23 @@
+package com.fintrellis.blogmanager.repository; // Package declaration for repository layer classes
+
+import com.fintrellis.blogmanager.PostTag; // Import the PostTag relation entity
+import io.micronaut.data.annotation.Query; // Import for explicit JPQL queries
+import io.micronaut.data.annotation.Repository; // Import Micronaut Data repository annotation
+import io.micronaut.data.jpa.repository.JpaRepository; // Import JPA repository interface for basic CRUD operations
+import io.micronaut.data.model.Pageable; // Import Pageable to bound the number of returned rows
+
+import java.util.Collection; // Import Collection for name lists
+import java.util.List; // Import List interface for collections
+
+@Repository // Marks this interface as a Micronaut Data repository
+public interface PostTagRepository extends JpaRepository<PostTag, PostTag.Key> { // Repository for the normalized post -> tag relation
+
+    @Query("DELETE FROM PostTag pt WHERE pt.id.postId IN :postIds")
+    void deleteByPostIdIn(Collection<Long> postIds); // Removes all tag links of several posts in one statement
+
+    @Query("DELETE FROM PostTag pt WHERE pt.id.postId = :postId AND pt.id.tagId IN (SELECT t.id FROM Tag t WHERE t.name IN :names)")
+    void deleteByPostIdAndTagNames(Long postId, Collection<String> names); // Removes the links of one post to the given tags only
+
+    @Query("SELECT pt FROM PostTag pt WHERE pt.id.postId > :postId OR (pt.id.postId = :postId AND pt.id.tagId > :tagId) ORDER BY pt.id.postId, pt.id.tagId")
+    List<PostTag> findBatchAfter(Long postId, Long tagId, Pageable pageable); // Walks the whole relation in key order, used to rebuild the tag index
+}
@@ -0,0 +1,75 @@
+package com.fintrellis.blogmanager.repository; // Package declaration for repository layer classes
+
+import com.fintrellis.blogmanager.BlogPost; // Import the BlogPost entity class
+import com.fintrellis.blogmanager.dto.AuthorPostCount; // Import the DTO for per-author aggregates
+import com.fintrellis.blogmanager.dto.TagPostCount; // Import the DTO for per-tag aggregates
+import com.fintrellis.blogmanager.dto.PostResponse; // Import the DTO used for content-free list projections
+import io.micronaut.context.annotation.Requires; // Import for conditional bean creation
+import io.micronaut.data.annotation.Query; // Import for explicit SQL queries
+import io.micronaut.data.model.query.builder.sql.Dialect; // Import for the SQL dialect of generated queries
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository; // Import Micronaut Data R2DBC repository annotation
+import io.micronaut.data.repository.GenericRepository; // Import the method-less base interface, this repository only reads
+import reactor.core.publisher.Flux; // Import Flux for streams of rows
+import reactor.core.publisher.Mono; // Import Mono for single results
+
+import java.time.LocalDateTime; // Import for keyset cursor timestamps
+import java.util.Collection; // Import Collection for id lists
+
+@R2dbcRepository(dialect = Dialect.POSTGRES) // Non-blocking repository on the R2DBC connection factory
+@Requires(env = "reactive") // Only reactive read nodes configure an R2DBC datasource
+public interface ReactiveBlogPostRepository extends GenericRepository<BlogPost, Long> { // Read-only counterpart of BlogPostRepository
+
+    Mono<BlogPost> findById(Long id); // Query method to find a single post by ID, empty when missing
+
+    Flux<BlogPost> findByIdIn(Collection<Long> ids); // Query method to load several posts by ID in one round trip
+
+    Mono<Long> count(); // Query method to count all posts
+
+    Mono<Long> countByPublishedTrue(); // Query method to count published posts
+
+    Mono<Long> countByAuthor(String author); // Query method to count the posts of one author
+
+    // Aggregates and tag lookups. Read nodes receive no post events, so they query the
+    // database instead of the in-memory figures kept current on the writing nodes.
+
+    @Query("SELECT COALESCE(SUM(view_count), 0) FROM blog_posts")
+    Mono<Long> sumViewCount(); // Total flushed views over all posts
+
+    @Query("SELECT author, COUNT(*) AS posts FROM blog_posts WHERE author IS NOT NULL AND author <> '' GROUP BY author")
+    Flux<AuthorPostCount> countPostsByAuthor(); // Posts per author in one grouped query
+
+    @Query("SELECT t.name AS name, COUNT(*) AS posts FROM post_tags pt JOIN tags t ON t.id = pt.tag_id GROUP BY t.name ORDER BY COUNT(*) DESC, t.name")
+    Flux<TagPostCount> countPostsByTag(); // Posts per tag, most used first, the order of TagIndex.counts()
+
+    @Query("SELECT pt.post_id FROM post_tags pt JOIN tags t ON t.id = pt.tag_id WHERE t.name IN (:names) AND pt.post_id < :id GROUP BY pt.post_id HAVING COUNT(*) >= :required ORDER BY pt.post_id DESC LIMIT :limit")
+    Flux<Long> findIdsByTagNames(Collection<String> names, long required, Long id, int limit); // Posts with at least required of the names, highest id first below the given id
+
+    @Query("SELECT id, title, summary, author, tags, created_at, updated_at, published, view_count, version FROM blog_posts WHERE published = TRUE ORDER BY view_count DESC, id DESC LIMIT :limit")
+    Flux<PostResponse> findMostViewedPublishedSummaries(int limit); // Most viewed published post summaries, the order of the leaderboard
+
+    @Query("SELECT * FROM blog_posts ORDER BY id")
+    Flux<BlogPost> findAllOrderById(); // Every post in primary key order, rows are fetched as the subscriber requests them
+
+    // Keyset pagination, same seeks as the JPA repository. Native SQL, so the limit is a parameter.
+
+    @Query("SELECT * FROM blog_posts WHERE created_at < :createdAt OR (created_at = :createdAt AND id < :id) ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<BlogPost> findPageByCreatedAt(LocalDateTime createdAt, Long id, int limit); // Newest posts first, starting after the given cursor
+
+    @Query("SELECT * FROM blog_posts WHERE published = TRUE AND (created_at < :createdAt OR (created_at = :createdAt AND id < :id)) ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<BlogPost> findPublishedPageByCreatedAt(LocalDateTime createdAt, Long id, int limit); // Newest published posts first
+
+    @Query("SELECT * FROM blog_posts WHERE author = :author AND (created_at < :createdAt OR (created_at = :createdAt AND id < :id)) ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<BlogPost> findAuthorPageByCreatedAt(String author, LocalDateTime createdAt, Long id, int limit); // Newest posts of one author
+
+    // Same pages projected onto PostResponse without the TEXT content column.
+    // Columns map to DTO properties through the naming strategy (created_at -> createdAt).
+
+    @Query("SELECT id, title, summary, author, tags, created_at, updated_at, published, view_count, version FROM blog_posts WHERE created_at < :createdAt OR (created_at = :createdAt AND id < :id) ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<PostResponse> findSummaryPageByCreatedAt(LocalDateTime createdAt, Long id, int limit); // Newest post summaries first
+
+    @Query("SELECT id, title, summary, author, tags, created_at, updated_at, published, view_count, version FROM blog_posts WHERE published = TRUE AND (created_at < :createdAt OR (created_at = :createdAt AND id < :id)) ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<PostResponse> findPublishedSummaryPageByCreatedAt(LocalDateTime createdAt, Long id, int limit); // Newest published post summaries first
+
+    @Query("SELECT id, title, summary, author, tags, created_at, updated_at, published, view_count, version FROM blog_posts WHERE author = :author AND (created_at < :createdAt OR (created_at = :createdAt AND id < :id)) ORDER BY created_at DESC, id DESC LIMIT :limit")
+    Flux<PostResponse> findAuthorSummaryPageByCreatedAt(String author, LocalDateTime createdAt, Long id, int limit); // Newest post summaries of one author
+}
@@ -0,0 +1,23 @@
+package com.fintrellis.blogmanager.repository; // Package declaration for repository layer classes
+
+import com.fintrellis.blogmanager.PostContent; // Import the PostContent entity class
+import io.micronaut.context.annotation.Requires; // Import for conditional bean creation
+import io.micronaut.data.annotation.Query; // Import for explicit SQL queries
+import io.micronaut.data.model.query.builder.sql.Dialect; // Import for the SQL dialect of generated queries
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository; // Import Micronaut Data R2DBC repository annotation
+import io.micronaut.data.repository.GenericRepository; // Import the method-less base interface, this repository only reads
+import reactor.core.publisher.Flux; // Import Flux for streams of rows
+import reactor.core.publisher.Mono; // Import Mono for single results
+
+import java.util.Collection; // Import Collection for id lists
+
+@R2dbcRepository(dialect = Dialect.POSTGRES) // Non-blocking repository on the R2DBC connection factory
+@Requires(env = "reactive") // Only reactive read nodes configure an R2DBC datasource
+public interface ReactivePostContentRepository extends GenericRepository<PostContent, Long> { // Read-only counterpart of PostContentRepository
+
+    @Query("SELECT content FROM post_contents WHERE post_id = :postId")
+    Mono<String> findContentByPostId(Long postId); // The body of one post, empty when missing
+
+    @Query("SELECT post_id, content FROM post_contents WHERE post_id IN (:postIds)")
+    Flux<PostContent> findByPostIdIn(Collection<Long> postIds); // The bodies of several posts in one round trip, the post itself is not read
+}
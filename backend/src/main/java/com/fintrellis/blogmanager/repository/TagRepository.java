@@ -0,0 +1,14 @@
+package com.fintrellis.blogmanager.repository; // Package declaration for repository layer classes
+
+import com.fintrellis.blogmanager.Tag; // Import the Tag entity class
+import io.micronaut.data.annotation.Repository; // Import Micronaut Data repository annotation
+import io.micronaut.data.jpa.repository.JpaRepository; // Import JPA repository interface for basic CRUD operations
+
+import java.util.Collection; // Import Collection for name lists
+import java.util.List; // Import List interface for collections
+
+@Repository // Marks this interface as a Micronaut Data repository
+public interface TagRepository extends JpaRepository<Tag, Long> { // Repository for the tag dictionary
+
+    List<Tag> findByNameIn(Collection<String> names); // Query method to resolve several tag names in one round trip
+}
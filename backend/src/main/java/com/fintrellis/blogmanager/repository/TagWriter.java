@@ -0,0 +1,39 @@
+package com.fintrellis.blogmanager.repository; // Package declaration for repository layer classes
+
+import io.micronaut.context.annotation.Value; // Import to read the configured SQL dialect
+import jakarta.inject.Singleton; // Import for singleton scope annotation
+import jakarta.persistence.EntityManager; // Import JPA EntityManager to reach the underlying Hibernate session
+import jakarta.persistence.PersistenceContext; // Import to inject the current EntityManager
+import jakarta.transaction.Transactional; // Import for transactional boundaries
+import org.hibernate.Session; // Import Hibernate Session to run plain JDBC work
+
+import java.sql.PreparedStatement; // Import for the batched JDBC statement
+import java.util.Collection; // Import Collection for the tag names
+
+@Singleton // Marks this class as a singleton bean (one instance per application)
+public class TagWriter { // Adds names to the tag dictionary without failing on names another transaction just added
+
+    @PersistenceContext // Injects the EntityManager bound to the current transaction
+    private EntityManager entityManager; // Used to reach the JDBC connection of the current transaction
+
+    @Value("${datasources.default.dialect:POSTGRES}") // Reads the dialect of the default datasource
+    private String dialect; // Selects the insert-if-absent syntax
+
+    // Inserts every name that is not in tags yet, as one JDBC batch. A concurrent insert of the same name
+    // makes the statement wait for that transaction and then skip the row instead of violating tags.name
+    @Transactional
+    public void insertMissing(Collection<String> names) {
+        String sql = "POSTGRES".equals(dialect)
+                ? "INSERT INTO tags (name) VALUES (?) ON CONFLICT (name) DO NOTHING"
+                : "MERGE INTO tags (name) KEY (name) VALUES (?)"; // H2 (tests, embedded runs): an existing row is left as it is
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (String name : names) {
+                    statement.setString(1, name);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.fintrellis.blogmanager.repository; // Package declaration for repository layer classes
+
+import jakarta.inject.Singleton; // Import for singleton scope annotation
+import jakarta.persistence.EntityManager; // Import JPA EntityManager to reach the underlying Hibernate session
+import jakarta.persistence.PersistenceContext; // Import to inject the current EntityManager
+import jakarta.transaction.Transactional; // Import for transactional boundaries
+import org.hibernate.Session; // Import Hibernate Session to run plain JDBC work
+
+import java.sql.PreparedStatement; // Import for the batched JDBC statement
+import java.util.Map; // Import Map for the post id -> delta pairs
+
+@Singleton // Marks this class as a singleton bean (one instance per application)
+public class ViewCountWriter { // Writes buffered view count deltas to the blog_posts table
+
+    private static final String INCREMENT_SQL = "UPDATE blog_posts SET view_count = view_count + ? WHERE id = ?"; // Relative update so concurrent writers never overwrite each other
+
+    @PersistenceContext // Injects the EntityManager bound to the current transaction
+    private EntityManager entityManager; // Used to reach the JDBC connection of the current transaction
+
+    // Applies all deltas as one JDBC batch inside a single transaction
+    @Transactional
+    public void writeDeltas(Map<Long, Long> deltas) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INCREMENT_SQL)) {
+                for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+                    statement.setLong(1, entry.getValue());
+                    statement.setLong(2, entry.getKey());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+}
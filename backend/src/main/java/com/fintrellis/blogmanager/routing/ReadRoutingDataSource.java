@@ -0,0 +1,92 @@
+package com.fintrellis.blogmanager.routing;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Hands out replica connections while the current thread runs inside {@link #onReplica},
+ * primary connections otherwise. The choice is made when a connection is acquired, so a
+ * read inside a write transaction keeps using the transaction's primary connection.
+ * Intentionally not a Micronaut {@code DelegatingDataSource}: Hibernate would unwrap it.
+ */
+public class ReadRoutingDataSource implements DataSource {
+
+    private static final ThreadLocal<Boolean> ON_REPLICA = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final DataSource replica;
+
+    public ReadRoutingDataSource(DataSource primary, DataSource replica) {
+        this.primary = primary;
+        this.replica = replica;
+    }
+
+    // Run work whose connections come from the replica
+    static <T> T onReplica(Supplier<T> work) {
+        Boolean previous = ON_REPLICA.get();
+        ON_REPLICA.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                ON_REPLICA.remove();
+            } else {
+                ON_REPLICA.set(previous);
+            }
+        }
+    }
+
+    private DataSource target() {
+        return ON_REPLICA.get() == Boolean.TRUE ? replica : primary;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return target().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return target().getConnection(username, password);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return primary.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        primary.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        primary.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return primary.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return primary.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+}
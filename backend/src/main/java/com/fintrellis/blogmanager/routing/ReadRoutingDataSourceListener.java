@@ -0,0 +1,35 @@
+package com.fintrellis.blogmanager.routing;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.core.order.Ordered;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import javax.sql.DataSource;
+
+// Puts the default datasource behind a ReadRoutingDataSource when a replica is configured.
+// Runs before other DataSource listeners, so the SQL profiler sees statements on both pools.
+@Singleton
+@Requires(bean = ReplicaDataSource.class)
+public class ReadRoutingDataSourceListener implements BeanCreatedEventListener<DataSource>, Ordered {
+
+    private static final String DEFAULT_DATASOURCE = "default";
+
+    @Inject
+    private ReplicaDataSource replicaDataSource;
+
+    @Override
+    public DataSource onCreated(BeanCreatedEvent<DataSource> event) {
+        if (!DEFAULT_DATASOURCE.equals(event.getBeanIdentifier().getName())) {
+            return event.getBean();
+        }
+        return new ReadRoutingDataSource(event.getBean(), replicaDataSource.pool());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,56 @@
+package com.fintrellis.blogmanager.routing;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ResponseFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import io.micronaut.http.cookie.Cookie;
+import jakarta.inject.Inject;
+
+/**
+ * Read-your-writes for clients of a replicated deployment. A successful write answers with
+ * a cookie holding the end of the sticky window; requests carrying an unexpired cookie read
+ * from the primary. The cookie keeps the routing stateless across backend instances.
+ */
+@ServerFilter("/api/**")
+@Requires(bean = ReplicaDataSource.class)
+public class ReadYourWritesFilter {
+
+    public static final String COOKIE = "blog-read-primary-until";
+    static final String STICKY_ATTRIBUTE = "blog.read-primary";
+
+    @Inject
+    private ReplicaConfiguration configuration;
+
+    @RequestFilter
+    public void markSticky(HttpRequest<?> request) {
+        request.getCookies().findCookie(COOKIE)
+                .map(Cookie::getValue)
+                .filter(ReadYourWritesFilter::inFuture)
+                .ifPresent(value -> request.setAttribute(STICKY_ATTRIBUTE, Boolean.TRUE));
+    }
+
+    @ResponseFilter
+    public void stickAfterWrite(HttpRequest<?> request, MutableHttpResponse<?> response) {
+        HttpMethod method = request.getMethod();
+        if (method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.OPTIONS || response.code() >= 400) {
+            return;
+        }
+        long until = System.currentTimeMillis() + configuration.getStickyWindow().toMillis();
+        response.cookie(Cookie.of(COOKIE, Long.toString(until))
+                .path("/api")
+                .maxAge(configuration.getStickyWindow())
+                .httpOnly(true));
+    }
+
+    private static boolean inFuture(String epochMillis) {
+        try {
+            return Long.parseLong(epochMillis) > System.currentTimeMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
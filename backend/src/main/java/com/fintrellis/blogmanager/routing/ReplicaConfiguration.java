@@ -0,0 +1,76 @@
+package com.fintrellis.blogmanager.routing;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("blog.replica")
+public class ReplicaConfiguration {
+
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName = "org.postgresql.Driver";
+    private int maximumPoolSize = 20;
+    private Duration stickyWindow = Duration.ofSeconds(5);
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    // JDBC URL of the read replica; routing is off when it is not set
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public String getDriverClassName() {
+        return driverClassName;
+    }
+
+    public void setDriverClassName(String driverClassName) {
+        this.driverClassName = driverClassName;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    // How long a client reads from the primary after one of its writes
+    public Duration getStickyWindow() {
+        return stickyWindow;
+    }
+
+    public void setStickyWindow(Duration stickyWindow) {
+        this.stickyWindow = stickyWindow;
+    }
+
+    // Replication lag beyond which all reads go to the primary
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+}
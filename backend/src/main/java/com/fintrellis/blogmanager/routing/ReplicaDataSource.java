@@ -0,0 +1,49 @@
+package com.fintrellis.blogmanager.routing;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.annotation.Requires;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import javax.sql.DataSource;
+
+/**
+ * Connection pool of the read replica. Deliberately not a {@code datasources.*} entry: the
+ * replica is never used by Hibernate directly, only through {@link ReadRoutingDataSource}.
+ * Connections are read-only, so a write that reaches the replica fails instead of diverging.
+ */
+@Singleton
+@Requires(property = "blog.replica.url")
+public class ReplicaDataSource {
+
+    private final HikariDataSource pool;
+
+    @Inject
+    public ReplicaDataSource(ReplicaConfiguration configuration, BeanProvider<MeterRegistry> meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("replica");
+        config.setJdbcUrl(configuration.getUrl());
+        config.setDriverClassName(configuration.getDriverClassName());
+        config.setUsername(configuration.getUsername());
+        config.setPassword(configuration.getPassword());
+        config.setMaximumPoolSize(configuration.getMaximumPoolSize());
+        config.setReadOnly(true);
+        // Start even if the replica is down, the lag monitor keeps reads on the primary until it answers
+        config.setInitializationFailTimeout(-1);
+        meterRegistry.ifPresent(config::setMetricRegistry);
+        this.pool = new HikariDataSource(config);
+    }
+
+    public DataSource pool() {
+        return pool;
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.close();
+    }
+}
@@ -0,0 +1,175 @@
+package com.fintrellis.blogmanager.routing;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.sql.DataSource;
+
+/**
+ * Tracks which changes the replica has replayed. Each check compares the replica's replay
+ * LSN with the primary's WAL position read by the previous check: once the replica is past
+ * it, every change committed before that read is on the replica ({@link #caughtUpNanos()}).
+ * The measured lag only takes a replica far behind out of rotation; a lag of zero says
+ * nothing about a write committed since the last check.
+ * <p>
+ * An unreachable replica counts as infinitely behind, which keeps every read on the primary
+ * until it answers again. Databases other than PostgreSQL (the embedded replica used
+ * locally) report no lag and are taken to hold whatever was committed before each check.
+ */
+@Singleton
+@Requires(bean = ReplicaDataSource.class)
+public class ReplicaLagMonitor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private static final Duration UNREACHABLE = Duration.ofSeconds(Long.MAX_VALUE);
+
+    // Zero when the replica has replayed everything it received, otherwise the age of the last replayed transaction
+    private static final String POSTGRES_LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+            END""";
+    // Replayed WAL position in bytes, null when the database is not a standby (it then serves what it holds)
+    private static final String POSTGRES_REPLAYED_QUERY =
+            "SELECT CASE WHEN pg_is_in_recovery() THEN pg_wal_lsn_diff(pg_last_wal_replay_lsn(), '0/0') END";
+    private static final String POSTGRES_CURRENT_QUERY = "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '0/0')";
+
+    @Inject
+    private ReplicaDataSource replicaDataSource;
+
+    @Inject
+    private ReplicaConfiguration configuration;
+
+    @Inject
+    private DataSource dataSource; // Routed, outside ReplicaRead methods it hands out primary connections
+
+    private final ReentrantLock checkLock = new ReentrantLock();
+    private volatile Duration lag = UNREACHABLE;
+    private volatile long caughtUpNanos = System.nanoTime() - Long.MAX_VALUE / 2; // Before anything
+
+    // Guarded by checkLock. Primary WAL position read by the previous check and System.nanoTime() just before
+    private long pendingNanos;
+    private long pendingLsn = -1;
+
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        check();
+    }
+
+    @Scheduled(fixedDelay = "${blog.replica.lag-check-interval:1s}")
+    public void check() {
+        checkLock.lock();
+        try {
+            long startedNanos = System.nanoTime();
+            Measurement measured = measure();
+            recordLag(measured.lag());
+            if (measured.lag() == UNREACHABLE) {
+                return;
+            }
+            if (measured.replayedLsn() == null) {
+                recordCaughtUp(startedNanos);
+            } else if (pendingLsn >= 0 && measured.replayedLsn() >= pendingLsn) {
+                recordCaughtUp(pendingNanos);
+            }
+            recordPrimaryPosition();
+        } finally {
+            checkLock.unlock();
+        }
+    }
+
+    public Duration lag() {
+        return lag;
+    }
+
+    // System.nanoTime() before which every committed change has been replayed by the replica
+    public long caughtUpNanos() {
+        return caughtUpNanos;
+    }
+
+    public boolean acceptsReads() {
+        return lag.compareTo(configuration.getMaxLag()) <= 0;
+    }
+
+    void recordLag(Duration measured) {
+        boolean accepted = acceptsReads();
+        lag = measured;
+        if (accepted != acceptsReads()) {
+            if (accepted) {
+                LOG.warn("Replica lag {} exceeds {}, reads go to the primary", describe(measured), configuration.getMaxLag());
+            } else {
+                LOG.info("Replica lag {}, reads go to the replica again", describe(measured));
+            }
+        }
+    }
+
+    void recordCaughtUp(long nanos) {
+        if (nanos - caughtUpNanos > 0) {
+            caughtUpNanos = nanos;
+        }
+    }
+
+    private Measurement measure() {
+        try (Connection connection = replicaDataSource.pool().getConnection()) {
+            if (!isPostgres(connection)) {
+                return new Measurement(Duration.ZERO, null);
+            }
+            try (Statement statement = connection.createStatement()) {
+                Duration lag;
+                try (ResultSet resultSet = statement.executeQuery(POSTGRES_LAG_QUERY)) {
+                    resultSet.next();
+                    lag = Duration.ofMillis(Math.round(resultSet.getDouble(1) * 1000));
+                }
+                try (ResultSet resultSet = statement.executeQuery(POSTGRES_REPLAYED_QUERY)) {
+                    resultSet.next();
+                    long replayed = resultSet.getLong(1);
+                    return new Measurement(lag, resultSet.wasNull() ? null : replayed);
+                }
+            }
+        } catch (SQLException e) {
+            LOG.debug("Replica lag check failed", e);
+            return new Measurement(UNREACHABLE, null);
+        }
+    }
+
+    // The position the next check compares against. Not PostgreSQL, or unreadable: nothing to compare
+    private void recordPrimaryPosition() {
+        long nanos = System.nanoTime(); // Before the read, so every change committed earlier is at or below it
+        try (Connection connection = dataSource.getConnection()) {
+            if (!isPostgres(connection)) {
+                return;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(POSTGRES_CURRENT_QUERY)) {
+                resultSet.next();
+                pendingLsn = resultSet.getLong(1);
+                pendingNanos = nanos;
+            }
+        } catch (SQLException e) {
+            LOG.debug("Primary WAL position check failed", e);
+            pendingLsn = -1;
+        }
+    }
+
+    private static boolean isPostgres(Connection connection) throws SQLException {
+        return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+    }
+
+    private static String describe(Duration lag) {
+        return lag.equals(UNREACHABLE) ? "unknown (replica unreachable)" : lag.toString();
+    }
+
+    private record Measurement(Duration lag, Long replayedLsn) {
+    }
+}
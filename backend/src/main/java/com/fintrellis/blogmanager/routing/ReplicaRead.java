@@ -0,0 +1,20 @@
+package com.fintrellis.blogmanager.routing;
+
+import io.micronaut.aop.Around;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only method whose queries may run on the read replica.
+ * See {@link ReplicaReadInterceptor} for when they fall back to the primary.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Around
+public @interface ReplicaRead {
+}
@@ -0,0 +1,52 @@
+package com.fintrellis.blogmanager.routing;
+
+import com.fintrellis.blogmanager.service.ChangeTracker;
+import io.micronaut.aop.InterceptorBean;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.http.context.ServerRequestContext;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+/**
+ * Runs {@link ReplicaRead} methods against the replica unless:
+ * <ul>
+ *     <li>no replica is configured, or it lags by more than {@code blog.replica.max-lag}</li>
+ *     <li>the calling client wrote within the sticky window (see {@link ReadYourWritesFilter})</li>
+ *     <li>the replica has not been seen past the latest change this node committed or
+ *     observed, since list ETags already carry that change and a stale page must not be
+ *     tagged with it</li>
+ * </ul>
+ */
+@Singleton
+@InterceptorBean(ReplicaRead.class)
+public class ReplicaReadInterceptor implements MethodInterceptor<Object, Object> {
+
+    @Inject
+    private BeanProvider<ReplicaLagMonitor> replicaLagMonitor;
+
+    @Inject
+    private ChangeTracker changeTracker;
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        if (!replicaLagMonitor.isPresent() || !routeToReplica(replicaLagMonitor.get())) {
+            return context.proceed();
+        }
+        return ReadRoutingDataSource.onReplica(context::proceed);
+    }
+
+    private boolean routeToReplica(ReplicaLagMonitor monitor) {
+        if (!monitor.acceptsReads()) {
+            return false;
+        }
+        boolean sticky = ServerRequestContext.currentRequest()
+                .flatMap(request -> request.getAttribute(ReadYourWritesFilter.STICKY_ATTRIBUTE, Boolean.class))
+                .orElse(false);
+        if (sticky) {
+            return false;
+        }
+        return changeTracker.lastChangeNanos() - monitor.caughtUpNanos() < 0;
+    }
+}
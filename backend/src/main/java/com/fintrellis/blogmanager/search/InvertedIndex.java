@@ -0,0 +1,273 @@
+package com.fintrellis.blogmanager.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over one text field with BM25 ranking.
+ * <p>
+ * Posts are mapped to dense document numbers so that posting lists can be
+ * kept as primitive int arrays. Queries intersect the posting lists of
+ * their terms starting from the rarest one and only score the documents
+ * that contain every term, so their cost grows with the rarest term rather
+ * than with the size of the corpus or the most common term.
+ */
+final class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final String[] NO_TERMS = new String[0];
+
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+    private final Map<Long, Integer> docByPostId = new HashMap<>();
+    private final Deque<Integer> freeDocs = new ArrayDeque<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] postIds = new long[16];
+    private int[] lengths = new int[16];
+    private String[][] docTerms = new String[16][];
+    private int nextDoc;
+    private int docCount;
+    private long totalLength;
+
+    // Index or re-index the text of a post
+    void put(long postId, String text) {
+        List<String> tokens = Tokenizer.tokenize(text);
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = docByPostId.get(postId);
+            int doc;
+            if (existing != null) {
+                doc = existing;
+                unlink(doc);
+            } else {
+                doc = allocate(postId);
+            }
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                terms.computeIfAbsent(entry.getKey(), term -> new Postings()).put(doc, entry.getValue());
+            }
+            docTerms[doc] = frequencies.keySet().toArray(NO_TERMS);
+            lengths[doc] = tokens.size();
+            totalLength += tokens.size();
+            docCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByPostId.remove(postId);
+            if (doc == null) {
+                return;
+            }
+            unlink(doc);
+            freeDocs.push(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Return up to {@code limit} posts that contain every query term, ranked by BM25.
+     * The last query term also matches as a prefix, so partially typed words find results.
+     * Only hits that sort after ({@code afterScore}, {@code afterPostId}) are returned.
+     */
+    List<SearchHit> search(String query, double afterScore, long afterPostId, int limit) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(Tokenizer.tokenize(query)));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<SearchHit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (docCount == 0) {
+                return List.of();
+            }
+            List<List<Postings>> termPostings = new ArrayList<>(queryTerms.size());
+            for (int i = 0; i < queryTerms.size(); i++) {
+                List<Postings> postings = lookup(queryTerms.get(i), i == queryTerms.size() - 1);
+                if (postings.isEmpty()) {
+                    return List.of();
+                }
+                termPostings.add(postings);
+            }
+            termPostings.sort(Comparator.comparingInt(InvertedIndex::documentFrequency));
+            int[] candidates = union(termPostings.get(0));
+            for (int i = 1; i < termPostings.size() && candidates.length > 0; i++) {
+                candidates = retain(candidates, termPostings.get(i));
+            }
+
+            double averageLength = Math.max(1.0, (double) totalLength / docCount);
+            double[] scores = new double[candidates.length];
+            for (List<Postings> postings : termPostings) {
+                for (Postings expansion : postings) {
+                    score(expansion, candidates, averageLength, scores);
+                }
+            }
+            for (int i = 0; i < candidates.length; i++) {
+                SearchHit hit = new SearchHit(postIds[candidates[i]], scores[i]);
+                if (hit.isAfter(afterScore, afterPostId)) {
+                    hits.add(hit);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(SearchHit::getScore).reversed()
+                .thenComparing(Comparator.comparingLong(SearchHit::getPostId).reversed()));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    // Posting list of a term, or of every term it prefixes. Expansions are merged, however many there are
+    private List<Postings> lookup(String term, boolean prefix) {
+        if (!prefix) {
+            Postings postings = terms.get(term);
+            return postings == null ? List.of() : List.of(postings);
+        }
+        return new ArrayList<>(terms.subMap(term, true, term + Character.MAX_VALUE, true).values());
+    }
+
+    // Exact for a single term, an upper bound for merged expansions
+    private static int documentFrequency(List<Postings> postings) {
+        int frequency = 0;
+        for (Postings expansion : postings) {
+            frequency += expansion.size();
+        }
+        return frequency;
+    }
+
+    // Sorted documents containing any of the posting lists
+    private static int[] union(List<Postings> postings) {
+        int[] docs = new int[documentFrequency(postings)];
+        int count = 0;
+        for (Postings expansion : postings) {
+            for (int i = 0; i < expansion.size(); i++) {
+                docs[count++] = expansion.doc(i);
+            }
+        }
+        if (postings.size() == 1) {
+            return docs;
+        }
+        Arrays.sort(docs);
+        int distinct = 0;
+        for (int i = 0; i < docs.length; i++) {
+            if (distinct == 0 || docs[i] != docs[distinct - 1]) {
+                docs[distinct++] = docs[i];
+            }
+        }
+        return Arrays.copyOf(docs, distinct);
+    }
+
+    // The candidates that occur in any of the posting lists
+    private static int[] retain(int[] candidates, List<Postings> postings) {
+        boolean[] found = new boolean[candidates.length];
+        for (Postings expansion : postings) {
+            intersect(expansion, candidates, (candidate, posting) -> found[candidate] = true);
+        }
+        int kept = 0;
+        for (int i = 0; i < candidates.length; i++) {
+            if (found[i]) {
+                candidates[kept++] = candidates[i];
+            }
+        }
+        return Arrays.copyOf(candidates, kept);
+    }
+
+    private void score(Postings postings, int[] candidates, double averageLength, double[] scores) {
+        int documentFrequency = postings.size();
+        double idf = Math.log(1 + (docCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        intersect(postings, candidates, (candidate, posting) -> {
+            int frequency = postings.freq(posting);
+            double norm = K1 * (1 - B + B * lengths[candidates[candidate]] / averageLength);
+            scores[candidate] += idf * frequency * (K1 + 1) / (frequency + norm);
+        });
+    }
+
+    // Calls back with the position of every candidate the posting list contains and its position there,
+    // walking the shorter of the two sorted lists and searching the longer one
+    private static void intersect(Postings postings, int[] candidates, MatchConsumer consumer) {
+        if (candidates.length <= postings.size()) {
+            for (int i = 0; i < candidates.length; i++) {
+                int posting = postings.indexOf(candidates[i]);
+                if (posting >= 0) {
+                    consumer.accept(i, posting);
+                }
+            }
+        } else {
+            for (int i = 0; i < postings.size(); i++) {
+                int candidate = Arrays.binarySearch(candidates, postings.doc(i));
+                if (candidate >= 0) {
+                    consumer.accept(candidate, i);
+                }
+            }
+        }
+    }
+
+    private int allocate(long postId) {
+        int doc;
+        if (!freeDocs.isEmpty()) {
+            doc = freeDocs.pop();
+        } else {
+            doc = nextDoc++;
+            if (doc == postIds.length) {
+                int capacity = postIds.length * 2;
+                postIds = Arrays.copyOf(postIds, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+                docTerms = Arrays.copyOf(docTerms, capacity);
+            }
+        }
+        postIds[doc] = postId;
+        docTerms[doc] = NO_TERMS;
+        docByPostId.put(postId, doc);
+        return doc;
+    }
+
+    private void unlink(int doc) {
+        for (String term : docTerms[doc]) {
+            Postings postings = terms.get(term);
+            if (postings != null) {
+                postings.remove(doc);
+                if (postings.size() == 0) {
+                    terms.remove(term);
+                }
+            }
+        }
+        docTerms[doc] = NO_TERMS;
+        totalLength -= lengths[doc];
+        lengths[doc] = 0;
+        docCount--;
+    }
+
+    @FunctionalInterface
+    private interface MatchConsumer {
+        void accept(int candidate, int posting);
+    }
+}
@@ -0,0 +1,44 @@
+package com.fintrellis.blogmanager.search;
+
+import com.fintrellis.blogmanager.repository.BlogPostRepository;
+import com.fintrellis.blogmanager.repository.PostContentRepository;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.data.model.Pageable;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+
+/**
+ * Case-insensitive substring search in the database, newest post first.
+ * Used when the PostgreSQL backend is configured against another database (e.g. H2 in tests).
+ */
+@Singleton
+@Requires(property = SearchBackend.PROPERTY, value = "postgres")
+@Requires(property = "datasources.default.dialect", notEquals = "POSTGRES")
+public class LikeSearchBackend implements SearchBackend {
+
+    @Inject
+    private BlogPostRepository blogPostRepository;
+
+    @Inject
+    private PostContentRepository postContentRepository;
+
+    @Override
+    public List<SearchHit> search(SearchField field, String query, double afterScore, long afterPostId, int limit) {
+        if (field == SearchField.TITLE) {
+            return titleSearch(blogPostRepository, query, afterPostId, limit);
+        }
+        return hits(postContentRepository.findIdsByContentContaining(query, afterPostId, Pageable.from(0, limit)));
+    }
+
+    // Also used by PostgresSearchBackend, which keeps substring semantics for titles
+    static List<SearchHit> titleSearch(BlogPostRepository repository, String query, long afterPostId, int limit) {
+        return hits(repository.findIdsByTitleContaining(query, afterPostId, Pageable.from(0, limit)));
+    }
+
+    // Unranked matches all score 0, so the (score, id) cursor reduces to a seek on id
+    private static List<SearchHit> hits(List<Long> ids) {
+        return ids.stream().map(id -> new SearchHit(id, 0)).toList();
+    }
+}
@@ -0,0 +1,104 @@
+package com.fintrellis.blogmanager.search;
+
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.PostContent;
+import com.fintrellis.blogmanager.event.PostChangedEvent;
+import com.fintrellis.blogmanager.repository.PostContentRepository;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-process full-text index of all posts, one inverted index per searchable field.
+ * Built from the database at startup and kept current from {@link PostChangedEvent}s.
+ */
+@Singleton
+@Requires(property = SearchBackend.PROPERTY, value = "memory", defaultValue = "memory")
+public class PostSearchIndex implements SearchBackend {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostSearchIndex.class);
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final Map<SearchField, InvertedIndex> indexes = new EnumMap<>(SearchField.class);
+
+    @Inject
+    private PostContentRepository postContentRepository;
+
+    public PostSearchIndex() {
+        for (SearchField field : SearchField.values()) {
+            indexes.put(field, new InvertedIndex());
+        }
+    }
+
+    // Load every post into the index before the server starts accepting requests
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        rebuild();
+    }
+
+    // Keep the index in sync once a write has been committed
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.DELETED) {
+            remove(event.getPostId());
+        } else {
+            index(event.getPost());
+        }
+    }
+
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        long lastId = 0;
+        int indexed = 0;
+        List<PostContent> batch;
+        do {
+            batch = postContentRepository.findBatchAfterPostId(lastId, Pageable.from(0, REBUILD_BATCH_SIZE));
+            for (PostContent content : batch) {
+                index(content.toPost());
+                lastId = content.getPostId();
+            }
+            indexed += batch.size();
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        LOG.info("Indexed {} posts for search in {} ms", indexed, System.currentTimeMillis() - started);
+    }
+
+    // A post without a loaded body (a write that left it unchanged) keeps its indexed content
+    public void index(BlogPost post) {
+        indexes.get(SearchField.TITLE).put(post.getId(), post.getTitle());
+        if (post.getContent() != null) {
+            indexes.get(SearchField.CONTENT).put(post.getId(), post.getContent());
+        }
+    }
+
+    public void remove(Long postId) {
+        for (InvertedIndex index : indexes.values()) {
+            index.remove(postId);
+        }
+    }
+
+    // Ranked hits for a query, continuing after the given (score, post id) position
+    @Override
+    public List<SearchHit> search(SearchField field, String query, double afterScore, long afterPostId, int limit) {
+        return indexes.get(field).search(query, afterScore, afterPostId, limit);
+    }
+
+    // Answered from memory
+    @Override
+    public boolean isBlocking() {
+        return false;
+    }
+
+    public int size() {
+        return indexes.get(SearchField.TITLE).size();
+    }
+}
@@ -0,0 +1,127 @@
+package com.fintrellis.blogmanager.search;
+
+import com.fintrellis.blogmanager.repository.BlogPostRepository;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL native full-text search for multi-node deployments.
+ * <p>
+ * Generated tsvector columns cover title and summary on {@code blog_posts} (weighted A, B)
+ * and the body on {@code post_contents} (weighted C), each with a GIN index. Content
+ * searches look up posts matching any term in either index, then keep those whose
+ * combined vector matches every term, ranked with {@code ts_rank}. Title searches keep
+ * the substring semantics of {@link LikeSearchBackend}.
+ */
+@Singleton
+@Requires(property = SearchBackend.PROPERTY, value = "postgres")
+@Requires(property = "datasources.default.dialect", value = "POSTGRES")
+public class PostgresSearchBackend implements SearchBackend {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostgresSearchBackend.class);
+
+    // The former search_vector on blog_posts read the content column and is dropped with it, see PostContentMigration
+    private static final String ADD_METADATA_COLUMN_SQL = """
+            ALTER TABLE blog_posts ADD COLUMN IF NOT EXISTS metadata_vector tsvector GENERATED ALWAYS AS (
+                setweight(to_tsvector('%1$s', coalesce(title, '')), 'A') ||
+                setweight(to_tsvector('%1$s', coalesce(summary, '')), 'B')
+            ) STORED""";
+    private static final String ADD_CONTENT_COLUMN_SQL = """
+            ALTER TABLE post_contents ADD COLUMN IF NOT EXISTS content_vector tsvector GENERATED ALWAYS AS (
+                setweight(to_tsvector('%1$s', coalesce(content, '')), 'C')
+            ) STORED""";
+    private static final String CREATE_METADATA_INDEX_SQL =
+            "CREATE INDEX IF NOT EXISTS idx_blog_posts_metadata_vector ON blog_posts USING GIN (metadata_vector)";
+    private static final String CREATE_CONTENT_INDEX_SQL =
+            "CREATE INDEX IF NOT EXISTS idx_post_contents_content_vector ON post_contents USING GIN (content_vector)";
+    private static final String SEARCH_SQL = """
+            WITH q AS (SELECT to_tsquery('%1$s', :query) AS query, to_tsquery('%1$s', :anyTerm) AS any_term),
+            candidates AS (
+                SELECT b.id FROM blog_posts b, q WHERE b.metadata_vector @@ q.any_term
+                UNION
+                SELECT c.post_id FROM post_contents c, q WHERE c.content_vector @@ q.any_term
+            )
+            SELECT r.id, r.rank FROM (
+                SELECT b.id AS id, ts_rank(b.metadata_vector || c.content_vector, q.query) AS rank
+                FROM candidates m
+                JOIN blog_posts b ON b.id = m.id
+                JOIN post_contents c ON c.post_id = m.id
+                CROSS JOIN q
+                WHERE (b.metadata_vector || c.content_vector) @@ q.query
+            ) r
+            WHERE r.rank < :afterScore OR (r.rank = :afterScore AND r.id < :afterId)
+            ORDER BY r.rank DESC, r.id DESC
+            LIMIT :limit""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Inject
+    private BlogPostRepository blogPostRepository;
+
+    @Value("${blog.search.postgres.text-search-config:english}")
+    private String textSearchConfig;
+
+    // Create the generated columns and their GIN indexes once Hibernate has created the tables
+    @EventListener
+    @Transactional
+    public void onStartup(StartupEvent event) {
+        if (!textSearchConfig.matches("[a-z_]+")) {
+            throw new IllegalStateException("Invalid text search configuration: " + textSearchConfig);
+        }
+        entityManager.createNativeQuery(ADD_METADATA_COLUMN_SQL.formatted(textSearchConfig)).executeUpdate();
+        entityManager.createNativeQuery(ADD_CONTENT_COLUMN_SQL.formatted(textSearchConfig)).executeUpdate();
+        entityManager.createNativeQuery(CREATE_METADATA_INDEX_SQL).executeUpdate();
+        entityManager.createNativeQuery(CREATE_CONTENT_INDEX_SQL).executeUpdate();
+        LOG.info("PostgreSQL full-text search enabled with '{}' configuration", textSearchConfig);
+    }
+
+    @Override
+    @Transactional
+    public List<SearchHit> search(SearchField field, String query, double afterScore, long afterPostId, int limit) {
+        if (field != SearchField.CONTENT) {
+            return LikeSearchBackend.titleSearch(blogPostRepository, query, afterPostId, limit);
+        }
+        String tsQuery = toTsQuery(query);
+        if (tsQuery.isEmpty()) {
+            return List.of();
+        }
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(SEARCH_SQL.formatted(textSearchConfig))
+                .setParameter("query", tsQuery)
+                .setParameter("anyTerm", toTsQuery(query, " | "))
+                .setParameter("afterScore", afterScore)
+                .setParameter("afterId", afterPostId)
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new SearchHit(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue()))
+                .toList();
+    }
+
+    // All terms must match; the last one also as a prefix, like the in-memory index
+    static String toTsQuery(String query) {
+        return toTsQuery(query, " & ");
+    }
+
+    // Terms joined with & (all) or | (any)
+    static String toTsQuery(String query, String operator) {
+        List<String> terms = Tokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return "";
+        }
+        return terms.stream().collect(Collectors.joining(operator)) + ":*";
+    }
+}
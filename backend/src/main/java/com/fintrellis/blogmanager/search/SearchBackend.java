@@ -0,0 +1,29 @@
+package com.fintrellis.blogmanager.search;
+
+import java.util.List;
+
+/**
+ * Strategy for answering post searches. Selected with {@code blog.search.backend}:
+ * <ul>
+ *     <li>{@code memory} (default) - in-process BM25 index, see {@link PostSearchIndex}</li>
+ *     <li>{@code postgres} - tsvector column with a GIN index, see {@link PostgresSearchBackend};
+ *     falls back to {@link LikeSearchBackend} when the datasource is not PostgreSQL</li>
+ * </ul>
+ */
+public interface SearchBackend {
+
+    String PROPERTY = "blog.search.backend";
+
+    /**
+     * Return up to {@code limit} hits in descending (score, post id) order that sort
+     * after the given position. The first page passes positive infinity and {@link Long#MAX_VALUE}.
+     */
+    List<SearchHit> search(SearchField field, String query, double afterScore, long afterPostId, int limit);
+
+    /**
+     * Whether {@link #search} waits on the database. Non-blocking callers move blocking searches off the event loop.
+     */
+    default boolean isBlocking() {
+        return true;
+    }
+}
@@ -0,0 +1,7 @@
+package com.fintrellis.blogmanager.search;
+
+// Post fields that can be searched independently
+public enum SearchField {
+    TITLE,
+    CONTENT
+}
@@ -0,0 +1,26 @@
+package com.fintrellis.blogmanager.search;
+
+// A matching post and its relevance score
+public class SearchHit {
+
+    private final long postId;
+    private final double score;
+
+    public SearchHit(long postId, double score) {
+        this.postId = postId;
+        this.score = score;
+    }
+
+    public long getPostId() {
+        return postId;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    // True if this hit sorts after the given position (score descending, then id descending)
+    public boolean isAfter(double afterScore, long afterPostId) {
+        return score < afterScore || (score == afterScore && postId < afterPostId);
+    }
+}
@@ -0,0 +1,195 @@
+package com.fintrellis.blogmanager.search;
+
+import com.fintrellis.blogmanager.event.PostChangedEvent;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory tag -> post bitmaps for exact, multi-tag filtering.
+ * Tagged posts are mapped to dense document numbers, reused once a post loses
+ * all its tags, so bitmaps stay as small as the number of tagged posts whatever
+ * the post ids are. Bit {@code n} of a tag's bitmap is set when document
+ * {@code n} carries that tag.
+ * Rebuilt from the post_tags relation at startup by {@code PostTagSynchronizer}
+ * and kept current from committed {@link PostChangedEvent}s.
+ */
+@Singleton
+public class TagIndex {
+
+    private final Map<String, BitSet> postsByTag = new HashMap<>();
+    private final Map<Long, List<String>> tagsByPost = new HashMap<>();
+    private final Map<String, Integer> postCounts = new HashMap<>();
+    private final Map<Long, Integer> docByPostId = new HashMap<>();
+    private final Deque<Integer> freeDocs = new ArrayDeque<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] postIds = new long[16];
+    private int nextDoc;
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.DELETED) {
+            remove(event.getPostId());
+        } else {
+            put(event.getPostId(), TagNames.parse(event.getPost().getTags()));
+        }
+    }
+
+    // Replace the tags of a post
+    public void put(long postId, Collection<String> tags) {
+        lock.writeLock().lock();
+        try {
+            unlink(postId);
+            for (String tag : tags) {
+                link(postId, tag);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Add a single tag to a post, used while rebuilding from the relation
+    public void add(long postId, String tag) {
+        lock.writeLock().lock();
+        try {
+            link(postId, tag);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            unlink(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postsByTag.clear();
+            tagsByPost.clear();
+            postCounts.clear();
+            docByPostId.clear();
+            freeDocs.clear();
+            nextDoc = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Post ids carrying all ({@code matchAll}) or any of the given tags, highest id first,
+     * starting below {@code beforePostId}.
+     */
+    public List<Long> find(Collection<String> tags, boolean matchAll, long beforePostId, int limit) {
+        List<Long> found = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            BitSet matches = null;
+            for (String tag : tags) {
+                BitSet posts = postsByTag.get(tag);
+                if (posts == null) {
+                    if (matchAll) {
+                        return found;
+                    }
+                    continue;
+                }
+                if (matches == null) {
+                    matches = (BitSet) posts.clone();
+                } else if (matchAll) {
+                    matches.and(posts);
+                } else {
+                    matches.or(posts);
+                }
+            }
+            if (matches == null) {
+                return found;
+            }
+            // Document numbers do not follow post ids, so the matches are ordered by id here
+            long[] matchingIds = new long[matches.cardinality()];
+            int count = 0;
+            for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+                if (postIds[doc] < beforePostId) {
+                    matchingIds[count++] = postIds[doc];
+                }
+            }
+            Arrays.sort(matchingIds, 0, count);
+            for (int i = count - 1; i >= 0 && found.size() < limit; i--) {
+                found.add(matchingIds[i]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
+    }
+
+    // Number of posts per tag, most used first
+    public Map<String, Integer> counts() {
+        lock.readLock().lock();
+        try {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            postCounts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .forEach(entry -> counts.put(entry.getKey(), entry.getValue()));
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void link(long postId, String tag) {
+        int doc = docByPostId.computeIfAbsent(postId, this::allocate);
+        postsByTag.computeIfAbsent(tag, t -> new BitSet()).set(doc);
+        tagsByPost.computeIfAbsent(postId, id -> new ArrayList<>()).add(tag);
+        postCounts.merge(tag, 1, Integer::sum);
+    }
+
+    private void unlink(long postId) {
+        List<String> tags = tagsByPost.remove(postId);
+        if (tags == null) {
+            return;
+        }
+        int doc = docByPostId.remove(postId);
+        freeDocs.push(doc);
+        for (String tag : tags) {
+            BitSet posts = postsByTag.get(tag);
+            posts.clear(doc);
+            if (posts.isEmpty()) {
+                postsByTag.remove(tag);
+                postCounts.remove(tag);
+            } else {
+                postCounts.merge(tag, -1, Integer::sum);
+            }
+        }
+    }
+
+    private int allocate(long postId) {
+        int doc;
+        if (!freeDocs.isEmpty()) {
+            doc = freeDocs.pop();
+        } else {
+            doc = nextDoc++;
+            if (doc == postIds.length) {
+                postIds = Arrays.copyOf(postIds, postIds.length * 2);
+            }
+        }
+        postIds[doc] = postId;
+        return doc;
+    }
+}
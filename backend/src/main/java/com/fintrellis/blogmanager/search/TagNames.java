@@ -0,0 +1,33 @@
+package com.fintrellis.blogmanager.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Parses the free-form, comma separated {@code BlogPost.tags} string into normalized tag names:
+ * trimmed, lowercased, inner whitespace collapsed, duplicates and blanks removed.
+ */
+public final class TagNames {
+
+    public static final int MAX_LENGTH = 50;
+
+    private TagNames() {
+    }
+
+    public static List<String> parse(String tags) {
+        if (tags == null || tags.isBlank()) {
+            return List.of();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String raw : tags.split(",")) {
+            String name = raw.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+            if (!name.isEmpty()) {
+                names.add(name.length() > MAX_LENGTH ? name.substring(0, MAX_LENGTH) : name);
+            }
+        }
+        return new ArrayList<>(names);
+    }
+}
@@ -0,0 +1,28 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.exception.ValidationException;
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+@ConfigurationProperties("blog.batch")
+public class BatchConfiguration {
+
+    private int maxSize = 1000;
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    // A batch runs in a single transaction, so its size is capped
+    public void checkSize(int size) {
+        if (size < 1) {
+            throw new ValidationException("Batch must contain at least one operation");
+        }
+        if (size > maxSize) {
+            throw new ValidationException("Batch must not contain more than " + maxSize + " operations");
+        }
+    }
+}
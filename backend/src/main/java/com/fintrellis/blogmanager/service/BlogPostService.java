@@ -1,60 +1,156 @@
 package com.fintrellis.blogmanager.service;
 
 import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.PostContent;
+import com.fintrellis.blogmanager.dto.AnalyticsSummary;
+import com.fintrellis.blogmanager.dto.BatchOperation;
+import com.fintrellis.blogmanager.dto.BatchResult;
+import com.fintrellis.blogmanager.dto.PatchPostRequest;
+import com.fintrellis.blogmanager.dto.PostResponse;
+import com.fintrellis.blogmanager.dto.UpdatePostRequest;
+import com.fintrellis.blogmanager.event.PostChangedEvent;
 import com.fintrellis.blogmanager.repository.BlogPostRepository;
+import com.fintrellis.blogmanager.repository.PostContentRepository;
+import com.fintrellis.blogmanager.repository.PostPatchWriter;
+import com.fintrellis.blogmanager.routing.ReplicaRead;
 import com.fintrellis.blogmanager.exception.BlogPostNotFoundException;
+import com.fintrellis.blogmanager.exception.ConflictException;
 import com.fintrellis.blogmanager.exception.ValidationException;
+import com.fintrellis.blogmanager.search.SearchBackend;
+import com.fintrellis.blogmanager.search.SearchField;
+import com.fintrellis.blogmanager.search.SearchHit;
+import com.fintrellis.blogmanager.search.TagIndex;
+import com.fintrellis.blogmanager.search.TagNames;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.data.model.Pageable;
+import io.micrometer.core.annotation.Timed;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import jakarta.transaction.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+// Every public method is timed as blog.service{class,method,exception}
 @Singleton
+@Timed(value = "blog.service", description = "BlogPostService method latency")
 public class BlogPostService {
 
     @Inject
     private BlogPostRepository blogPostRepository;
 
+    @Inject
+    private PostContentRepository postContentRepository;
+
+    @Inject
+    private PostPatchWriter postPatchWriter;
+
+    @Inject
+    private ViewCountBuffer viewCountBuffer;
+
+    @Inject
+    private PostCache postCache;
+
+    @Inject
+    private PaginationConfiguration paginationConfiguration;
+
+    @Inject
+    private BatchConfiguration batchConfiguration;
+
+    @Inject
+    private SearchBackend searchBackend;
+
+    @Inject
+    private TagIndex tagIndex;
+
+    @Inject
+    private PostStatistics postStatistics;
+
+    @Inject
+    private PopularityLeaderboard popularityLeaderboard;
+
+    @Inject
+    private PostTagSynchronizer postTagSynchronizer;
+
+    @Inject
+    private ApplicationEventPublisher<PostChangedEvent> eventPublisher;
+
     // CREATE - Add new blog post
     @Transactional
     public BlogPost createPost(BlogPost blogPost) {
         validateBlogPost(blogPost);
         blogPost.setCreatedAt(LocalDateTime.now());
         blogPost.setUpdatedAt(LocalDateTime.now());
-        return blogPostRepository.save(blogPost);
+        BlogPost savedPost = blogPostRepository.save(blogPost);
+        postContentRepository.save(new PostContent(savedPost, blogPost.getContent()));
+        publish(PostChangedEvent.created(savedPost));
+        return savedPost;
     }
 
-    // READ - Get all posts
-    public List<BlogPost> getAllPosts() {
-        return blogPostRepository.findAll();
+    // READ - Get all posts, newest first, one page at a time
+    // List pages leave out content unless fields=full is requested
+    @ReplicaRead
+    public CursorPage<PostResponse> getAllPosts(String cursor, Integer limit, String fields) {
+        int size = paginationConfiguration.resolvePageSize(limit);
+        PageCursor after = PageCursor.decode(cursor, PageCursor.Order.CREATED_AT);
+        Pageable page = Pageable.from(0, size + 1);
+        List<PostResponse> rows = includeContent(fields)
+                ? toResponses(blogPostRepository.findPageByCreatedAt(after.createdAt(), after.id(), page))
+                : blogPostRepository.findSummaryPageByCreatedAt(after.createdAt(), after.id(), page);
+        return toPage(rows, size, PageCursor.Order.CREATED_AT);
     }
 
     // READ - Get all published posts (bonus feature)
-    public List<BlogPost> getAllPublishedPosts() {
-        return blogPostRepository.findByPublishedTrueOrderByCreatedAtDesc();
+    @ReplicaRead
+    public CursorPage<PostResponse> getAllPublishedPosts(String cursor, Integer limit, String fields) {
+        int size = paginationConfiguration.resolvePageSize(limit);
+        PageCursor after = PageCursor.decode(cursor, PageCursor.Order.CREATED_AT);
+        Pageable page = Pageable.from(0, size + 1);
+        List<PostResponse> rows = includeContent(fields)
+                ? toResponses(blogPostRepository.findPublishedPageByCreatedAt(after.createdAt(), after.id(), page))
+                : blogPostRepository.findPublishedSummaryPageByCreatedAt(after.createdAt(), after.id(), page);
+        return toPage(rows, size, PageCursor.Order.CREATED_AT);
     }
 
-    // READ - Get post by ID
+    // READ - Get post by ID, served from the post cache when possible
+    // Stays on the primary: a stale replica row would be cached until its TTL runs out
+    // A miss reads the post and its body in one joined query
     public BlogPost getPostById(Long id) {
-        return blogPostRepository.findById(id)
+        return postCache.get(id, key -> postContentRepository.findWithPost(key).map(PostContent::toPost))
                 .orElseThrow(() -> new BlogPostNotFoundException(id));
     }
 
     // READ - Get post by ID and increment view count (bonus feature)
-    @Transactional
+    // The view is buffered and flushed in batches, so no write transaction runs here
     public BlogPost getPostByIdWithViewCount(Long id) {
-        BlogPost post = getPostById(id); // This will throw exception if not found
-        post.incrementViewCount();
-        return blogPostRepository.update(post);
+        long generation = viewCountBuffer.flushGeneration();
+        BlogPost post = getPostById(id).copy(); // This will throw exception if not found
+        viewCountBuffer.increment(id);
+        long pending = viewCountBuffer.pendingViews(id);
+        while (viewCountBuffer.flushedSince(generation)) { // The flushed views may be in both or in neither, read again
+            viewCountBuffer.awaitFlush();
+            generation = viewCountBuffer.flushGeneration();
+            post = getPostById(id).copy();
+            pending = viewCountBuffer.pendingViews(id);
+        }
+        post.setViewCount(post.getViewCount() + (int) pending);
+        popularityLeaderboard.recordView(post, post.getViewCount());
+        return post;
     }
 
     // UPDATE - Update existing post
     @Transactional
     public BlogPost updatePost(Long id, BlogPost updatedPost) {
-        BlogPost existingPost = getPostById(id); // This will throw exception if not found
+        BlogPost existingPost = loadPost(id); // This will throw exception if not found
+        BlogPost previous = existingPost.copy();
 
         // Validate updated data
         if (updatedPost.getTitle() != null) {
@@ -65,6 +161,7 @@ public class BlogPostService {
         if (updatedPost.getContent() != null) {
             validateContent(updatedPost.getContent());
             existingPost.setContent(updatedPost.getContent());
+            postContentRepository.updateContent(id, updatedPost.getContent());
         }
 
         if (updatedPost.getSummary() != null) {
@@ -82,73 +179,228 @@ public class BlogPostService {
         existingPost.setPublished(updatedPost.isPublished());
         existingPost.setUpdatedAt(LocalDateTime.now());
 
-        return blogPostRepository.update(existingPost);
+        BlogPost savedPost = blogPostRepository.update(existingPost);
+        if (updatedPost.getContent() == null) {
+            savedPost.loadContent(unchangedContent(previous));
+        }
+        publish(PostChangedEvent.updated(previous, savedPost));
+        return savedPost;
     }
 
-    // DELETE - Delete post by ID
+    // DELETE - Delete post by ID; its body is removed by the database (ON DELETE CASCADE)
     @Transactional
     public void deletePost(Long id) {
-        BlogPost post = getPostById(id); // This will throw exception if not found
+        BlogPost post = loadPost(id); // This will throw exception if not found
         blogPostRepository.delete(post);
+        publish(PostChangedEvent.deleted(post));
+    }
+
+    // BATCH - Apply create, update and delete operations in one transaction
+    // Items that fail validation (400) or target a missing post (404) are reported and skipped.
+    // All other items are written together and commit or roll back as a whole.
+    @Transactional
+    public List<BatchResult> applyBatch(List<BatchOperation> operations) {
+        if (operations == null) {
+            throw new ValidationException("Batch cannot be empty");
+        }
+        batchConfiguration.checkSize(operations.size());
+
+        Map<Long, BlogPost> targets = loadBatchTargets(operations);
+        Map<Long, PostContent> contents = loadBatchContents(operations);
+        List<BatchResult> results = new ArrayList<>(operations.size());
+        List<PostChangedEvent> events = new ArrayList<>(operations.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int index = 0; index < operations.size(); index++) {
+            BatchOperation operation = operations.get(index);
+            String op = operation != null ? operation.getOp() : null;
+            Long id = operation != null ? operation.getId() : null;
+            try {
+                results.add(applyOperation(index, operation, targets, contents, events, now));
+            } catch (ValidationException e) {
+                results.add(new BatchResult(index, op, id, 400, e.getMessage()));
+            } catch (BlogPostNotFoundException e) {
+                results.add(new BatchResult(index, op, id, 404, e.getMessage()));
+            }
+        }
+
+        // Sequence ids are already assigned, so every insert, update and delete goes out in JDBC batches here
+        blogPostRepository.flush();
+        postTagSynchronizer.sync(events);
+        events.forEach(eventPublisher::publishEvent);
+        return results;
     }
 
     // BONUS FEATURES
 
     // Search posts by title
-    public List<BlogPost> searchByTitle(String title) {
+    @ReplicaRead
+    public CursorPage<BlogPost> searchByTitle(String title, String cursor, Integer limit) {
         if (title == null || title.trim().isEmpty()) {
             throw new ValidationException("Search title cannot be empty");
         }
-        return blogPostRepository.findByTitleContainingIgnoreCase(title.trim());
+        return search(SearchField.TITLE, title.trim(), cursor, limit);
     }
 
     // Search posts by content
-    public List<BlogPost> searchByContent(String content) {
+    @ReplicaRead
+    public CursorPage<BlogPost> searchByContent(String content, String cursor, Integer limit) {
         if (content == null || content.trim().isEmpty()) {
             throw new ValidationException("Search content cannot be empty");
         }
-        return blogPostRepository.findByContentContainingIgnoreCase(content.trim());
+        return search(SearchField.CONTENT, content.trim(), cursor, limit);
     }
 
-    // Search posts by tags
-    public List<BlogPost> searchByTags(String tag) {
-        if (tag == null || tag.trim().isEmpty()) {
+    // Search posts by tags: exact match on one or more comma separated tags, newest first
+    @ReplicaRead
+    public CursorPage<BlogPost> searchByTags(String tags, String match, String cursor, Integer limit) {
+        List<String> names = TagNames.parse(tags);
+        if (names.isEmpty()) {
             throw new ValidationException("Search tag cannot be empty");
         }
-        return blogPostRepository.findByTagsContainingIgnoreCase(tag.trim());
+        boolean matchAll = resolveTagMatch(match);
+        int size = paginationConfiguration.resolvePageSize(limit);
+        PageCursor after = PageCursor.decode(cursor, PageCursor.Order.SCORE);
+        List<SearchHit> hits = tagIndex.find(names, matchAll, after.id(), size + 1).stream()
+                .map(postId -> new SearchHit(postId, 0))
+                .toList();
+        return loadHits(hits, size);
+    }
+
+    // Number of posts per tag, most used first
+    public Map<String, Integer> getTagCounts() {
+        return tagIndex.counts();
     }
 
     // Get posts by author
-    public List<BlogPost> getPostsByAuthor(String author) {
+    @ReplicaRead
+    public CursorPage<PostResponse> getPostsByAuthor(String author, String cursor, Integer limit, String fields) {
         if (author == null || author.trim().isEmpty()) {
             throw new ValidationException("Author name cannot be empty");
         }
-        return blogPostRepository.findByAuthor(author.trim());
+        int size = paginationConfiguration.resolvePageSize(limit);
+        PageCursor after = PageCursor.decode(cursor, PageCursor.Order.CREATED_AT);
+        Pageable page = Pageable.from(0, size + 1);
+        List<PostResponse> rows = includeContent(fields)
+                ? toResponses(blogPostRepository.findAuthorPageByCreatedAt(author.trim(), after.createdAt(), after.id(), page))
+                : blogPostRepository.findAuthorSummaryPageByCreatedAt(author.trim(), after.createdAt(), after.id(), page);
+        return toPage(rows, size, PageCursor.Order.CREATED_AT);
     }
 
-    // Get most popular posts (by view count)
-    public List<BlogPost> getMostPopularPosts() {
-        return blogPostRepository.findByPublishedTrueOrderByViewCountDesc();
+    // Get most popular posts (by view count), served from the in-memory leaderboard
+    @ReplicaRead
+    public CursorPage<PostResponse> getMostPopularPosts(Integer limit, String fields) {
+        int size = paginationConfiguration.resolvePageSize(limit);
+        List<PostResponse> top = popularityLeaderboard.top(size);
+        if (!includeContent(fields)) {
+            return new CursorPage<>(top, null);
+        }
+        Map<Long, BlogPost> postsById = loadWithContent(top.stream().map(PostResponse::getId).toList());
+        return new CursorPage<>(withContent(top, postsById), null);
     }
 
-    // Publish/unpublish post
+    // PATCH - Write only the supplied fields, if the post is still at the version the client read
+    // One UPDATE statement; the row is not loaded first, the update returns its previous state.
+    // A new body is written to post_contents afterwards, in the same transaction.
+    @Transactional
+    public BlogPost patchPost(Long id, PatchPostRequest patch) {
+        if (patch.getVersion() == null) {
+            throw new ValidationException("Version is required");
+        }
+        if (patch.isEmpty()) {
+            throw new ValidationException("Patch must change at least one field");
+        }
+        Map<String, Object> columns = new LinkedHashMap<>();
+        if (patch.getTitle() != null) {
+            validateTitle(patch.getTitle());
+            columns.put("title", patch.getTitle());
+        }
+        if (patch.getContent() != null) {
+            validateContent(patch.getContent());
+        }
+        if (patch.getSummary() != null) {
+            validateSummary(patch.getSummary());
+            columns.put("summary", patch.getSummary());
+        }
+        if (patch.getAuthor() != null) {
+            columns.put("author", patch.getAuthor());
+        }
+        if (patch.getTags() != null) {
+            columns.put("tags", patch.getTags());
+        }
+        if (patch.getPublished() != null) {
+            columns.put("published", patch.getPublished());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        BlogPost previous = postPatchWriter.patch(id, patch.getVersion(), columns, now)
+                .orElseThrow(() -> missingOrConflict(id, patch.getVersion()));
+        BlogPost post = previous.copy();
+        if (patch.getTitle() != null) {
+            post.setTitle(patch.getTitle());
+        }
+        if (patch.getContent() != null) {
+            postContentRepository.updateContent(id, patch.getContent());
+            post.setContent(patch.getContent());
+        } else {
+            post.loadContent(unchangedContent(previous));
+        }
+        if (patch.getSummary() != null) {
+            post.setSummary(patch.getSummary());
+        }
+        if (patch.getAuthor() != null) {
+            post.setAuthor(patch.getAuthor());
+        }
+        if (patch.getTags() != null) {
+            post.setTags(patch.getTags());
+        }
+        if (patch.getPublished() != null) {
+            post.setPublished(patch.getPublished());
+        }
+        post.setUpdatedAt(now);
+        post.setVersion(previous.getVersion() + 1);
+        PostChangedEvent event = PostChangedEvent.updated(previous, post);
+        if (patch.getTags() != null) {
+            publish(event);
+        } else {
+            eventPublisher.publishEvent(event); // Tags were not patched, their links are left alone
+        }
+        return post;
+    }
+
+    // Publish/unpublish post, flipped by one atomic UPDATE so concurrent toggles cannot lose each other.
+    // The response keeps returning the full post, so its body comes from the cache or, on a miss,
+    // from one primary key read of post_contents; the body itself is never written.
     @Transactional
     public BlogPost togglePublishStatus(Long id) {
-        BlogPost post = getPostById(id); // This will throw exception if not found
-        post.setPublished(!post.isPublished());
-        post.setUpdatedAt(LocalDateTime.now());
-        return blogPostRepository.update(post);
+        LocalDateTime now = LocalDateTime.now();
+        BlogPost previous = postPatchWriter.togglePublished(id, now)
+                .orElseThrow(() -> new BlogPostNotFoundException(id));
+        BlogPost post = previous.copy();
+        post.loadContent(unchangedContent(previous));
+        post.setPublished(!previous.isPublished());
+        post.setUpdatedAt(now);
+        post.setVersion(previous.getVersion() + 1);
+        eventPublisher.publishEvent(PostChangedEvent.publishToggled(previous, post));
+        return post;
     }
 
     // Get analytics data
+    @ReplicaRead
     public long getTotalPostsCount() {
         return blogPostRepository.count();
     }
 
+    @ReplicaRead
     public long getPublishedPostsCount() {
         return blogPostRepository.countByPublishedTrue();
     }
 
+    // All dashboard metrics in one call, served from in-memory aggregates
+    public AnalyticsSummary getAnalyticsSummary() {
+        return postStatistics.summary();
+    }
+
+    @ReplicaRead
     public long getPostsCountByAuthor(String author) {
         if (author == null || author.trim().isEmpty()) {
             throw new ValidationException("Author name cannot be empty");
@@ -156,6 +408,268 @@ public class BlogPostService {
         return blogPostRepository.countByAuthor(author.trim());
     }
 
+    // The tag relation is written in the same transaction as the post, then listeners are told about the change
+    private void publish(PostChangedEvent event) {
+        postTagSynchronizer.sync(List.of(event));
+        eventPublisher.publishEvent(event);
+    }
+
+    // Only reached when a versioned update matched no row: tell a missing post from a stale version
+    private RuntimeException missingOrConflict(Long id, long version) {
+        return blogPostRepository.existsById(id)
+                ? new ConflictException(id, version)
+                : new BlogPostNotFoundException(id);
+    }
+
+    // Write paths modify the entity, so they always load it from the database rather than the cache
+    private BlogPost loadPost(Long id) {
+        return blogPostRepository.findById(id)
+                .orElseThrow(() -> new BlogPostNotFoundException(id));
+    }
+
+    // Body of a post whose metadata was just written: the cached copy if it is still at the version
+    // the write started from, otherwise one primary key read of post_contents
+    private String unchangedContent(BlogPost previous) {
+        return postCache.peek(previous.getId())
+                .filter(cached -> cached.getVersion() == previous.getVersion())
+                .map(BlogPost::getContent)
+                .or(() -> postContentRepository.findContentByPostId(previous.getId()))
+                .orElse(null);
+    }
+
+    // Posts with their bodies by id, one joined query
+    private Map<Long, BlogPost> loadWithContent(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return postContentRepository.findWithPostByPostIdIn(ids).stream()
+                .map(PostContent::toPost)
+                .collect(Collectors.toMap(BlogPost::getId, Function.identity()));
+    }
+
+    // PRIVATE BATCH METHODS
+
+    // Load every post targeted by an update or delete with one query
+    private Map<Long, BlogPost> loadBatchTargets(List<BatchOperation> operations) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (BatchOperation operation : operations) {
+            if (operation != null && operation.getId() != null) {
+                ids.add(operation.getId());
+            }
+        }
+        Map<Long, BlogPost> targets = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (BlogPost post : blogPostRepository.findByIdIn(ids)) {
+                targets.put(post.getId(), post);
+            }
+        }
+        return targets;
+    }
+
+    // Load the bodies replaced by updates with one query; they are written back in the same JDBC batch as the posts
+    private Map<Long, PostContent> loadBatchContents(List<BatchOperation> operations) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (BatchOperation operation : operations) {
+            if (operation != null && operation.getId() != null && "update".equalsIgnoreCase(operation.getOp())
+                    && operation.getPost() != null && operation.getPost().getContent() != null) {
+                ids.add(operation.getId());
+            }
+        }
+        Map<Long, PostContent> contents = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (PostContent content : postContentRepository.findByPostIdIn(ids)) {
+                contents.put(content.getPostId(), content);
+            }
+        }
+        return contents;
+    }
+
+    private BatchResult applyOperation(int index, BatchOperation operation, Map<Long, BlogPost> targets,
+                                       Map<Long, PostContent> contents, List<PostChangedEvent> events, LocalDateTime now) {
+        if (operation == null || operation.getOp() == null) {
+            throw new ValidationException("Operation must be 'create', 'update' or 'delete'");
+        }
+        String op = operation.getOp();
+        UpdatePostRequest fields = operation.getPost();
+        switch (op.toLowerCase()) {
+            case "create" -> {
+                if (fields == null) {
+                    throw new ValidationException("Post fields are required");
+                }
+                BlogPost post = new BlogPost();
+                post.setTitle(fields.getTitle());
+                post.setContent(fields.getContent());
+                post.setSummary(fields.getSummary());
+                post.setAuthor(fields.getAuthor());
+                post.setTags(fields.getTags());
+                post.setPublished(Boolean.TRUE.equals(fields.getPublished()));
+                validateBlogPost(post);
+                validateSummary(post.getSummary());
+                post.setCreatedAt(now);
+                post.setUpdatedAt(now);
+                BlogPost savedPost = blogPostRepository.save(post); // Persisted, inserted at flush
+                postContentRepository.save(new PostContent(savedPost, post.getContent()));
+                events.add(PostChangedEvent.created(savedPost));
+                return new BatchResult(index, op, savedPost.getId(), 201, null);
+            }
+            case "update" -> {
+                BlogPost post = batchTarget(operation, targets);
+                if (fields == null) {
+                    throw new ValidationException("Post fields are required");
+                }
+                // Check every field before changing any, so a rejected item leaves the post untouched
+                if (fields.getTitle() != null) {
+                    validateTitle(fields.getTitle());
+                }
+                if (fields.getContent() != null) {
+                    validateContent(fields.getContent());
+                }
+                validateSummary(fields.getSummary());
+                BlogPost previous = post.copy();
+                if (fields.getTitle() != null) {
+                    post.setTitle(fields.getTitle());
+                }
+                if (fields.getContent() != null) {
+                    post.setContent(fields.getContent());
+                    PostContent content = contents.get(post.getId());
+                    if (content != null) {
+                        content.setContent(fields.getContent()); // Managed entity, updated at flush
+                    } else {
+                        contents.put(post.getId(), postContentRepository.save(new PostContent(post, fields.getContent())));
+                    }
+                }
+                if (fields.getSummary() != null) {
+                    post.setSummary(fields.getSummary());
+                }
+                if (fields.getAuthor() != null) {
+                    post.setAuthor(fields.getAuthor());
+                }
+                if (fields.getTags() != null) {
+                    post.setTags(fields.getTags());
+                }
+                if (fields.getPublished() != null) {
+                    post.setPublished(fields.getPublished());
+                }
+                post.setUpdatedAt(now); // Managed entity, updated at flush
+                events.add(PostChangedEvent.updated(previous, post));
+                return new BatchResult(index, op, post.getId(), 200, null);
+            }
+            case "delete" -> {
+                BlogPost post = batchTarget(operation, targets);
+                targets.remove(post.getId()); // Later items of the batch no longer see the post
+                PostContent content = contents.remove(post.getId());
+                if (content != null) {
+                    postContentRepository.delete(content); // Loaded by an earlier update, must not be written back
+                }
+                blogPostRepository.delete(post);
+                events.add(PostChangedEvent.deleted(post));
+                return new BatchResult(index, op, post.getId(), 204, null);
+            }
+            default -> throw new ValidationException("Operation must be 'create', 'update' or 'delete'");
+        }
+    }
+
+    private BlogPost batchTarget(BatchOperation operation, Map<Long, BlogPost> targets) {
+        if (operation.getId() == null) {
+            throw new ValidationException("Post id is required");
+        }
+        BlogPost post = targets.get(operation.getId());
+        if (post == null) {
+            throw new BlogPostNotFoundException(operation.getId());
+        }
+        return post;
+    }
+
+    // PRIVATE PAGINATION METHODS
+
+    // Queries fetch one row more than the page size to tell whether another page exists
+    static CursorPage<PostResponse> toPage(List<PostResponse> rows, int size, PageCursor.Order order) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<PostResponse> items = new ArrayList<>(rows.subList(0, size));
+        String nextCursor = PageCursor.after(order, items.get(size - 1)).encode();
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    // fields=summary (default) selects everything but content, fields=full selects the whole row
+    static boolean includeContent(String fields) {
+        if (fields == null || fields.equalsIgnoreCase("summary")) {
+            return false;
+        }
+        if (fields.equalsIgnoreCase("full")) {
+            return true;
+        }
+        throw new ValidationException("Fields must be 'summary' or 'full'");
+    }
+
+    // Full list pages: the page query reads the posts, one more query reads their bodies
+    private List<PostResponse> toResponses(List<BlogPost> posts) {
+        if (!posts.isEmpty()) {
+            Map<Long, String> contents = postContentRepository.findByPostIdIn(posts.stream().map(BlogPost::getId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(PostContent::getPostId, PostContent::getContent));
+            posts.forEach(post -> post.loadContent(contents.get(post.getId())));
+        }
+        return posts.stream().map(PostResponse::from).toList();
+    }
+
+    // Full posts in leaderboard order, with the leaderboard's view counts
+    static List<PostResponse> withContent(List<PostResponse> top, Map<Long, BlogPost> postsById) {
+        List<PostResponse> posts = new ArrayList<>(top.size());
+        for (PostResponse ranked : top) {
+            BlogPost post = postsById.get(ranked.getId());
+            if (post != null) { // Skip posts deleted since the leaderboard was read
+                PostResponse full = PostResponse.from(post);
+                full.setViewCount(ranked.getViewCount());
+                posts.add(full);
+            }
+        }
+        return posts;
+    }
+
+    // PRIVATE SEARCH METHODS
+
+    // Rank matches in the configured search backend, then load only the posts of the requested page
+    private CursorPage<BlogPost> search(SearchField field, String query, String cursor, Integer limit) {
+        int size = paginationConfiguration.resolvePageSize(limit);
+        PageCursor after = PageCursor.decode(cursor, PageCursor.Order.SCORE);
+        List<SearchHit> hits = searchBackend.search(field, query, after.score(), after.id(), size + 1);
+        return loadHits(hits, size);
+    }
+
+    // Load the posts of one page of hits, keeping the hit order
+    private CursorPage<BlogPost> loadHits(List<SearchHit> hits, int size) {
+        List<SearchHit> pageHits = hits.size() > size ? hits.subList(0, size) : hits;
+        Map<Long, BlogPost> postsById = loadWithContent(pageHits.stream().map(SearchHit::getPostId).toList());
+        return toHitPage(hits, size, postsById);
+    }
+
+    // Order loaded posts like their hits; hits holds one more entry than the page size when another page exists
+    static CursorPage<BlogPost> toHitPage(List<SearchHit> hits, int size, Map<Long, BlogPost> postsById) {
+        boolean hasNext = hits.size() > size;
+        List<SearchHit> pageHits = hasNext ? hits.subList(0, size) : hits;
+        List<BlogPost> posts = new ArrayList<>(pageHits.size());
+        for (SearchHit hit : pageHits) {
+            BlogPost post = postsById.get(hit.getPostId());
+            if (post != null) { // Skip posts deleted since the index was read
+                posts.add(post);
+            }
+        }
+        String nextCursor = hasNext ? PageCursor.after(pageHits.get(size - 1)).encode() : null;
+        return new CursorPage<>(posts, nextCursor);
+    }
+
+    static boolean resolveTagMatch(String match) {
+        if (match == null || match.equalsIgnoreCase("all")) {
+            return true;
+        }
+        if (match.equalsIgnoreCase("any")) {
+            return false;
+        }
+        throw new ValidationException("Tag match must be 'all' or 'any'");
+    }
+
     // PRIVATE VALIDATION METHODS
 
     private void validateBlogPost(BlogPost blogPost) {
@@ -175,6 +689,13 @@ public class BlogPostService {
         }
     }
 
+    // Batch items bypass request body validation, so the summary limit is checked here
+    private void validateSummary(String summary) {
+        if (summary != null && summary.length() > 500) {
+            throw new ValidationException("Summary must be less than 500 characters");
+        }
+    }
+
     private void validateContent(String content) {
         if (content == null || content.trim().isEmpty()) {
             throw new ValidationException("Content is required");
@@ -0,0 +1,153 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.event.PostChangedEvent;
+import com.fintrellis.blogmanager.repository.BlogPostRepository;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.Scheduled;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Change generation of blog_posts, used as the weak ETag of list and search responses.
+ * <p>
+ * The tag is a fingerprint read from the database (row count, highest id, summed versions
+ * and view counts), so every node serving the same rows hands out the same tag. Each write
+ * adds or removes a row or bumps a version, and each view flush adds views, so every
+ * committed change yields a new fingerprint. A change committed on this node makes the
+ * next list wait for a fresh fingerprint; changes committed by other nodes are picked up by
+ * polling every {@code blog.etag.poll-interval}, which bounds how long they can go unseen.
+ */
+@Singleton
+public class ChangeTracker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChangeTracker.class);
+    private static final long REFRESH_TIMEOUT_MILLIS = 5000;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // One fingerprint query at a time, so a later result never installs before an earlier one
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile long lastChangeNanos = System.nanoTime();
+
+    // Guarded by lock. Pending while a change committed on this node is not in a fingerprint yet
+    private CompletableFuture<String> fingerprint = new CompletableFuture<>();
+    private boolean refreshQueued;
+
+    @Inject
+    private BlogPostRepository blogPostRepository;
+
+    @Inject
+    @Named(TaskExecutors.BLOCKING)
+    private ExecutorService executor;
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        changed();
+    }
+
+    // Record a change that does not go through a post event
+    public void touch() {
+        changed();
+    }
+
+    // System.nanoTime() after the latest change was committed or observed, or of startup
+    public long lastChangeNanos() {
+        return lastChangeNanos;
+    }
+
+    // Weak ETag of every response derived from the current state of the table
+    public String listTag() {
+        CompletableFuture<String> current;
+        lock.lock();
+        try {
+            current = fingerprint;
+        } finally {
+            lock.unlock();
+        }
+        if (!current.isDone()) {
+            requestRefresh(); // Nothing queued yet at startup
+        }
+        try {
+            return EntityTags.weak(current.get(REFRESH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        } catch (ExecutionException | TimeoutException e) {
+            // A tag no client holds: the page is served in full rather than wrongly confirmed
+            return EntityTags.weak("unknown-" + Long.toString(System.nanoTime(), 36));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading the list tag", e);
+        }
+    }
+
+    // Reads the fingerprint; scheduled to pick up changes committed by other nodes
+    @Scheduled(fixedDelay = "${blog.etag.poll-interval:1s}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            lock.lock();
+            try {
+                refreshQueued = false; // Changes from here on need another query
+            } finally {
+                lock.unlock();
+            }
+            String current;
+            try {
+                current = blogPostRepository.changeFingerprint();
+            } catch (RuntimeException e) {
+                LOG.warn("Could not read the blog_posts fingerprint: {}", e.getMessage());
+                return;
+            }
+            long readNanos = System.nanoTime();
+            lock.lock();
+            try {
+                String previous = fingerprint.isDone() && !fingerprint.isCompletedExceptionally() ? fingerprint.join() : null;
+                if (!current.equals(previous)) {
+                    lastChangeNanos = readNanos; // Committed before the query read it
+                }
+                if (!fingerprint.complete(current)) {
+                    fingerprint = CompletableFuture.completedFuture(current);
+                }
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void changed() {
+        lastChangeNanos = System.nanoTime();
+        lock.lock();
+        try {
+            if (fingerprint.isDone()) {
+                fingerprint = new CompletableFuture<>();
+            }
+        } finally {
+            lock.unlock();
+        }
+        requestRefresh();
+    }
+
+    // Queue one query for any number of changes committed before it starts
+    private void requestRefresh() {
+        lock.lock();
+        try {
+            if (refreshQueued) {
+                return;
+            }
+            refreshQueued = true;
+        } finally {
+            lock.unlock();
+        }
+        executor.execute(this::refresh);
+    }
+}
@@ -0,0 +1,46 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.BlogPost;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Builds ETag values and evaluates {@code If-None-Match} headers.
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    // Strong ETag of a single post: every change sets updatedAt, and flushed views change viewCount
+    public static String strong(BlogPost post) {
+        LocalDateTime updatedAt = post.getUpdatedAt();
+        long updatedNanos = updatedAt == null ? 0
+                : updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + updatedAt.getNano();
+        return "\"" + post.getId() + "-" + Long.toHexString(updatedNanos) + "-" + post.getViewCount() + "\"";
+    }
+
+    public static String weak(String value) {
+        return "W/\"" + value + "\"";
+    }
+
+    // Weak comparison as required for If-None-Match: the W/ prefix is ignored on both sides
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaque = opaqueTag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || opaqueTag(tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
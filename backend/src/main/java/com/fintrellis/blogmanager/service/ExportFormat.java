@@ -0,0 +1,34 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.exception.ValidationException;
+import io.micronaut.http.MediaType;
+
+/**
+ * Body layouts of the post export: one JSON array, or newline delimited JSON with one post per line.
+ */
+public enum ExportFormat {
+
+    JSON(MediaType.APPLICATION_JSON_TYPE),
+    NDJSON(new MediaType("application/x-ndjson"));
+
+    private final MediaType mediaType;
+
+    ExportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    // Resolve the format query parameter, JSON when none is given
+    public static ExportFormat parse(String format) {
+        if (format == null || format.equalsIgnoreCase("json")) {
+            return JSON;
+        }
+        if (format.equalsIgnoreCase("ndjson")) {
+            return NDJSON;
+        }
+        throw new ValidationException("Format must be 'json' or 'ndjson'");
+    }
+}
@@ -0,0 +1,98 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.dto.PostResponse;
+import com.fintrellis.blogmanager.exception.ValidationException;
+import com.fintrellis.blogmanager.search.SearchHit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a page, encoded as an opaque continuation token.
+ * The token carries the sort key and the id, so the next page is a WHERE seek
+ * on an index instead of an OFFSET scan.
+ */
+public final class PageCursor {
+
+    public enum Order {
+        CREATED_AT("c"),
+        SCORE("s");
+
+        private final String prefix;
+
+        Order(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    // Sort keys that come before every real row, used for the first page
+    private static final LocalDateTime FIRST_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final String SEPARATOR = "|";
+
+    private final Order order;
+    private final String key;
+    private final long id;
+
+    private PageCursor(Order order, String key, long id) {
+        this.order = order;
+        this.key = key;
+        this.id = id;
+    }
+
+    public static PageCursor first(Order order) {
+        String key = switch (order) {
+            case CREATED_AT -> FIRST_CREATED_AT.toString();
+            case SCORE -> String.valueOf(Double.POSITIVE_INFINITY);
+        };
+        return new PageCursor(order, key, Long.MAX_VALUE);
+    }
+
+    public static PageCursor after(Order order, PostResponse post) {
+        return new PageCursor(order, post.getCreatedAt().toString(), post.getId());
+    }
+
+    public static PageCursor after(SearchHit hit) {
+        return new PageCursor(Order.SCORE, String.valueOf(hit.getScore()), hit.getPostId());
+    }
+
+    // Decode a client supplied token, or start from the first page when none is given
+    public static PageCursor decode(String token, Order order) {
+        if (token == null || token.isBlank()) {
+            return first(order);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + SEPARATOR, 3);
+            if (parts.length != 3 || !parts[0].equals(order.prefix)) {
+                throw new ValidationException("Invalid page cursor");
+            }
+            PageCursor cursor = new PageCursor(order, parts[1], Long.parseLong(parts[2]));
+            switch (order) { // Fail fast on malformed sort keys
+                case CREATED_AT -> cursor.createdAt();
+                case SCORE -> cursor.score();
+            }
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Invalid page cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = order.prefix + SEPARATOR + key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime createdAt() {
+        return LocalDateTime.parse(key);
+    }
+
+    public double score() {
+        return Double.parseDouble(key);
+    }
+
+    public long id() {
+        return id;
+    }
+}
@@ -0,0 +1,38 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.exception.ValidationException;
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+@ConfigurationProperties("blog.pagination")
+public class PaginationConfiguration {
+
+    private int defaultPageSize = 20;
+    private int maxPageSize = 100;
+
+    public int getDefaultPageSize() {
+        return defaultPageSize;
+    }
+
+    public void setDefaultPageSize(int defaultPageSize) {
+        this.defaultPageSize = defaultPageSize;
+    }
+
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    public void setMaxPageSize(int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+
+    // Resolve the requested page size, capped at the configured maximum
+    public int resolvePageSize(Integer requested) {
+        if (requested == null) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        if (requested < 1) {
+            throw new ValidationException("Page size must be at least 1");
+        }
+        return Math.min(requested, maxPageSize);
+    }
+}
@@ -0,0 +1,240 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.dto.PostResponse;
+import com.fintrellis.blogmanager.event.PostChangedEvent;
+import com.fintrellis.blogmanager.repository.BlogPostRepository;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The most viewed published posts, kept in memory and updated as views are recorded
+ * and posts are published, unpublished or deleted.
+ * <p>
+ * Holds at most {@code capacity} posts and is always the exact top of the ranking:
+ * every published post left out ranks below {@code floor}, the best post known to be
+ * left out. A post that is not held is admitted only when it ranks ahead of the floor.
+ * When removals shrink the board below a requested size while posts were left out,
+ * it is rebuilt from the database in the background; requests meanwhile get the posts
+ * still held, which are the exact top of the ranking, just fewer of them.
+ */
+@Singleton
+public class PopularityLeaderboard {
+
+    // Most views first, newest post first on ties, the same order as the keyset popular query
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::views).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::postId).reversed());
+
+    private final int capacity;
+    private final TreeSet<Entry> ranking = new TreeSet<>(RANKING);
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Guarded by lock
+    private Entry floor;
+    private Set<Long> removedDuringRebuild;
+    private boolean rebuildQueued;
+
+    @Inject
+    private BlogPostRepository blogPostRepository;
+
+    @Inject
+    @Named(TaskExecutors.BLOCKING)
+    private ExecutorService executor;
+
+    public PopularityLeaderboard(@Value("${blog.popular.capacity:1000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        rebuild();
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        BlogPost post = event.getPost();
+        if (post == null || !post.isPublished()) {
+            remove(event.getPostId());
+        } else {
+            offer(post, post.getViewCount(), true);
+        }
+    }
+
+    // A post was viewed, views includes buffered views not yet in the database
+    public void recordView(BlogPost post, long views) {
+        if (post.isPublished()) {
+            offer(post, views, false);
+        }
+    }
+
+    // The first limit posts of the ranking, at most capacity
+    public List<PostResponse> top(int limit) {
+        int size = Math.min(limit, capacity);
+        lock.lock();
+        try {
+            if (ranking.size() < size && floor != null) {
+                requestRebuild(); // Posts were removed, bring back the ones left out
+            }
+            List<PostResponse> posts = new ArrayList<>(Math.min(size, ranking.size()));
+            Iterator<Entry> iterator = ranking.iterator();
+            while (posts.size() < size && iterator.hasNext()) {
+                Entry entry = iterator.next();
+                posts.add(withViews(entry.summary(), entry.views()));
+            }
+            return posts;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            lock.lock();
+            try {
+                removedDuringRebuild = new HashSet<>();
+            } finally {
+                lock.unlock();
+            }
+
+            List<PostResponse> rows = blogPostRepository.findPublishedSummaryPageByViewCount(
+                    Integer.MAX_VALUE, Long.MAX_VALUE, Pageable.from(0, capacity + 1));
+
+            lock.lock();
+            try {
+                // Merge with views and publishes recorded while the query ran
+                Map<Long, Entry> merged = new HashMap<>();
+                for (PostResponse row : rows) {
+                    if (!removedDuringRebuild.contains(row.getId())) {
+                        merged.put(row.getId(), new Entry(row.getId(), row.getViewCount(), row));
+                    }
+                }
+                for (Entry current : entries.values()) {
+                    merged.merge(current.postId(), current,
+                            (loaded, known) -> new Entry(known.postId(), Math.max(loaded.views(), known.views()), known.summary()));
+                }
+                TreeSet<Entry> sorted = new TreeSet<>(RANKING);
+                sorted.addAll(merged.values());
+
+                ranking.clear();
+                entries.clear();
+                floor = null;
+                for (Entry entry : sorted) {
+                    if (ranking.size() < capacity) {
+                        put(entry);
+                    } else {
+                        floor = entry;
+                        break;
+                    }
+                }
+                if (floor == null && rows.size() > capacity) {
+                    PostResponse last = rows.get(capacity); // More posts exist beyond the loaded rows
+                    floor = new Entry(last.getId(), last.getViewCount(), last);
+                }
+                removedDuringRebuild = null;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // Called with lock held. One rebuild queued at a time, requests keep reading the board until it is done
+    private void requestRebuild() {
+        if (rebuildQueued) {
+            return;
+        }
+        rebuildQueued = true;
+        executor.execute(() -> {
+            lock.lock();
+            try {
+                rebuildQueued = false; // Removals from here on may need another rebuild
+            } finally {
+                lock.unlock();
+            }
+            rebuild();
+        });
+    }
+
+    private void offer(BlogPost post, long views, boolean refreshSummary) {
+        lock.lock();
+        try {
+            Entry existing = entries.get(post.getId());
+            if (existing != null) {
+                ranking.remove(existing);
+                PostResponse summary = refreshSummary ? PostResponse.summaryOf(post) : existing.summary();
+                put(new Entry(existing.postId(), Math.max(views, existing.views()), summary));
+                return;
+            }
+            Entry candidate = new Entry(post.getId(), views, null);
+            if (floor != null && RANKING.compare(candidate, floor) >= 0) {
+                return; // Ranks below a post that was left out
+            }
+            if (ranking.size() >= capacity && RANKING.compare(candidate, ranking.last()) > 0) {
+                floor = candidate;
+                return;
+            }
+            put(new Entry(post.getId(), views, PostResponse.summaryOf(post)));
+            if (ranking.size() > capacity) {
+                Entry evicted = ranking.pollLast();
+                entries.remove(evicted.postId());
+                floor = evicted;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(Long postId) {
+        lock.lock();
+        try {
+            Entry removed = entries.remove(postId);
+            if (removed != null) {
+                ranking.remove(removed);
+            }
+            if (removedDuringRebuild != null) {
+                removedDuringRebuild.add(postId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(Entry entry) {
+        ranking.add(entry);
+        entries.put(entry.postId(), entry);
+    }
+
+    // Held summaries are shared, callers get their own copy with the current view count
+    private static PostResponse withViews(PostResponse summary, long views) {
+        return new PostResponse(summary.getId(), summary.getTitle(), null, summary.getSummary(),
+                summary.getAuthor(), summary.getTags(), summary.getCreatedAt(),
+                summary.getUpdatedAt(), summary.isPublished(), (int) Math.min(views, Integer.MAX_VALUE),
+                summary.getVersion());
+    }
+
+    private record Entry(long postId, long views, PostResponse summary) {
+    }
+}
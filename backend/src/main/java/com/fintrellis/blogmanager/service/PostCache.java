@@ -0,0 +1,247 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.event.PostChangedEvent;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Read-through cache of posts by id, bounded by an approximate byte weight rather
+ * than an entry count, since a post's content can be anything up to 10k chars.
+ * Least recently used posts are evicted first; entries also expire after a TTL.
+ * Cached posts are shared between callers and must be treated as read-only.
+ */
+@Singleton
+public class PostCache {
+
+    // Rough heap cost of a BlogPost without its strings: object header, fields, two LocalDateTimes
+    private static final long POST_OVERHEAD = 160;
+    private static final long STRING_OVERHEAD = 48;
+
+    private final long maxWeight;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Guarded by lock
+    private long weight;
+    private long generation;
+    private boolean flushingViews; // A view flush is writing, loads may or may not include its views
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    @Inject
+    public PostCache(PostCacheConfiguration configuration) {
+        this(configuration, System::nanoTime);
+    }
+
+    PostCache(PostCacheConfiguration configuration, LongSupplier nanoClock) {
+        this.maxWeight = configuration.getMaxWeight();
+        this.ttlNanos = configuration.getTtl().toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    // Drop a post once a write to it has been committed
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        invalidate(event.getPostId());
+    }
+
+    // Return the cached post, or load it and cache the result
+    public Optional<BlogPost> get(Long id, Function<Long, Optional<BlogPost>> loader) {
+        Lookup lookup = lookup(id);
+        if (lookup.post() != null) {
+            return Optional.of(lookup.post());
+        }
+        // Load outside the lock so a slow query never blocks cache hits
+        Optional<BlogPost> loaded = loader.apply(id);
+        loaded.ifPresent(post -> put(id, post, lookup.generation()));
+        return loaded;
+    }
+
+    // Same as get, for loaders that complete asynchronously (the reactive read path)
+    public CompletionStage<Optional<BlogPost>> getAsync(Long id, Function<Long, CompletionStage<Optional<BlogPost>>> loader) {
+        Lookup lookup = lookup(id);
+        if (lookup.post() != null) {
+            return CompletableFuture.completedFuture(Optional.of(lookup.post()));
+        }
+        return loader.apply(id).thenApply(loaded -> {
+            loaded.ifPresent(post -> put(id, post, lookup.generation()));
+            return loaded;
+        });
+    }
+
+    // The cached post if there is one, without loading it or counting a lookup
+    public Optional<BlogPost> peek(Long id) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(id);
+            return entry != null && entry.expiresAt - nanoClock.getAsLong() > 0
+                    ? Optional.of(entry.post)
+                    : Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(Long id) {
+        lock.lock();
+        try {
+            generation++;
+            removeEntry(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // A view flush starts writing: posts loaded from now until it ends are not cached
+    public void beginViewFlush() {
+        lock.lock();
+        try {
+            generation++;
+            flushingViews = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Fold flushed view counts into the cached copies instead of dropping hot posts.
+    // Every cached copy was loaded before the flush began, so none includes them yet
+    public void endViewFlush(Map<Long, Long> deltas) {
+        lock.lock();
+        try {
+            generation++;
+            flushingViews = false;
+            deltas.forEach((id, delta) -> {
+                Entry entry = entries.get(id);
+                if (entry != null) {
+                    BlogPost post = entry.post.copy();
+                    post.setViewCount(post.getViewCount() + delta.intValue());
+                    entries.put(id, new Entry(post, entry.weight, entry.expiresAt));
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            generation++;
+            entries.clear();
+            weight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(hits, misses, evictions, expirations, entries.size(), weight, maxWeight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Approximate retained size of a post in bytes
+    static long weigh(BlogPost post) {
+        return POST_OVERHEAD
+                + weigh(post.getTitle())
+                + weigh(post.getContent())
+                + weigh(post.getSummary())
+                + weigh(post.getAuthor())
+                + weigh(post.getTags());
+    }
+
+    private static long weigh(String value) {
+        // Assume two bytes per char, non-Latin-1 content is common in posts
+        return value == null ? 0 : STRING_OVERHEAD + 2L * value.length();
+    }
+
+    // A hit, or a miss with the generation a subsequent load must still see to be cached
+    private Lookup lookup(Long id) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(id);
+            if (entry != null) {
+                if (entry.expiresAt - nanoClock.getAsLong() > 0) {
+                    hits++;
+                    return new Lookup(entry.post, generation);
+                }
+                removeEntry(id);
+                expirations++;
+            }
+            misses++;
+            return new Lookup(null, generation);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(Long id, BlogPost post, long loadGeneration) {
+        long postWeight = weigh(post);
+        if (postWeight > maxWeight) {
+            return;
+        }
+        lock.lock();
+        try {
+            // A write committed while we were loading, the loaded row may already be stale
+            if (generation != loadGeneration || flushingViews) {
+                return;
+            }
+            removeEntry(id);
+            entries.put(id, new Entry(post, postWeight, nanoClock.getAsLong() + ttlNanos));
+            weight += postWeight;
+            evictToFit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictToFit() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (weight > maxWeight && eldest.hasNext()) {
+            weight -= eldest.next().weight;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private void removeEntry(Long id) {
+        Entry removed = entries.remove(id);
+        if (removed != null) {
+            weight -= removed.weight;
+        }
+    }
+
+    private record Entry(BlogPost post, long weight, long expiresAt) {
+    }
+
+    private record Lookup(BlogPost post, long generation) {
+    }
+
+    public record Stats(long hits, long misses, long evictions, long expirations, int size, long weight, long maxWeight) {
+
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.fintrellis.blogmanager.service;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.convert.format.ReadableBytes;
+
+import java.time.Duration;
+
+@ConfigurationProperties("blog.cache.posts")
+public class PostCacheConfiguration {
+
+    private long maxWeight = 32 * 1024 * 1024;
+    private Duration ttl = Duration.ofMinutes(10);
+
+    // Approximate heap budget of the cached posts, in bytes
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public void setMaxWeight(@ReadableBytes long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    // How long a cached post is served before it is loaded again
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+}
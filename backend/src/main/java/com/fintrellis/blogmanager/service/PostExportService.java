@@ -0,0 +1,34 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.repository.PostExportReader;
+import com.fintrellis.blogmanager.repository.PostScroll;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.json.JsonMapper;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.io.InputStream;
+
+/**
+ * Full-collection export of posts for dumps and sync jobs. Posts are read through a
+ * database cursor and serialized while the response is being written, so memory use
+ * does not depend on the number of posts.
+ */
+@Singleton
+public class PostExportService {
+
+    @Inject
+    private PostExportReader postExportReader;
+
+    @Inject
+    private JsonMapper jsonMapper;
+
+    @Value("${blog.export.fetch-size:500}")
+    private int fetchSize;
+
+    // Open the export body, the caller owns the returned stream and must close it
+    public InputStream openExport(ExportFormat format) {
+        PostScroll scroll = postExportReader.openScroll(fetchSize);
+        return new PostExportStream(scroll, scroll, format, jsonMapper);
+    }
+}
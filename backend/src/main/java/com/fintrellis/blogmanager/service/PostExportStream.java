@@ -0,0 +1,133 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.BlogPost;
+import io.micronaut.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * Lazily serializes posts into the export body. Rows are pulled from the cursor only as
+ * the HTTP layer reads, roughly {@link #CHUNK_SIZE} bytes at a time, so at most one chunk
+ * of serialized posts is held in memory. The row source is closed at the end of the body,
+ * on a serialization error, or when the response is abandoned.
+ */
+class PostExportStream extends InputStream {
+
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final byte[] ARRAY_START = "[".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ARRAY_END = "]".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ARRAY_SEPARATOR = ",".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LINE_END = "\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final Iterator<BlogPost> rows;
+    private final AutoCloseable resources;
+    private final ExportFormat format;
+    private final JsonMapper jsonMapper;
+    private final ByteArrayOutputStream chunk = new ByteArrayOutputStream(CHUNK_SIZE + 16 * 1024);
+
+    private byte[] buffer = new byte[0];
+    private int position;
+    private long written;
+    private boolean started;
+    private boolean finished;
+    private boolean closed;
+
+    PostExportStream(Iterator<BlogPost> rows, AutoCloseable resources, ExportFormat format, JsonMapper jsonMapper) {
+        this.rows = rows;
+        this.resources = resources;
+        this.format = format;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return buffer[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(length, buffer.length - position);
+        System.arraycopy(buffer, position, target, offset, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return buffer.length - position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            resources.close();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    // Make sure unread bytes are buffered, serializing the next chunk of rows when needed
+    private boolean fill() throws IOException {
+        while (position == buffer.length) {
+            if (finished) {
+                return false;
+            }
+            try {
+                nextChunk();
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+        return true;
+    }
+
+    private void nextChunk() throws IOException {
+        chunk.reset();
+        if (!started) {
+            started = true;
+            if (format == ExportFormat.JSON) {
+                chunk.write(ARRAY_START);
+            }
+        }
+        while (chunk.size() < CHUNK_SIZE && rows.hasNext()) {
+            if (format == ExportFormat.JSON && written > 0) {
+                chunk.write(ARRAY_SEPARATOR);
+            }
+            chunk.write(jsonMapper.writeValueAsBytes(rows.next()));
+            if (format == ExportFormat.NDJSON) {
+                chunk.write(LINE_END);
+            }
+            written++;
+        }
+        if (!rows.hasNext()) {
+            if (format == ExportFormat.JSON) {
+                chunk.write(ARRAY_END);
+            }
+            close();
+        }
+        buffer = chunk.toByteArray();
+        position = 0;
+    }
+}
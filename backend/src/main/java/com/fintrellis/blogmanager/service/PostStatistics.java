@@ -0,0 +1,175 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.dto.AnalyticsSummary;
+import com.fintrellis.blogmanager.dto.AuthorPostCount;
+import com.fintrellis.blogmanager.event.PostChangedEvent;
+import com.fintrellis.blogmanager.repository.BlogPostRepository;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.scheduling.annotation.Scheduled;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Blog-wide aggregates for the analytics dashboard, kept in memory so a summary costs
+ * no database work. Post counts follow committed {@link PostChangedEvent}s, views are
+ * counted as {@link ViewCountBuffer} records them. The figures are periodically
+ * replaced by fresh aggregate queries to correct any drift. A scan that overlaps a
+ * committed write is retried a few times with growing pauses, since its figures may or
+ * may not include that write.
+ */
+@Singleton
+public class PostStatistics {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostStatistics.class);
+    private static final int RECONCILE_ATTEMPTS = 4;
+    private static final long RECONCILE_BACKOFF_MILLIS = 50;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder totalViews = new LongAdder();
+
+    // Guarded by lock
+    private long totalPosts;
+    private long publishedPosts;
+    private final Map<String, Long> postsByAuthor = new HashMap<>();
+    private long generation;
+    private LocalDateTime reconciledAt;
+
+    @Inject
+    private BlogPostRepository blogPostRepository;
+
+    // Provider breaks the cycle with ViewCountBuffer, which reports views to this bean
+    @Inject
+    private Provider<ViewCountBuffer> viewCountBuffer;
+
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        reconcile();
+    }
+
+    // Apply the difference between the post before and after a committed write
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        lock.lock();
+        try {
+            generation++;
+            if (event.getPrevious() != null) {
+                count(event.getPrevious(), -1);
+            }
+            if (event.getPost() != null) {
+                count(event.getPost(), 1);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (event.getType() == PostChangedEvent.Type.DELETED) {
+            totalViews.add(-event.getPrevious().getViewCount());
+        }
+    }
+
+    public void recordView() {
+        totalViews.increment();
+    }
+
+    // Buffered views of a deleted post that will never reach the database
+    public void discardViews(long views) {
+        totalViews.add(-views);
+    }
+
+    // Replace the in-memory figures with database aggregates plus views not yet flushed
+    @Scheduled(fixedDelay = "${blog.analytics.reconcile-interval:10m}", initialDelay = "${blog.analytics.reconcile-interval:10m}")
+    public void reconcile() {
+        for (int attempt = 0; attempt < RECONCILE_ATTEMPTS; attempt++) {
+            if (attempt > 0 && !backOff(attempt)) {
+                return;
+            }
+            if (tryReconcile()) {
+                return;
+            }
+        }
+        LOG.debug("Posts kept changing during analytics reconciliation, retrying on next run");
+    }
+
+    // False when a write committed during the scan, the incremental figures are then kept
+    private boolean tryReconcile() {
+        long startGeneration;
+        lock.lock();
+        try {
+            startGeneration = generation;
+        } finally {
+            lock.unlock();
+        }
+
+        long total = blogPostRepository.count();
+        long published = blogPostRepository.countByPublishedTrue();
+        List<AuthorPostCount> authors = blogPostRepository.countPostsByAuthor();
+        long views = viewCountBuffer.get().totalViews(blogPostRepository::sumViewCount);
+        long recordedViews = totalViews.sum(); // Views recorded from here on are added on top of the correction
+
+        lock.lock();
+        try {
+            if (generation != startGeneration) {
+                return false;
+            }
+            totalPosts = total;
+            publishedPosts = published;
+            postsByAuthor.clear();
+            for (AuthorPostCount author : authors) {
+                postsByAuthor.put(author.getAuthor(), author.getPosts());
+            }
+            totalViews.add(views - recordedViews);
+            reconciledAt = LocalDateTime.now();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean backOff(int attempt) {
+        try {
+            Thread.sleep(RECONCILE_BACKOFF_MILLIS << (attempt - 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public AnalyticsSummary summary() {
+        lock.lock();
+        try {
+            Map<String, Long> authors = new LinkedHashMap<>();
+            postsByAuthor.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .forEach(entry -> authors.put(entry.getKey(), entry.getValue()));
+            return new AnalyticsSummary(totalPosts, publishedPosts, totalViews.sum(), authors, reconciledAt);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void count(BlogPost post, int delta) {
+        totalPosts += delta;
+        if (post.isPublished()) {
+            publishedPosts += delta;
+        }
+        String author = post.getAuthor();
+        if (author != null && !author.isBlank()) {
+            postsByAuthor.merge(author, (long) delta, Long::sum);
+            postsByAuthor.remove(author, 0L);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.PostTag;
+import com.fintrellis.blogmanager.Tag;
+import com.fintrellis.blogmanager.event.PostChangedEvent;
+import com.fintrellis.blogmanager.repository.BlogPostRepository;
+import com.fintrellis.blogmanager.repository.PostTagRepository;
+import com.fintrellis.blogmanager.repository.TagRepository;
+import com.fintrellis.blogmanager.repository.TagWriter;
+import com.fintrellis.blogmanager.search.TagIndex;
+import com.fintrellis.blogmanager.search.TagNames;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the normalized tags / post_tags tables in sync with {@code BlogPost.tags}.
+ * The free-form string stays the API contract; the relation is derived from it.
+ * The service calls {@link #sync} with the changes of each write, a batch with all of its changes at once.
+ */
+@Singleton
+public class PostTagSynchronizer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostTagSynchronizer.class);
+    private static final int BATCH_SIZE = 500;
+
+    @Inject
+    private BlogPostRepository blogPostRepository;
+
+    @Inject
+    private TagRepository tagRepository;
+
+    @Inject
+    private PostTagRepository postTagRepository;
+
+    @Inject
+    private TagWriter tagWriter;
+
+    @Inject
+    private TagIndex tagIndex;
+
+    // Called by the service inside the writing transaction, so the relation commits or rolls back with the posts.
+    // A batch is synchronized as a whole: one dictionary lookup for all its tags and one insert batch for all new links
+    @Transactional
+    public void sync(List<PostChangedEvent> events) {
+        Map<Long, BlogPost> before = new HashMap<>();
+        Map<Long, BlogPost> after = new LinkedHashMap<>();
+        List<Long> deleted = new ArrayList<>();
+        for (PostChangedEvent event : events) {
+            switch (event.getType()) {
+                case CREATED, UPDATED -> {
+                    // A post written twice in one batch is compared once, from its first previous state to its last one
+                    if (!before.containsKey(event.getPostId())) {
+                        before.put(event.getPostId(), event.getPrevious());
+                    }
+                    after.put(event.getPostId(), event.getPost());
+                }
+                case DELETED -> {
+                    after.remove(event.getPostId());
+                    deleted.add(event.getPostId());
+                }
+                case PUBLISH_TOGGLED -> {
+                    // Tags are unchanged
+                }
+            }
+        }
+        if (!deleted.isEmpty()) {
+            postTagRepository.deleteByPostIdIn(deleted);
+        }
+        link(before, after.values());
+    }
+
+    // Normalize posts written before the relation existed, then load the bitmap index
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        backfill();
+        rebuildIndex();
+    }
+
+    public void backfill() {
+        long lastId = 0;
+        int linked = 0;
+        List<BlogPost> batch;
+        do {
+            batch = blogPostRepository.findUntaggedBatchAfterId(lastId, Pageable.from(0, BATCH_SIZE));
+            if (!batch.isEmpty()) {
+                linkAll(batch);
+                lastId = batch.get(batch.size() - 1).getId();
+                linked += batch.size();
+            }
+        } while (batch.size() == BATCH_SIZE);
+        if (linked > 0) {
+            LOG.info("Normalized tags of {} existing posts", linked);
+        }
+    }
+
+    public void rebuildIndex() {
+        Map<Long, String> tagNames = new HashMap<>();
+        for (Tag tag : tagRepository.findAll()) {
+            tagNames.put(tag.getId(), tag.getName());
+        }
+        tagIndex.clear();
+        long lastPostId = 0;
+        long lastTagId = 0;
+        List<PostTag> batch;
+        do {
+            batch = postTagRepository.findBatchAfter(lastPostId, lastTagId, Pageable.from(0, BATCH_SIZE));
+            for (PostTag postTag : batch) {
+                lastPostId = postTag.getId().getPostId();
+                lastTagId = postTag.getId().getTagId();
+                tagIndex.add(lastPostId, tagNames.get(lastTagId));
+            }
+        } while (batch.size() == BATCH_SIZE);
+    }
+
+    @Transactional
+    public void linkAll(List<BlogPost> posts) {
+        link(Map.of(), posts); // Backfilled posts have no links yet
+    }
+
+    // Write only the difference between the tags before and after the write; most updates leave them alone
+    private void link(Map<Long, BlogPost> previous, Collection<BlogPost> posts) {
+        Map<Long, List<String>> added = new LinkedHashMap<>();
+        Set<String> addedNames = new LinkedHashSet<>();
+        for (BlogPost post : posts) {
+            BlogPost old = previous.get(post.getId());
+            Set<String> before = new LinkedHashSet<>(TagNames.parse(old != null ? old.getTags() : null));
+            Set<String> after = new LinkedHashSet<>(TagNames.parse(post.getTags()));
+            if (before.equals(after)) {
+                continue;
+            }
+            List<String> removed = before.stream().filter(name -> !after.contains(name)).toList();
+            if (!removed.isEmpty()) {
+                postTagRepository.deleteByPostIdAndTagNames(post.getId(), removed);
+            }
+            List<String> names = after.stream().filter(name -> !before.contains(name)).toList();
+            if (!names.isEmpty()) {
+                added.put(post.getId(), names);
+                addedNames.addAll(names);
+            }
+        }
+        if (added.isEmpty()) {
+            return;
+        }
+        Map<String, Tag> tags = resolve(new ArrayList<>(addedNames));
+        List<PostTag> links = new ArrayList<>();
+        added.forEach((postId, names) -> names.forEach(name -> links.add(new PostTag(postId, tags.get(name).getId()))));
+        postTagRepository.saveAll(links); // Inserted as JDBC batches at flush
+    }
+
+    // Look up dictionary entries, creating the missing ones. Two posts adding the same new tag at once
+    // both insert it; the loser's insert is skipped, so it reads the winner's row instead of failing
+    private Map<String, Tag> resolve(List<String> names) {
+        Map<String, Tag> existing = new HashMap<>();
+        for (Tag tag : tagRepository.findByNameIn(names)) {
+            existing.put(tag.getName(), tag);
+        }
+        List<String> missing = names.stream().filter(name -> !existing.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            tagWriter.insertMissing(missing);
+            for (Tag tag : tagRepository.findByNameIn(missing)) {
+                existing.put(tag.getName(), tag);
+            }
+        }
+        return existing;
+    }
+}
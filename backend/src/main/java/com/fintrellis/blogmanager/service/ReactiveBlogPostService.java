@@ -0,0 +1,325 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.PostContent;
+import com.fintrellis.blogmanager.dto.AnalyticsSummary;
+import com.fintrellis.blogmanager.dto.AuthorPostCount;
+import com.fintrellis.blogmanager.dto.PostResponse;
+import com.fintrellis.blogmanager.exception.BlogPostNotFoundException;
+import com.fintrellis.blogmanager.exception.ValidationException;
+import com.fintrellis.blogmanager.repository.ReactiveBlogPostRepository;
+import com.fintrellis.blogmanager.repository.ReactivePostContentRepository;
+import com.fintrellis.blogmanager.search.SearchBackend;
+import com.fintrellis.blogmanager.search.SearchField;
+import com.fintrellis.blogmanager.search.SearchHit;
+import com.fintrellis.blogmanager.search.TagNames;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.json.JsonMapper;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Non-blocking counterpart of the read side of {@link BlogPostService}, backed by R2DBC.
+ * Active in the {@code reactive} environment, where the node serves reads only and never
+ * blocks a Netty event loop thread.
+ * <p>
+ * Writes happen on other nodes, so this one never sees a {@code PostChangedEvent}. Every
+ * read therefore goes to the database: single posts are not cached, and tag searches,
+ * tag counts, popular posts and analytics are queried instead of taken from the
+ * in-memory index, leaderboard and aggregates. Searches use a database backend, see
+ * application-reactive.properties. Only views recorded on this node are held in memory
+ * until {@link ViewCountBuffer} flushes them.
+ */
+@Singleton
+@Requires(env = ReactiveBlogPostService.ENVIRONMENT)
+public class ReactiveBlogPostService {
+
+    public static final String ENVIRONMENT = "reactive";
+
+    private static final byte[] ARRAY_START = "[".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ARRAY_END = "]".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ARRAY_SEPARATOR = ",".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LINE_END = "\n".getBytes(StandardCharsets.US_ASCII);
+    private static final int EXPORT_BATCH_SIZE = 500;
+    private static final Duration FLUSH_RETRY_DELAY = Duration.ofMillis(10); // A view flush is one batch update
+
+    @Inject
+    private ReactiveBlogPostRepository reactiveBlogPostRepository;
+
+    @Inject
+    private ReactivePostContentRepository reactivePostContentRepository;
+
+    @Inject
+    private ViewCountBuffer viewCountBuffer;
+
+    @Inject
+    private PaginationConfiguration paginationConfiguration;
+
+    @Inject
+    private SearchBackend searchBackend;
+
+    @Inject
+    private JsonMapper jsonMapper;
+
+    // READ - Get all posts, newest first, one page at a time
+    public Mono<CursorPage<PostResponse>> getAllPosts(String cursor, Integer limit, String fields) {
+        return Mono.defer(() -> {
+            int size = paginationConfiguration.resolvePageSize(limit);
+            PageCursor after = PageCursor.decode(cursor, PageCursor.Order.CREATED_AT);
+            Flux<PostResponse> rows = BlogPostService.includeContent(fields)
+                    ? withContent(reactiveBlogPostRepository.findPageByCreatedAt(after.createdAt(), after.id(), size + 1)).map(PostResponse::from)
+                    : reactiveBlogPostRepository.findSummaryPageByCreatedAt(after.createdAt(), after.id(), size + 1);
+            return toPage(rows, size);
+        });
+    }
+
+    // READ - Get all published posts
+    public Mono<CursorPage<PostResponse>> getAllPublishedPosts(String cursor, Integer limit, String fields) {
+        return Mono.defer(() -> {
+            int size = paginationConfiguration.resolvePageSize(limit);
+            PageCursor after = PageCursor.decode(cursor, PageCursor.Order.CREATED_AT);
+            Flux<PostResponse> rows = BlogPostService.includeContent(fields)
+                    ? withContent(reactiveBlogPostRepository.findPublishedPageByCreatedAt(after.createdAt(), after.id(), size + 1)).map(PostResponse::from)
+                    : reactiveBlogPostRepository.findPublishedSummaryPageByCreatedAt(after.createdAt(), after.id(), size + 1);
+            return toPage(rows, size);
+        });
+    }
+
+    // READ - Get posts by author
+    public Mono<CursorPage<PostResponse>> getPostsByAuthor(String author, String cursor, Integer limit, String fields) {
+        return Mono.defer(() -> {
+            if (author == null || author.trim().isEmpty()) {
+                throw new ValidationException("Author name cannot be empty");
+            }
+            int size = paginationConfiguration.resolvePageSize(limit);
+            PageCursor after = PageCursor.decode(cursor, PageCursor.Order.CREATED_AT);
+            Flux<PostResponse> rows = BlogPostService.includeContent(fields)
+                    ? withContent(reactiveBlogPostRepository.findAuthorPageByCreatedAt(author.trim(), after.createdAt(), after.id(), size + 1)).map(PostResponse::from)
+                    : reactiveBlogPostRepository.findAuthorSummaryPageByCreatedAt(author.trim(), after.createdAt(), after.id(), size + 1);
+            return toPage(rows, size);
+        });
+    }
+
+    // READ - Get post by ID, always read from the database
+    public Mono<BlogPost> getPostById(Long id) {
+        return loadWithContent(id)
+                .switchIfEmpty(Mono.error(() -> new BlogPostNotFoundException(id)));
+    }
+
+    // READ - Get post by ID and record a view; views are buffered in memory and flushed by ViewCountBuffer
+    public Mono<BlogPost> getPostByIdWithViewCount(Long id) {
+        return Mono.defer(() -> {
+            long generation = viewCountBuffer.flushGeneration();
+            return getPostById(id).flatMap(post -> {
+                viewCountBuffer.increment(id);
+                return withPendingViews(id, post, generation);
+            });
+        });
+    }
+
+    // Adds the views not flushed yet. While a flush ran since the post was read, its views may be in
+    // both or in neither, so the post is read again once the flush is done
+    private Mono<BlogPost> withPendingViews(Long id, BlogPost post, long generation) {
+        long pending = viewCountBuffer.pendingViews(id);
+        if (!viewCountBuffer.flushedSince(generation)) {
+            post.setViewCount(post.getViewCount() + (int) pending);
+            return Mono.just(post);
+        }
+        return Mono.delay(FLUSH_RETRY_DELAY).then(Mono.defer(() -> {
+            long next = viewCountBuffer.flushGeneration();
+            return getPostById(id).flatMap(reloaded -> withPendingViews(id, reloaded, next));
+        }));
+    }
+
+    // Every post as one JSON array or as NDJSON; rows are read from the driver only as the response is written,
+    // their bodies one query per batch of posts
+    public Flux<byte[]> exportPosts(ExportFormat format) {
+        Flux<byte[]> posts = reactiveBlogPostRepository.findAllOrderById()
+                .buffer(EXPORT_BATCH_SIZE)
+                .concatMap(batch -> withContent(Flux.fromIterable(batch)))
+                .index()
+                .map(indexed -> {
+                    byte[] json = serialize(indexed.getT2());
+                    if (format == ExportFormat.NDJSON) {
+                        return concat(json, LINE_END);
+                    }
+                    return indexed.getT1() == 0 ? json : concat(ARRAY_SEPARATOR, json);
+                });
+        return format == ExportFormat.NDJSON ? posts : Flux.concat(Mono.just(ARRAY_START), posts, Mono.just(ARRAY_END));
+    }
+
+    // SEARCH
+
+    public Mono<CursorPage<BlogPost>> searchByTitle(String title, String cursor, Integer limit) {
+        return Mono.defer(() -> {
+            if (title == null || title.trim().isEmpty()) {
+                throw new ValidationException("Search title cannot be empty");
+            }
+            return search(SearchField.TITLE, title.trim(), cursor, limit);
+        });
+    }
+
+    public Mono<CursorPage<BlogPost>> searchByContent(String content, String cursor, Integer limit) {
+        return Mono.defer(() -> {
+            if (content == null || content.trim().isEmpty()) {
+                throw new ValidationException("Search content cannot be empty");
+            }
+            return search(SearchField.CONTENT, content.trim(), cursor, limit);
+        });
+    }
+
+    public Mono<CursorPage<BlogPost>> searchByTags(String tags, String match, String cursor, Integer limit) {
+        return Mono.defer(() -> {
+            List<String> names = TagNames.parse(tags);
+            if (names.isEmpty()) {
+                throw new ValidationException("Search tag cannot be empty");
+            }
+            boolean matchAll = BlogPostService.resolveTagMatch(match);
+            int size = paginationConfiguration.resolvePageSize(limit);
+            PageCursor after = PageCursor.decode(cursor, PageCursor.Order.SCORE);
+            return reactiveBlogPostRepository.findIdsByTagNames(names, matchAll ? names.size() : 1, after.id(), size + 1)
+                    .map(postId -> new SearchHit(postId, 0))
+                    .collectList()
+                    .flatMap(hits -> loadHits(hits, size));
+        });
+    }
+
+    // Most viewed published posts; fields=full loads the bodies reactively
+    public Mono<CursorPage<PostResponse>> getMostPopularPosts(Integer limit, String fields) {
+        return Mono.defer(() -> {
+            int size = paginationConfiguration.resolvePageSize(limit);
+            return reactiveBlogPostRepository.findMostViewedPublishedSummaries(size).collectList().flatMap(top -> {
+                if (!BlogPostService.includeContent(fields) || top.isEmpty()) {
+                    return Mono.just(new CursorPage<>(top, null));
+                }
+                return withContent(reactiveBlogPostRepository.findByIdIn(top.stream().map(PostResponse::getId).toList()))
+                        .collectMap(BlogPost::getId)
+                        .map(postsById -> new CursorPage<>(BlogPostService.withContent(top, postsById), null));
+            });
+        });
+    }
+
+    // ANALYTICS
+
+    // Number of posts per tag, most used first
+    public Mono<Map<String, Integer>> getTagCounts() {
+        return reactiveBlogPostRepository.countPostsByTag()
+                .<Map<String, Integer>>collect(LinkedHashMap::new, (counts, tag) -> counts.put(tag.getName(), Math.toIntExact(tag.getPosts())));
+    }
+
+    // The figures of PostStatistics, aggregated by the database; views include those buffered on this node
+    public Mono<AnalyticsSummary> getAnalyticsSummary() {
+        return Mono.zip(reactiveBlogPostRepository.count(), reactiveBlogPostRepository.countByPublishedTrue(),
+                        reactiveBlogPostRepository.sumViewCount(), reactiveBlogPostRepository.countPostsByAuthor().collectList())
+                .map(figures -> {
+                    Map<String, Long> authors = new LinkedHashMap<>();
+                    figures.getT4().stream()
+                            .sorted(Comparator.comparingLong(AuthorPostCount::getPosts).reversed().thenComparing(AuthorPostCount::getAuthor))
+                            .forEach(author -> authors.put(author.getAuthor(), author.getPosts()));
+                    return new AnalyticsSummary(figures.getT1(), figures.getT2(),
+                            figures.getT3() + viewCountBuffer.pendingViews(), authors, LocalDateTime.now());
+                });
+    }
+
+    public Mono<Long> getTotalPostsCount() {
+        return reactiveBlogPostRepository.count();
+    }
+
+    public Mono<Long> getPublishedPostsCount() {
+        return reactiveBlogPostRepository.countByPublishedTrue();
+    }
+
+    public Mono<Long> getPostsCountByAuthor(String author) {
+        return Mono.defer(() -> {
+            if (author == null || author.trim().isEmpty()) {
+                throw new ValidationException("Author name cannot be empty");
+            }
+            return reactiveBlogPostRepository.countByAuthor(author.trim());
+        });
+    }
+
+    // PRIVATE HELPERS
+
+    // Pages are bounded by the maximum page size, so the rows are requested in a single batch
+    private Mono<CursorPage<PostResponse>> toPage(Flux<PostResponse> rows, int size) {
+        return rows.limitRate(size + 1)
+                .collectList()
+                .map(items -> BlogPostService.toPage(items, size, PageCursor.Order.CREATED_AT));
+    }
+
+    private Mono<CursorPage<BlogPost>> search(SearchField field, String query, String cursor, Integer limit) {
+        int size = paginationConfiguration.resolvePageSize(limit);
+        PageCursor after = PageCursor.decode(cursor, PageCursor.Order.SCORE);
+        return rank(() -> searchBackend.search(field, query, after.score(), after.id(), size + 1))
+                .flatMap(hits -> loadHits(hits, size));
+    }
+
+    // The in-process index answers from memory; database backends block, so they run on the bounded elastic scheduler
+    private Mono<List<SearchHit>> rank(Callable<List<SearchHit>> search) {
+        Mono<List<SearchHit>> hits = Mono.fromCallable(search);
+        return searchBackend.isBlocking() ? hits.subscribeOn(Schedulers.boundedElastic()) : hits;
+    }
+
+    private Mono<CursorPage<BlogPost>> loadHits(List<SearchHit> hits, int size) {
+        List<Long> ids = hits.stream().limit(size).map(SearchHit::getPostId).toList();
+        if (ids.isEmpty()) {
+            return Mono.just(new CursorPage<>(List.of(), null));
+        }
+        return withContent(reactiveBlogPostRepository.findByIdIn(ids))
+                .collectMap(BlogPost::getId)
+                .map(postsById -> BlogPostService.toHitPage(hits, size, postsById));
+    }
+
+    // A post and its body, read concurrently; empty when the post does not exist
+    private Mono<BlogPost> loadWithContent(Long id) {
+        return Mono.zip(reactiveBlogPostRepository.findById(id), reactivePostContentRepository.findContentByPostId(id),
+                (post, content) -> {
+                    post.loadContent(content);
+                    return post;
+                });
+    }
+
+    // Fill in the bodies of a bounded list of posts with one more query, keeping the post order
+    private Flux<BlogPost> withContent(Flux<BlogPost> posts) {
+        return posts.collectList().flatMapMany(list -> {
+            if (list.isEmpty()) {
+                return Flux.empty();
+            }
+            return reactivePostContentRepository.findByPostIdIn(list.stream().map(BlogPost::getId).toList())
+                    .collectMap(PostContent::getPostId, PostContent::getContent)
+                    .flatMapIterable(contents -> {
+                        list.forEach(post -> post.loadContent(contents.get(post.getId())));
+                        return list;
+                    });
+        });
+    }
+
+    private byte[] serialize(BlogPost post) {
+        try {
+            return jsonMapper.writeValueAsBytes(post);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize post " + post.getId(), e);
+        }
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] joined = new byte[first.length + second.length];
+        System.arraycopy(first, 0, joined, 0, first.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
+}
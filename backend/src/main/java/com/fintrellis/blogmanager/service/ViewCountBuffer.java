@@ -0,0 +1,192 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.event.PostChangedEvent;
+import com.fintrellis.blogmanager.repository.ViewCountWriter;
+import io.micronaut.scheduling.annotation.Scheduled;
+import io.micronaut.transaction.annotation.TransactionalEventListener;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Collects post views in memory and writes them to the database in batches.
+ * Each post gets its own {@link LongAdder}, so concurrent readers of the same
+ * post never contend on a row lock or lose increments. Counters of posts that
+ * were not viewed since the previous flush are removed, so the buffer only
+ * holds recently viewed posts.
+ * <p>
+ * A view count read from the database while a flush writes may or may not
+ * include the flushed views. Readers that add {@link #pendingViews(Long)} to
+ * such a count check {@link #flushedSince(long)} and read both again.
+ */
+@Singleton
+public class ViewCountBuffer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ViewCountBuffer.class);
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Map<Long, Long> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // Odd while a flush moves views from the buffer to the database
+    private final AtomicLong flushGeneration = new AtomicLong();
+
+    // Guarded by flushLock. Counters removed by the previous flush, summed once more by the next one
+    // to pick up increments from readers that fetched the counter just before it was removed
+    private List<Map.Entry<Long, LongAdder>> retired = new ArrayList<>();
+
+    @Inject
+    private ViewCountWriter viewCountWriter;
+
+    @Inject
+    private PostCache postCache;
+
+    @Inject
+    private PostStatistics postStatistics;
+
+    @Inject
+    private ChangeTracker changeTracker;
+
+    // Record one view of a post
+    public void increment(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+        postStatistics.recordView();
+    }
+
+    // Views recorded for a post that are not yet visible in the database
+    public long pendingViews(Long postId) {
+        LongAdder buffered = pending.get(postId);
+        long count = buffered == null ? 0 : buffered.sum();
+        return count + inFlight.getOrDefault(postId, 0L);
+    }
+
+    // Views recorded for all posts that are not yet visible in the database
+    public long pendingViews() {
+        long count = 0;
+        for (LongAdder buffered : pending.values()) {
+            count += buffered.sum();
+        }
+        for (long delta : inFlight.values()) {
+            count += delta;
+        }
+        return count;
+    }
+
+    // Read before the view count of a post, to be passed to flushedSince afterwards
+    public long flushGeneration() {
+        return flushGeneration.get();
+    }
+
+    // Whether a flush ran, or was running, since the generation was read. A view count read from the
+    // database after the generation plus pendingViews may then count the flushed views twice or miss them
+    public boolean flushedSince(long generation) {
+        return (generation & 1) != 0 || flushGeneration.get() != generation;
+    }
+
+    // Blocks until a running flush has finished
+    public void awaitFlush() {
+        flushLock.lock();
+        flushLock.unlock();
+    }
+
+    // Views in the database, as read by the given query, plus those not flushed yet. No flush runs in
+    // between, so views being written while the query runs are counted exactly once
+    public long totalViews(LongSupplier flushedViews) {
+        flushLock.lock();
+        try {
+            return flushedViews.getAsLong() + pendingViews();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // A deleted post gets no more flushes, drop its counter once the delete has committed
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.DELETED) {
+            discard(event.getPostId());
+        }
+    }
+
+    // Number of posts that currently have a counter
+    int bufferedPosts() {
+        return pending.size();
+    }
+
+    // Drop buffered views of a deleted post
+    public void discard(Long postId) {
+        LongAdder discarded = pending.remove(postId);
+        if (discarded != null) {
+            postStatistics.discardViews(discarded.sum());
+        }
+    }
+
+    // Write all buffered views as one batch of relative updates
+    @Scheduled(fixedDelay = "${blog.views.flush-interval:5s}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushGeneration.incrementAndGet(); // Readers retry from here, views are between pending and inFlight
+            Map<Long, Long> deltas = drain();
+            if (deltas.isEmpty()) {
+                flushGeneration.incrementAndGet();
+                return;
+            }
+            inFlight.putAll(deltas);
+            postCache.beginViewFlush();
+            Map<Long, Long> flushed = Map.of();
+            try {
+                viewCountWriter.writeDeltas(deltas);
+                flushed = deltas;
+                changeTracker.touch(); // List responses show view counts
+                LOG.debug("Flushed view counts for {} posts", deltas.size());
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to flush view counts for {} posts, retrying on next run", deltas.size(), e);
+                deltas.forEach((postId, delta) -> pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+            } finally {
+                postCache.endViewFlush(flushed);
+                inFlight.clear();
+                flushGeneration.incrementAndGet();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // Flush remaining views before the application stops
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : retired) {
+            long late = entry.getValue().sum();
+            if (late > 0) {
+                deltas.merge(entry.getKey(), late, Long::sum);
+            }
+        }
+        retired = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                deltas.merge(entry.getKey(), delta, Long::sum);
+            } else if (pending.remove(entry.getKey(), entry.getValue())) {
+                retired.add(Map.entry(entry.getKey(), entry.getValue())); // Not viewed since the last flush
+            }
+        }
+        return deltas;
+    }
+}
@@ -0,0 +1,36 @@
+package com.fintrellis.blogmanager.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ContentCodingTest {
+
+    @Test
+    void testNegotiate_nothingAccepted() {
+        assertEquals(Optional.empty(), ContentCoding.negotiate(null));
+        assertEquals(Optional.empty(), ContentCoding.negotiate(""));
+        assertEquals(Optional.empty(), ContentCoding.negotiate("identity"));
+        assertEquals(Optional.empty(), ContentCoding.negotiate("gzip;q=0, deflate"));
+    }
+
+    @Test
+    void testNegotiate_gzip() {
+        assertEquals(Optional.of(ContentCoding.GZIP), ContentCoding.negotiate("gzip"));
+        assertEquals(Optional.of(ContentCoding.GZIP), ContentCoding.negotiate("deflate, GZIP;q=0.8"));
+        assertEquals(Optional.of(ContentCoding.GZIP), ContentCoding.negotiate("br;q=0, *"));
+        assertEquals(Optional.of(ContentCoding.GZIP), ContentCoding.negotiate("br;q=0.5, gzip;q=0.9"));
+    }
+
+    @Test
+    void testNegotiate_brotliPreferredOnTies() {
+        assumeTrue(ContentCoding.BROTLI.isAvailable(), "no brotli native library for this platform");
+
+        assertEquals(Optional.of(ContentCoding.BROTLI), ContentCoding.negotiate("gzip, deflate, br"));
+        assertEquals(Optional.of(ContentCoding.BROTLI), ContentCoding.negotiate("*"));
+        assertEquals(Optional.of(ContentCoding.BROTLI), ContentCoding.negotiate("gzip;q=0.5, br;q=0.6"));
+    }
+}
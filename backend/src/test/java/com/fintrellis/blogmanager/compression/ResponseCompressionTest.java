@@ -0,0 +1,126 @@
+package com.fintrellis.blogmanager.compression;
+
+import com.aayushatharva.brotli4j.decoder.Decoder;
+import com.aayushatharva.brotli4j.decoder.DecoderJNI;
+import com.aayushatharva.brotli4j.decoder.DirectDecompress;
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.service.BlogPostService;
+import io.micronaut.runtime.server.EmbeddedServer;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Raw requests through the JDK client, which leaves compressed bodies as they were sent
+@MicronautTest(environments = "test", transactional = false)
+class ResponseCompressionTest {
+
+    @Inject
+    EmbeddedServer server;
+
+    @Inject
+    BlogPostService blogPostService;
+
+    @Inject
+    CompressedBodyCache compressedBodyCache;
+
+    private final HttpClient rawClient = HttpClient.newHttpClient();
+
+    private BlogPost post;
+
+    @BeforeEach
+    void setUp() {
+        BlogPost newPost = new BlogPost("Compressed post", "Repetitive content compresses well. ".repeat(200));
+        newPost.setPublished(true);
+        post = blogPostService.createPost(newPost);
+    }
+
+    @Test
+    void testGetPostById_gzipServedFromCacheOnRepeat() throws Exception {
+        HttpResponse<byte[]> first = get("/api/posts/" + post.getId(), "gzip");
+        CompressedBodyCache.Stats before = compressedBodyCache.stats();
+        HttpResponse<byte[]> second = get("/api/posts/" + post.getId(), "gzip");
+        CompressedBodyCache.Stats after = compressedBodyCache.stats();
+
+        assertEquals(200, first.statusCode());
+        assertEquals("gzip", first.headers().firstValue("Content-Encoding").orElse(null));
+        assertTrue(first.headers().firstValue("Vary").orElse("").contains("Accept-Encoding"));
+        String json = gunzip(first.body());
+        assertTrue(json.contains("\"title\":\"Compressed post\""));
+        assertTrue(first.body().length < json.length() / 4);
+
+        assertArrayEquals(first.body(), second.body());
+        assertEquals(before.hits() + 1, after.hits());
+        assertTrue(after.savedNanos() > before.savedNanos());
+    }
+
+    @Test
+    void testGetPostById_identityWithoutAcceptEncoding() {
+        HttpResponse<byte[]> response = get("/api/posts/" + post.getId(), null);
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Encoding").isEmpty());
+        assertTrue(new String(response.body(), StandardCharsets.UTF_8).contains("\"title\":\"Compressed post\""));
+    }
+
+    @Test
+    void testSmallBodies_notCompressed() {
+        HttpResponse<byte[]> response = get("/api/posts/analytics/total", "gzip");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Encoding").isEmpty());
+        assertTrue(Long.parseLong(new String(response.body(), StandardCharsets.UTF_8)) >= 1);
+    }
+
+    @Test
+    void testPublishedList_brotliWhenPreferred() {
+        assumeTrue(ContentCoding.BROTLI.isAvailable(), "no brotli native library for this platform");
+
+        HttpResponse<byte[]> response = get("/api/posts/published?fields=full", "gzip;q=0.5, br");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("br", response.headers().firstValue("Content-Encoding").orElse(null));
+        DirectDecompress decompressed = assertDoesNotThrow(() -> Decoder.decompress(response.body()));
+        assertEquals(DecoderJNI.Status.DONE, decompressed.getResultStatus());
+        assertTrue(new String(decompressed.getDecompressedData(), StandardCharsets.UTF_8).contains("Compressed post"));
+    }
+
+    @Test
+    void testUpdatedPost_notServedFromStaleCacheEntry() throws Exception {
+        get("/api/posts/" + post.getId(), "gzip");
+        blogPostService.updatePost(post.getId(), new BlogPost("Renamed post", post.getContent()));
+
+        HttpResponse<byte[]> response = get("/api/posts/" + post.getId(), "gzip");
+
+        assertTrue(gunzip(response.body()).contains("\"title\":\"Renamed post\""));
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(server.getURI().resolve(path));
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        try {
+            return rawClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException | InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
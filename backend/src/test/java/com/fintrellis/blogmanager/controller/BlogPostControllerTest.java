@@ -2,10 +2,15 @@ package com.fintrellis.blogmanager.controller;
 
 import com.fintrellis.blogmanager.BlogPost;
 import com.fintrellis.blogmanager.dto.CreatePostRequest;
+import com.fintrellis.blogmanager.dto.PatchPostRequest;
+import com.fintrellis.blogmanager.dto.PostResponse;
 import com.fintrellis.blogmanager.dto.UpdatePostRequest;
 import com.fintrellis.blogmanager.exception.BlogPostNotFoundException;
+import com.fintrellis.blogmanager.exception.ConflictException;
 import com.fintrellis.blogmanager.service.BlogPostService;
+import com.fintrellis.blogmanager.service.CursorPage;
 import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
@@ -25,6 +30,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @MicronautTest(environments = "test")
@@ -80,18 +86,37 @@ class BlogPostControllerTest {
 
     @Test
     void testGetAllPosts_success() {
-        BlogPost post1 = new BlogPost("Title 1", "Content 1");
-        BlogPost post2 = new BlogPost("Title 2", "Content 2");
-        when(mockedBlogPostService.getAllPosts()).thenReturn(Arrays.asList(post1, post2));
+        PostResponse post1 = PostResponse.from(new BlogPost("Title 1", null));
+        PostResponse post2 = PostResponse.from(new BlogPost("Title 2", null));
+        when(mockedBlogPostService.getAllPosts(isNull(), isNull(), isNull()))
+                .thenReturn(new CursorPage<>(Arrays.asList(post1, post2), null));
 
-        HttpResponse<List<BlogPost>> response = client.toBlocking().exchange(
+        HttpResponse<String> response = client.toBlocking().exchange(
                 HttpRequest.GET("/api/posts"),
-                Argument.listOf(BlogPost.class));
+                String.class);
 
         assertEquals(HttpStatus.OK, response.getStatus());
         assertNotNull(response.getBody().orElse(null));
-        assertEquals(2, response.getBody().get().size());
-        verify(mockedBlogPostService, times(1)).getAllPosts();
+        assertTrue(response.getBody().get().contains("Title 2"));
+        assertFalse(response.getBody().get().contains("\"content\"")); // Unloaded content is left out of the JSON
+        assertNull(response.getHeaders().get("X-Next-Cursor")); // Last page has no cursor
+        verify(mockedBlogPostService, times(1)).getAllPosts(null, null, null);
+    }
+
+    @Test
+    void testGetAllPosts_nextCursorHeader() {
+        PostResponse post = PostResponse.from(new BlogPost("Title 1", "Content 1"));
+        when(mockedBlogPostService.getAllPosts(eq("abc"), eq(1), eq("full")))
+                .thenReturn(new CursorPage<>(List.of(post), "def"));
+
+        HttpResponse<List<PostResponse>> response = client.toBlocking().exchange(
+                HttpRequest.GET("/api/posts?cursor=abc&limit=1&fields=full"),
+                Argument.listOf(PostResponse.class));
+
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals("Content 1", response.getBody().get().get(0).getContent());
+        assertEquals("def", response.getHeaders().get("X-Next-Cursor"));
+        verify(mockedBlogPostService, times(1)).getAllPosts("abc", 1, "full");
     }
 
     @Test
@@ -109,6 +134,40 @@ class BlogPostControllerTest {
         verify(mockedBlogPostService, times(1)).getPostById(1L);
     }
 
+    @Test
+    void testGetPostById_notModified() {
+        BlogPost post = new BlogPost("Test Post", "Content");
+        post.setId(1L);
+        when(mockedBlogPostService.getPostById(1L)).thenReturn(post);
+
+        HttpResponse<BlogPost> first = client.toBlocking().exchange(
+                HttpRequest.GET("/api/posts/1"), BlogPost.class);
+        String etag = first.getHeaders().get(HttpHeaders.ETAG);
+        HttpResponse<BlogPost> second = client.toBlocking().exchange(
+                HttpRequest.GET("/api/posts/1").header(HttpHeaders.IF_NONE_MATCH, etag), BlogPost.class);
+
+        assertNotNull(etag);
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatus());
+        assertEquals(etag, second.getHeaders().get(HttpHeaders.ETAG));
+        assertTrue(second.getBody().isEmpty());
+    }
+
+    @Test
+    void testSearchByContent_notModifiedSkipsQuery() {
+        when(mockedBlogPostService.searchByContent(eq("test"), isNull(), isNull()))
+                .thenReturn(new CursorPage<>(List.of(), null));
+
+        HttpResponse<String> first = client.toBlocking().exchange(
+                HttpRequest.GET("/api/posts/search/content?q=test"), String.class);
+        String etag = first.getHeaders().get(HttpHeaders.ETAG);
+        HttpResponse<String> second = client.toBlocking().exchange(
+                HttpRequest.GET("/api/posts/search/content?q=test").header(HttpHeaders.IF_NONE_MATCH, etag), String.class);
+
+        assertTrue(etag.startsWith("W/")); // List tags are weak
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatus());
+        verify(mockedBlogPostService, times(1)).searchByContent("test", null, null); // The second request never reaches the service
+    }
+
     @Test
     void testGetPostById_notFound() {
         when(mockedBlogPostService.getPostById(anyLong())).thenThrow(new BlogPostNotFoundException(999L));
@@ -160,6 +219,23 @@ class BlogPostControllerTest {
         verify(mockedBlogPostService, times(1)).updatePost(eq(999L), any(BlogPost.class));
     }
 
+    @Test
+    void testPatchPost_staleVersion() {
+        PatchPostRequest request = new PatchPostRequest();
+        request.setVersion(2L);
+        request.setTitle("Patched Title");
+
+        when(mockedBlogPostService.patchPost(anyLong(), any(PatchPostRequest.class)))
+                .thenThrow(new ConflictException(1L, 2L));
+
+        HttpClientResponseException thrown = assertThrows(HttpClientResponseException.class, () -> {
+            client.toBlocking().exchange(HttpRequest.PATCH("/api/posts/1", request), BlogPost.class);
+        });
+
+        assertEquals(HttpStatus.CONFLICT, thrown.getStatus());
+        verify(mockedBlogPostService, times(1)).patchPost(eq(1L), any(PatchPostRequest.class));
+    }
+
     @Test
     void testDeletePost_success() {
         doNothing().when(mockedBlogPostService).deletePost(1L);
@@ -187,7 +263,8 @@ class BlogPostControllerTest {
     @Test
     void testSearchByTitle_success() {
         BlogPost post = new BlogPost("Test Search", "Content");
-        when(mockedBlogPostService.searchByTitle(anyString())).thenReturn(List.of(post));
+        when(mockedBlogPostService.searchByTitle(anyString(), isNull(), isNull()))
+                .thenReturn(new CursorPage<>(List.of(post), null));
 
         HttpResponse<List<BlogPost>> response = client.toBlocking().exchange(
                 HttpRequest.GET("/api/posts/search/title?q=test"),
@@ -196,7 +273,7 @@ class BlogPostControllerTest {
         assertEquals(HttpStatus.OK, response.getStatus());
         assertNotNull(response.getBody().orElse(null));
         assertEquals(1, response.getBody().get().size());
-        verify(mockedBlogPostService, times(1)).searchByTitle("test");
+        verify(mockedBlogPostService, times(1)).searchByTitle("test", null, null);
     }
 
     @Test
@@ -206,16 +283,17 @@ class BlogPostControllerTest {
         BlogPost post2 = new BlogPost("Published 2", "Content 2");
         post2.setPublished(true);
 
-        when(mockedBlogPostService.getAllPublishedPosts()).thenReturn(Arrays.asList(post1, post2));
+        when(mockedBlogPostService.getAllPublishedPosts(isNull(), isNull(), isNull()))
+                .thenReturn(new CursorPage<>(Arrays.asList(PostResponse.from(post1), PostResponse.from(post2)), null));
 
-        HttpResponse<List<BlogPost>> response = client.toBlocking().exchange(
+        HttpResponse<List<PostResponse>> response = client.toBlocking().exchange(
                 HttpRequest.GET("/api/posts/published"),
-                Argument.listOf(BlogPost.class));
+                Argument.listOf(PostResponse.class));
 
         assertEquals(HttpStatus.OK, response.getStatus());
         assertNotNull(response.getBody().orElse(null));
         assertEquals(2, response.getBody().get().size());
-        verify(mockedBlogPostService, times(1)).getAllPublishedPosts();
+        verify(mockedBlogPostService, times(1)).getAllPublishedPosts(null, null, null);
     }
 
     @Test
@@ -0,0 +1,107 @@
+package com.fintrellis.blogmanager.controller;
+
+import com.fintrellis.blogmanager.BlogPost;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+import io.netty.buffer.ByteBuf;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializedPostCacheTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.createDefault();
+    private final SerializedPostCache cache = newCache(1024 * 1024);
+
+    @AfterEach
+    void tearDown() {
+        cache.clear();
+    }
+
+    @Test
+    void testJson_matchesEntitySerialization() throws IOException {
+        BlogPost post = post(1L, 0, 7);
+
+        assertEquals(jsonMapper.readValue(jsonMapper.writeValueAsBytes(post), Argument.of(Map.class)), read(cache.json(post)));
+    }
+
+    @Test
+    void testJson_hitsWithTheCurrentViewCount() throws IOException {
+        cache.json(post(1L, 0, 7)).release();
+
+        Map<?, ?> json = read(cache.json(post(1L, 0, 12)));
+
+        assertEquals(12, json.get("viewCount"));
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    void testJson_newVersionIsSerializedAgain() throws IOException {
+        cache.json(post(1L, 0, 7)).release();
+        BlogPost updated = post(1L, 1, 7);
+        updated.setTitle("Updated");
+
+        assertEquals("Updated", read(cache.json(updated)).get("title"));
+        assertEquals(0, cache.stats().hits());
+        assertEquals(1, cache.stats().size());
+    }
+
+    @Test
+    void testInvalidate_keepsBuffersAliveUntilTheResponseIsWritten() {
+        ByteBuf inFlight = cache.json(post(1L, 0, 7));
+
+        cache.invalidate(1L);
+
+        assertEquals(0, cache.stats().size());
+        assertEquals(0, cache.stats().weight());
+        assertTrue(inFlight.toString(StandardCharsets.UTF_8).contains("\"viewCount\":7"));
+        assertTrue(inFlight.release());
+    }
+
+    @Test
+    void testJson_evictsLeastRecentlyUsedByWeight() {
+        ByteBuf first = cache.json(post(1L, 0, 0));
+        long entryWeight = cache.stats().weight();
+        first.release();
+        SerializedPostCache small = newCache(entryWeight * 2);
+        try {
+            small.json(post(1L, 0, 0)).release();
+            small.json(post(2L, 0, 0)).release();
+            small.json(post(1L, 0, 0)).release(); // Post 1 becomes the most recently used
+            small.json(post(3L, 0, 0)).release(); // Pushes post 2 out
+
+            assertEquals(2, small.stats().size());
+            assertEquals(1, small.stats().evictions());
+        } finally {
+            small.clear();
+        }
+    }
+
+    private SerializedPostCache newCache(long maxWeight) {
+        SerializedPostCacheConfiguration configuration = new SerializedPostCacheConfiguration();
+        configuration.setMaxWeight(maxWeight);
+        return new SerializedPostCache(configuration, jsonMapper);
+    }
+
+    private Map<?, ?> read(ByteBuf json) throws IOException {
+        try {
+            return jsonMapper.readValue(json.toString(StandardCharsets.UTF_8), Argument.of(Map.class));
+        } finally {
+            json.release();
+        }
+    }
+
+    private static BlogPost post(Long id, long version, int viewCount) {
+        BlogPost post = new BlogPost("Post " + id, "Content with \"viewCount\":-2147483648 quoted inside");
+        post.setId(id);
+        post.setVersion(version);
+        post.setViewCount(viewCount);
+        return post;
+    }
+}
@@ -0,0 +1,44 @@
+package com.fintrellis.blogmanager.metrics;
+
+import com.fintrellis.blogmanager.service.PostCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PostCacheMetricsTest {
+
+    @Mock
+    private PostCache postCache;
+
+    @InjectMocks
+    private PostCacheMetrics postCacheMetrics;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        postCacheMetrics.bindTo(registry);
+    }
+
+    @Test
+    void testBindTo_readsCurrentStatsOnEachScrape() {
+        when(postCache.stats()).thenReturn(new PostCache.Stats(7, 3, 1, 2, 4, 4096, 8192));
+
+        assertEquals(7, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(3, registry.get("cache.gets").tag("result", "miss").functionCounter().count());
+        assertEquals(1, registry.get("cache.evictions").functionCounter().count());
+        assertEquals(4, registry.get("cache.size").tag("cache", "posts").gauge().value());
+
+        when(postCache.stats()).thenReturn(new PostCache.Stats(9, 3, 1, 2, 5, 5120, 8192));
+
+        assertEquals(9, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(5120, registry.get("cache.weight").gauge().value());
+    }
+}
@@ -0,0 +1,49 @@
+package com.fintrellis.blogmanager.profiling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestSqlProfileTest {
+
+    @Test
+    void testRecord_keepsSlowestStatements() {
+        RequestSqlProfile profile = new RequestSqlProfile(2);
+
+        profile.record("select a", 10);
+        profile.record("select b", 30);
+        profile.record("select c", 20);
+        profile.record("select d", 5);
+
+        assertEquals(4, profile.statements());
+        assertEquals(65, profile.totalNanos());
+        assertEquals(List.of("select b", "select c"), profile.slowest().stream().map(RequestSqlProfile.Statement::sql).toList());
+    }
+
+    @Test
+    void testRecord_withoutSlowestCapacity_onlyCounts() {
+        RequestSqlProfile profile = new RequestSqlProfile(0);
+
+        profile.record("select a", 10);
+        profile.record("select b", 30);
+
+        assertEquals(2, profile.statements());
+        assertEquals(40, profile.totalNanos());
+        assertTrue(profile.slowest().isEmpty());
+    }
+
+    @Test
+    void testRepeated_reportsStatementsOverThreshold() {
+        RequestSqlProfile profile = new RequestSqlProfile(3);
+        profile.record("select * from blog_posts where id=?", 1);
+        for (int i = 0; i < 6; i++) {
+            profile.record("select * from post_tags where post_id=?", 1);
+        }
+
+        assertEquals(Map.of("select * from post_tags where post_id=?", 6), profile.repeated(5));
+        assertTrue(profile.repeated(7).isEmpty());
+    }
+}
@@ -0,0 +1,85 @@
+package com.fintrellis.blogmanager.profiling;
+
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.dto.BatchOperation;
+import com.fintrellis.blogmanager.dto.CreatePostRequest;
+import com.fintrellis.blogmanager.dto.UpdatePostRequest;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the API against H2 with blog.sql-profiler.statement-budget set, any route over budget answers 500
+@MicronautTest(environments = "test", transactional = false)
+class SqlStatementBudgetTest {
+
+    private static final Pattern STATEMENTS = Pattern.compile("desc=\"(\\d+) statements\"");
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Test
+    void testRoutes_stayWithinStatementBudget() {
+        BlogPost created = null;
+        for (int i = 0; i < 10; i++) {
+            CreatePostRequest request = new CreatePostRequest("Budget post " + i, "Content of budget post " + i);
+            request.setTags("java, profiling");
+            request.setPublished(true);
+            HttpResponse<BlogPost> response = client.toBlocking().exchange(HttpRequest.POST("/api/posts", request), BlogPost.class);
+            assertEquals(HttpStatus.CREATED, response.getStatus());
+            created = response.body();
+        }
+
+        // List pages are one keyset query regardless of the page size
+        HttpResponse<List<Map>> page = client.toBlocking().exchange(HttpRequest.GET("/api/posts?limit=10"), Argument.listOf(Map.class));
+        assertEquals(10, page.body().size());
+        assertEquals(0, ((Number) page.body().get(0).get("version")).intValue()); // Summaries carry the version a PATCH needs
+        assertTrue(statements(page) <= 1);
+
+        HttpResponse<BlogPost> post = client.toBlocking().exchange(HttpRequest.GET("/api/posts/" + created.getId()), BlogPost.class);
+        assertTrue(statements(post) <= 1);
+
+        HttpResponse<List<Map>> tagged = client.toBlocking().exchange(HttpRequest.GET("/api/posts/search/tags?q=profiling"), Argument.listOf(Map.class));
+        assertEquals(HttpStatus.OK, tagged.getStatus());
+    }
+
+    @Test
+    void testTaggedBatch_writesInConstantStatements() {
+        List<BatchOperation> operations = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            UpdatePostRequest fields = new UpdatePostRequest();
+            fields.setTitle("Batch post " + i);
+            fields.setContent("Content of batch post " + i);
+            fields.setTags("batch, tag " + i); // One shared and one new tag per post
+            operations.add(new BatchOperation("create", null, fields));
+        }
+
+        HttpResponse<List<Map>> response = client.toBlocking().exchange(HttpRequest.POST("/api/posts/batch", operations), Argument.listOf(Map.class));
+
+        assertEquals(10, response.body().stream().filter(result -> Integer.valueOf(201).equals(result.get("status"))).count());
+        // Ids, posts, bodies, tag lookup, tag inserts, tag re-read and links are one statement or JDBC batch each, whatever the batch size
+        assertTrue(statements(response) <= 10, response.header(SqlProfilingFilter.SERVER_TIMING));
+    }
+
+    private static int statements(HttpResponse<?> response) {
+        String serverTiming = response.header(SqlProfilingFilter.SERVER_TIMING);
+        assertNotNull(serverTiming);
+        Matcher matcher = STATEMENTS.matcher(serverTiming);
+        assertTrue(matcher.find(), serverTiming);
+        return Integer.parseInt(matcher.group(1));
+    }
+}
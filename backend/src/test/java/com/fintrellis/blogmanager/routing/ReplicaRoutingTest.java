@@ -0,0 +1,183 @@
+package com.fintrellis.blogmanager.routing;
+
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.dto.UpdatePostRequest;
+import com.fintrellis.blogmanager.service.BlogPostService;
+import com.fintrellis.blogmanager.service.ChangeTracker;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Two embedded databases: the test primary and a replica that only changes when replicate() copies the primary over
+@MicronautTest(environments = "test", transactional = false)
+@Property(name = "blog.replica.url", value = ReplicaRoutingTest.REPLICA_URL)
+@Property(name = "blog.replica.driver-class-name", value = "org.h2.Driver")
+@Property(name = "blog.replica.username", value = "sa")
+@Property(name = "blog.replica.password", value = "")
+@Property(name = "blog.replica.lag-check-interval", value = "1h")
+@Property(name = "blog.etag.poll-interval", value = "1h")
+class ReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replicaDb;DB_CLOSE_DELAY=-1";
+    private static final String PRIMARY_URL = "jdbc:h2:mem:testDb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    @Inject
+    BlogPostService blogPostService;
+
+    @Inject
+    ReplicaLagMonitor replicaLagMonitor;
+
+    @Inject
+    ChangeTracker changeTracker;
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @BeforeEach
+    void setUp() {
+        replicaLagMonitor.recordLag(Duration.ZERO);
+    }
+
+    @Test
+    void testReads_servedByReplicaOnceItHasTheLatestChange() throws SQLException {
+        BlogPost post = blogPostService.createPost(new BlogPost("Replica original", "Replica content"));
+        replicate();
+        checkReplica();
+
+        // Written on the primary behind this node's back, so only the replica can serve the old title
+        rename(post.getId(), "Replica renamed");
+
+        assertEquals("Replica original", listedTitle(post.getId()));
+    }
+
+    @Test
+    void testReads_stayOnPrimaryUntilReplicaHasTheChange() throws SQLException {
+        BlogPost post = blogPostService.createPost(new BlogPost("Pending original", "Pending content"));
+        replicate();
+        checkReplica();
+        blogPostService.updatePost(post.getId(), new BlogPost("Pending updated", "Pending content"));
+
+        // No check has seen the replica replay the update, even though it reports no lag
+        assertEquals(Duration.ZERO, replicaLagMonitor.lag());
+        assertEquals("Pending updated", listedTitle(post.getId()));
+
+        replicate();
+        checkReplica();
+        rename(post.getId(), "Pending renamed");
+        assertEquals("Pending updated", listedTitle(post.getId()));
+    }
+
+    @Test
+    void testCaughtUp_onlyMovesForward() {
+        long now = System.nanoTime();
+        replicaLagMonitor.recordCaughtUp(now);
+        replicaLagMonitor.recordCaughtUp(now - 1_000_000);
+
+        assertEquals(now, replicaLagMonitor.caughtUpNanos());
+    }
+
+    @Test
+    void testReads_fallBackToPrimaryWhenReplicaLags() throws SQLException {
+        BlogPost post = blogPostService.createPost(new BlogPost("Lagging original", "Lagging content"));
+        replicate();
+        blogPostService.updatePost(post.getId(), new BlogPost("Lagging updated", "Lagging content"));
+        checkReplica(); // Claims the update, the lag below alone keeps reads on the primary
+
+        replicaLagMonitor.recordLag(Duration.ofSeconds(30));
+
+        assertFalse(replicaLagMonitor.acceptsReads());
+        assertEquals("Lagging updated", listedTitle(post.getId()));
+    }
+
+    @Test
+    void testWrites_makeClientReadFromPrimary() throws SQLException {
+        BlogPost post = blogPostService.createPost(new BlogPost("Sticky original", "Sticky content"));
+        replicate();
+
+        UpdatePostRequest update = new UpdatePostRequest();
+        update.setTitle("Sticky updated");
+        HttpResponse<?> written = client.toBlocking().exchange(HttpRequest.PUT("/api/posts/" + post.getId(), update));
+        String cookie = written.header(HttpHeaders.SET_COOKIE);
+        assertNotNull(cookie);
+        assertTrue(cookie.startsWith(ReadYourWritesFilter.COOKIE + "="));
+        checkReplica(); // Claims the update, only the cookie keeps the writer on the primary
+
+        // The writer sees its change, other clients see the replica
+        assertEquals("Sticky updated", listedTitleOverHttp(post.getId(), cookie.substring(0, cookie.indexOf(';'))));
+        assertEquals("Sticky original", listedTitleOverHttp(post.getId(), null));
+    }
+
+    private String listedTitle(Long id) {
+        return blogPostService.getAllPosts(null, 100, null).getItems().stream()
+                .filter(post -> post.getId().equals(id))
+                .findFirst()
+                .orElseThrow()
+                .getTitle();
+    }
+
+    private String listedTitleOverHttp(Long id, String cookie) {
+        HttpRequest<?> request = HttpRequest.GET("/api/posts?limit=100");
+        if (cookie != null) {
+            request = HttpRequest.GET("/api/posts?limit=100").header(HttpHeaders.COOKIE, cookie);
+        }
+        List<Map> posts = client.toBlocking().retrieve(request, Argument.listOf(Map.class));
+        return posts.stream()
+                .filter(post -> ((Number) post.get("id")).longValue() == id)
+                .findFirst()
+                .map(post -> (String) post.get("title"))
+                .orElseThrow();
+    }
+
+    // Lag check once this node has taken in its latest change. The embedded replica counts as holding everything committed so far
+    private void checkReplica() {
+        changeTracker.listTag();
+        replicaLagMonitor.check();
+    }
+
+    private static void rename(Long id, String title) throws SQLException {
+        try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+             Statement statement = primary.createStatement()) {
+            statement.executeUpdate("UPDATE blog_posts SET title = '" + title + "' WHERE id = " + id);
+        }
+    }
+
+    // Replace the replica with a copy of the primary
+    private static void replicate() throws SQLException {
+        List<String> script = new ArrayList<>();
+        try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+             Statement statement = primary.createStatement();
+             ResultSet rows = statement.executeQuery("SCRIPT")) {
+            while (rows.next()) {
+                script.add(rows.getString(1));
+            }
+        }
+        try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = replica.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : script) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
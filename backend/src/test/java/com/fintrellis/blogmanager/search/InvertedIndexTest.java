@@ -0,0 +1,101 @@
+package com.fintrellis.blogmanager.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    private static final double FIRST_SCORE = Double.POSITIVE_INFINITY;
+    private static final long FIRST_ID = Long.MAX_VALUE;
+
+    @Test
+    void testSearch_ranksMoreRelevantPostFirst() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, "Micronaut makes Java services start fast");
+        index.put(2L, "Java, Java and more Java");
+        index.put(3L, "Gardening tips for spring");
+
+        List<SearchHit> hits = index.search("java", FIRST_SCORE, FIRST_ID, 10);
+
+        assertEquals(2, hits.size());
+        assertEquals(2L, hits.get(0).getPostId());
+        assertEquals(1L, hits.get(1).getPostId());
+    }
+
+    @Test
+    void testSearch_requiresAllTermsAndMatchesLastTermAsPrefix() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, "Reactive programming with Micronaut");
+        index.put(2L, "Reactive streams explained");
+
+        List<SearchHit> hits = index.search("reactive micro", FIRST_SCORE, FIRST_ID, 10);
+
+        assertEquals(1, hits.size());
+        assertEquals(1L, hits.get(0).getPostId());
+    }
+
+    @Test
+    void testPutAndRemove_updateThePostings() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, "Old title");
+        index.put(1L, "New title");
+
+        assertTrue(index.search("old", FIRST_SCORE, FIRST_ID, 10).isEmpty());
+        assertEquals(1, index.search("new", FIRST_SCORE, FIRST_ID, 10).size());
+        assertEquals(1, index.size());
+
+        index.remove(1L);
+
+        assertTrue(index.search("title", FIRST_SCORE, FIRST_ID, 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testSearch_continuesAfterCursor() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, "java");
+        index.put(2L, "java");
+        index.put(3L, "java");
+
+        List<SearchHit> firstPage = index.search("java", FIRST_SCORE, FIRST_ID, 2);
+        SearchHit last = firstPage.get(1);
+        List<SearchHit> secondPage = index.search("java", last.getScore(), last.getPostId(), 2);
+
+        assertEquals(List.of(3L, 2L), firstPage.stream().map(SearchHit::getPostId).toList());
+        assertEquals(List.of(1L), secondPage.stream().map(SearchHit::getPostId).toList());
+    }
+
+    @Test
+    void testSearch_intersectsTermsInAnyOrder() {
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 50; id++) {
+            index.put(id, "common words in every post");
+        }
+        index.put(51L, "common and rare");
+        index.put(52L, "rare only");
+
+        List<SearchHit> rareFirst = index.search("rare common", FIRST_SCORE, FIRST_ID, 10);
+        List<SearchHit> commonFirst = index.search("common rare", FIRST_SCORE, FIRST_ID, 10);
+
+        assertEquals(List.of(51L), rareFirst.stream().map(SearchHit::getPostId).toList());
+        assertEquals(List.of(51L), commonFirst.stream().map(SearchHit::getPostId).toList());
+        assertEquals(rareFirst.get(0).getScore(), commonFirst.get(0).getScore(), 1e-9);
+    }
+
+    @Test
+    void testSearch_prefixMatchesEveryExpansion() {
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 100; id++) {
+            index.put(id, String.format("prefix%03d", id));
+        }
+        index.put(101L, "prefixzzz");
+
+        List<SearchHit> hits = index.search("prefix", FIRST_SCORE, FIRST_ID, 200);
+
+        assertEquals(101, hits.size());
+        assertTrue(hits.stream().anyMatch(hit -> hit.getPostId() == 101L));
+    }
+}
@@ -0,0 +1,91 @@
+package com.fintrellis.blogmanager.search;
+
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.dto.CreatePostRequest;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.annotation.Client;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The postgres search backend against H2, where it falls back to LIKE queries
+@MicronautTest(environments = "test", transactional = false)
+@Property(name = "blog.search.backend", value = "postgres")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LikeSearchBackendTest {
+
+    @Inject
+    @Client("/")
+    HttpClient client;
+
+    @Inject
+    SearchBackend searchBackend;
+
+    @BeforeAll
+    void createPosts() {
+        for (int i = 0; i < 3; i++) {
+            CreatePostRequest request = new CreatePostRequest("Likesearch Title " + i, "Body with a LIKENEEDLE inside, number " + i);
+            HttpResponse<BlogPost> response = client.toBlocking().exchange(HttpRequest.POST("/api/posts", request), BlogPost.class);
+            assertEquals(HttpStatus.CREATED, response.getStatus());
+        }
+    }
+
+    @Test
+    void testBackend_isLikeFallback() {
+        assertInstanceOf(LikeSearchBackend.class, searchBackend);
+    }
+
+    @Test
+    void testSearchByTitle_pagesThroughMatchesNewestFirst() {
+        List<String> titles = titles(searchAll("/api/posts/search/title?q=likesearch"));
+
+        assertEquals(List.of("Likesearch Title 2", "Likesearch Title 1", "Likesearch Title 0"), titles);
+    }
+
+    @Test
+    void testSearchByContent_pagesThroughMatchesNewestFirst() {
+        List<Map> posts = searchAll("/api/posts/search/content?q=likeneedle");
+
+        assertEquals(List.of("Likesearch Title 2", "Likesearch Title 1", "Likesearch Title 0"), titles(posts));
+        assertTrue(posts.stream().allMatch(post -> ((String) post.get("content")).contains("LIKENEEDLE")));
+    }
+
+    @Test
+    void testSearchByTitle_noMatch() {
+        assertTrue(searchAll("/api/posts/search/title?q=nothing-matches-this").isEmpty());
+    }
+
+    // Follows X-Next-Cursor two posts at a time until the last page
+    private List<Map> searchAll(String uri) {
+        List<Map> posts = new ArrayList<>();
+        String cursor = null;
+        do {
+            String page = uri + "&limit=2" + (cursor != null ? "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8) : "");
+            HttpResponse<List<Map>> response = client.toBlocking().exchange(HttpRequest.GET(page), Argument.listOf(Map.class));
+            assertEquals(HttpStatus.OK, response.getStatus());
+            assertTrue(response.body().size() <= 2);
+            posts.addAll(response.body());
+            cursor = response.header("X-Next-Cursor");
+        } while (cursor != null);
+        return posts;
+    }
+
+    private static List<String> titles(List<Map> posts) {
+        return posts.stream().map(post -> (String) post.get("title")).toList();
+    }
+}
@@ -0,0 +1,19 @@
+package com.fintrellis.blogmanager.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostgresSearchBackendTest {
+
+    @Test
+    void testToTsQuery_joinsTermsAndPrefixesLastTerm() {
+        assertEquals("reactive & micro:*", PostgresSearchBackend.toTsQuery("Reactive  micro"));
+    }
+
+    @Test
+    void testToTsQuery_dropsOperatorCharacters() {
+        assertEquals("java & spring:*", PostgresSearchBackend.toTsQuery("java & !spring:*"));
+        assertEquals("", PostgresSearchBackend.toTsQuery("&|!"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.fintrellis.blogmanager.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TagIndexTest {
+
+    private static final long FIRST_ID = Long.MAX_VALUE;
+
+    @Test
+    void testFind_matchAllAndAny() {
+        TagIndex index = new TagIndex();
+        index.put(1L, List.of("java", "micronaut"));
+        index.put(2L, List.of("java"));
+        index.put(3L, List.of("gardening"));
+
+        assertEquals(List.of(1L), index.find(List.of("java", "micronaut"), true, FIRST_ID, 10));
+        assertEquals(List.of(3L, 2L, 1L), index.find(List.of("java", "gardening"), false, FIRST_ID, 10));
+        assertTrue(index.find(List.of("java", "unknown"), true, FIRST_ID, 10).isEmpty());
+    }
+
+    @Test
+    void testFind_continuesBelowCursor() {
+        TagIndex index = new TagIndex();
+        index.put(1L, List.of("java"));
+        index.put(2L, List.of("java"));
+        index.put(3L, List.of("java"));
+
+        List<Long> first = index.find(List.of("java"), true, FIRST_ID, 2);
+        List<Long> second = index.find(List.of("java"), true, first.get(1), 2);
+
+        assertEquals(List.of(3L, 2L), first);
+        assertEquals(List.of(1L), second);
+    }
+
+    @Test
+    void testFind_handlesIdsBeyondIntRangeAndReusedSlots() {
+        TagIndex index = new TagIndex();
+        long large = Integer.MAX_VALUE + 10L;
+        index.put(5L, List.of("java"));
+        index.put(large, List.of("java"));
+        index.remove(5L);
+        index.put(7L, List.of("java")); // Takes over the slot of post 5
+
+        assertEquals(List.of(large, 7L), index.find(List.of("java"), true, FIRST_ID, 10));
+        assertEquals(List.of(7L), index.find(List.of("java"), true, large, 10));
+    }
+
+    @Test
+    void testPutAndRemove_maintainCounts() {
+        TagIndex index = new TagIndex();
+        index.put(1L, List.of("java", "micronaut"));
+        index.put(2L, List.of("java"));
+        index.put(1L, List.of("java"));
+
+        assertEquals(Map.of("java", 2), index.counts());
+
+        index.remove(2L);
+
+        assertEquals(List.of("java"), List.copyOf(index.counts().keySet()));
+        assertEquals(1, index.counts().get("java"));
+    }
+
+    @Test
+    void testParse_normalizesTagNames() {
+        assertEquals(List.of("spring boot", "java"), TagNames.parse(" Spring   Boot, java,,JAVA "));
+        assertTrue(TagNames.parse(null).isEmpty());
+        assertTrue(TagNames.parse(" , ").isEmpty());
+    }
+}
@@ -1,9 +1,25 @@
 package com.fintrellis.blogmanager.service;
 
 import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.PostContent;
+import com.fintrellis.blogmanager.dto.BatchOperation;
+import com.fintrellis.blogmanager.dto.BatchResult;
+import com.fintrellis.blogmanager.dto.PatchPostRequest;
+import com.fintrellis.blogmanager.dto.PostResponse;
+import com.fintrellis.blogmanager.dto.UpdatePostRequest;
+import com.fintrellis.blogmanager.event.PostChangedEvent;
 import com.fintrellis.blogmanager.exception.BlogPostNotFoundException;
+import com.fintrellis.blogmanager.exception.ConflictException;
 import com.fintrellis.blogmanager.exception.ValidationException;
 import com.fintrellis.blogmanager.repository.BlogPostRepository;
+import com.fintrellis.blogmanager.repository.PostContentRepository;
+import com.fintrellis.blogmanager.repository.PostPatchWriter;
+import com.fintrellis.blogmanager.search.SearchBackend;
+import com.fintrellis.blogmanager.search.SearchField;
+import com.fintrellis.blogmanager.search.SearchHit;
+import com.fintrellis.blogmanager.search.TagIndex;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest; // Correct import for @MicronautTest
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.BeforeEach; // Correct import for @BeforeEach
@@ -11,10 +27,12 @@ import org.junit.jupiter.api.Test; // Correct import for @Test
 import org.mockito.InjectMocks; // Correct import for @InjectMocks
 import org.mockito.Mock; // Correct import for @Mock
 import org.mockito.MockitoAnnotations; // Correct import for MockitoAnnotations
+import org.mockito.Spy; // Correct import for @Spy
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*; // Correct static import for JUnit Assertions
@@ -27,6 +45,42 @@ class BlogPostServiceTest {
     @Mock // Mock the repository dependency
     private BlogPostRepository blogPostRepository;
 
+    @Mock // Mock the post body store
+    private PostContentRepository postContentRepository;
+
+    @Mock // Mock the single-statement PATCH writer
+    private PostPatchWriter postPatchWriter;
+
+    @Mock // Mock the buffered view counter
+    private ViewCountBuffer viewCountBuffer;
+
+    @Spy // Real post cache, so repeated reads are served from memory
+    private PostCache postCache = new PostCache(new PostCacheConfiguration());
+
+    @Spy // Real pagination settings with their defaults
+    private PaginationConfiguration paginationConfiguration = new PaginationConfiguration();
+
+    @Spy // Real batch settings with their defaults
+    private BatchConfiguration batchConfiguration = new BatchConfiguration();
+
+    @Mock // Mock the configured search backend
+    private SearchBackend searchBackend;
+
+    @Mock // Mock the in-memory tag index
+    private TagIndex tagIndex;
+
+    @Mock // Mock the in-memory analytics aggregates
+    private PostStatistics postStatistics;
+
+    @Mock // Mock the in-memory popularity leaderboard
+    private PopularityLeaderboard popularityLeaderboard;
+
+    @Mock // Mock the tag relation writer
+    private PostTagSynchronizer postTagSynchronizer;
+
+    @Mock // Mock the publisher of post change events
+    private ApplicationEventPublisher<PostChangedEvent> eventPublisher;
+
     @InjectMocks // Inject mocks into the service under test
     private BlogPostService blogPostService;
 
@@ -52,6 +106,8 @@ class BlogPostServiceTest {
         assertNotNull(createdPost);
         assertEquals("Test Title", createdPost.getTitle());
         verify(blogPostRepository, times(1)).save(any(BlogPost.class));
+        verify(postContentRepository, times(1)).save(any(PostContent.class)); // The body goes to its own table
+        verify(eventPublisher, times(1)).publishEvent(any(PostChangedEvent.class));
     }
 
     @Test
@@ -67,39 +123,101 @@ class BlogPostServiceTest {
 
     @Test
     void testGetAllPosts_success() {
-        BlogPost post1 = new BlogPost("Title 1", "Content 1");
-        BlogPost post2 = new BlogPost("Title 2", "Content 2");
-        when(blogPostRepository.findAll()).thenReturn(Arrays.asList(post1, post2));
+        PostResponse post1 = PostResponse.from(new BlogPost("Title 1", null));
+        PostResponse post2 = PostResponse.from(new BlogPost("Title 2", null));
+        when(blogPostRepository.findSummaryPageByCreatedAt(any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenReturn(Arrays.asList(post1, post2));
+
+        CursorPage<PostResponse> page = blogPostService.getAllPosts(null, null, null);
+
+        assertNotNull(page);
+        assertEquals(2, page.getItems().size());
+        assertFalse(page.hasNext()); // Fewer rows than the page size means last page
+        verify(blogPostRepository, times(1)).findSummaryPageByCreatedAt(any(LocalDateTime.class), eq(Long.MAX_VALUE), eq(Pageable.from(0, 21)));
+        verify(blogPostRepository, never()).findPageByCreatedAt(any(LocalDateTime.class), anyLong(), any(Pageable.class)); // Content is never selected
+    }
+
+    @Test
+    void testGetAllPosts_fullFieldsLoadContent() {
+        BlogPost post = new BlogPost("Title 1", null);
+        post.setId(1L);
+        when(blogPostRepository.findPageByCreatedAt(any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(post));
+        when(postContentRepository.findByPostIdIn(List.of(1L))).thenReturn(List.of(new PostContent(post, "Content 1")));
+
+        CursorPage<PostResponse> page = blogPostService.getAllPosts(null, null, "full");
+
+        assertEquals("Content 1", page.getItems().get(0).getContent());
+        verify(blogPostRepository, never()).findSummaryPageByCreatedAt(any(LocalDateTime.class), anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void testGetAllPosts_invalidFields() {
+        ValidationException thrown = assertThrows(ValidationException.class, () -> {
+            blogPostService.getAllPosts(null, null, "everything");
+        });
+        assertEquals("Fields must be 'summary' or 'full'", thrown.getMessage());
+    }
+
+    @Test
+    void testGetAllPosts_nextPageSeeksPastCursor() {
+        PostResponse post1 = summary(3L, "Title 1");
+        PostResponse post2 = summary(2L, "Title 2");
+        PostResponse post3 = summary(1L, "Title 3");
+        when(blogPostRepository.findSummaryPageByCreatedAt(any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenReturn(Arrays.asList(post1, post2, post3));
+
+        CursorPage<PostResponse> page = blogPostService.getAllPosts(null, 2, null);
+
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.hasNext());
+
+        blogPostService.getAllPosts(page.getNextCursor(), 2, null);
+
+        verify(blogPostRepository, times(1)).findSummaryPageByCreatedAt(eq(post2.getCreatedAt()), eq(2L), eq(Pageable.from(0, 3)));
+    }
+
+    @Test
+    void testGetAllPosts_invalidCursor() {
+        ValidationException thrown = assertThrows(ValidationException.class, () -> {
+            blogPostService.getAllPosts("not-a-cursor", null, null);
+        });
+        assertEquals("Invalid page cursor", thrown.getMessage());
+    }
+
+    @Test
+    void testGetAllPosts_pageSizeCapped() {
+        when(blogPostRepository.findSummaryPageByCreatedAt(any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of());
 
-        List<BlogPost> posts = blogPostService.getAllPosts();
+        blogPostService.getAllPosts(null, 10_000, null);
 
-        assertNotNull(posts);
-        assertEquals(2, posts.size());
-        verify(blogPostRepository, times(1)).findAll();
+        verify(blogPostRepository, times(1)).findSummaryPageByCreatedAt(any(LocalDateTime.class), anyLong(), eq(Pageable.from(0, 101)));
     }
 
     @Test
     void testGetPostById_success() {
-        BlogPost post = new BlogPost("Title", "Content");
+        BlogPost post = new BlogPost("Title", null);
         post.setId(1L);
-        when(blogPostRepository.findById(1L)).thenReturn(Optional.of(post));
+        when(postContentRepository.findWithPost(1L)).thenReturn(Optional.of(new PostContent(post, "Content")));
 
         BlogPost foundPost = blogPostService.getPostById(1L);
 
         assertNotNull(foundPost);
         assertEquals(1L, foundPost.getId());
-        verify(blogPostRepository, times(1)).findById(1L);
+        assertEquals("Content", foundPost.getContent());
+        verify(postContentRepository, times(1)).findWithPost(1L); // Post and body in one query
     }
 
     @Test
     void testGetPostById_notFound() {
-        when(blogPostRepository.findById(1L)).thenReturn(Optional.empty());
+        when(postContentRepository.findWithPost(1L)).thenReturn(Optional.empty());
 
         BlogPostNotFoundException thrown = assertThrows(BlogPostNotFoundException.class, () -> {
             blogPostService.getPostById(1L);
         });
         assertEquals("Blog post not found with id: 1", thrown.getMessage());
-        verify(blogPostRepository, times(1)).findById(1L);
+        verify(postContentRepository, times(1)).findWithPost(1L);
     }
 
     @Test
@@ -124,6 +242,7 @@ class BlogPostServiceTest {
         assertNotNull(result.getUpdatedAt()); // Should be updated
         verify(blogPostRepository, times(1)).findById(1L);
         verify(blogPostRepository, times(1)).update(any(BlogPost.class));
+        verify(postContentRepository, times(1)).updateContent(1L, "New Content");
     }
 
     @Test
@@ -148,6 +267,7 @@ class BlogPostServiceTest {
         assertDoesNotThrow(() -> blogPostService.deletePost(1L));
         verify(blogPostRepository, times(1)).findById(1L);
         verify(blogPostRepository, times(1)).delete(postToDelete);
+        verify(eventPublisher, times(1)).publishEvent(any(PostChangedEvent.class)); // Buffered views are dropped by the buffer once the delete commits
     }
 
     @Test
@@ -161,41 +281,375 @@ class BlogPostServiceTest {
         verify(blogPostRepository, never()).delete(any(BlogPost.class));
     }
 
+    @Test
+    void testPatchPost_success() {
+        BlogPost previous = new BlogPost("Old Title", null); // The writer never returns the body
+        previous.setId(1L);
+        previous.setVersion(3);
+        when(postPatchWriter.patch(eq(1L), eq(3L), anyMap(), any(LocalDateTime.class))).thenReturn(Optional.of(previous));
+        when(postContentRepository.findContentByPostId(1L)).thenReturn(Optional.of("Content"));
+
+        PatchPostRequest patch = new PatchPostRequest();
+        patch.setVersion(3L);
+        patch.setTitle("New Title");
+        BlogPost patched = blogPostService.patchPost(1L, patch);
+
+        assertEquals("New Title", patched.getTitle());
+        assertEquals("Content", patched.getContent()); // Fields left out of the patch are kept
+        assertEquals(4, patched.getVersion());
+        verify(postPatchWriter, times(1)).patch(eq(1L), eq(3L), eq(Map.of("title", "New Title")), any(LocalDateTime.class));
+        verify(blogPostRepository, never()).findById(anyLong()); // The row is never loaded first
+        verify(eventPublisher, times(1)).publishEvent(any(PostChangedEvent.class));
+        verify(postTagSynchronizer, never()).sync(anyList()); // Tags were not patched, their links stay as they are
+    }
+
+    @Test
+    void testPatchPost_tagsRelinked() {
+        BlogPost previous = new BlogPost("Title", null);
+        previous.setId(1L);
+        previous.setVersion(3);
+        previous.setTags("java");
+        when(postPatchWriter.patch(eq(1L), eq(3L), anyMap(), any(LocalDateTime.class))).thenReturn(Optional.of(previous));
+
+        PatchPostRequest patch = new PatchPostRequest();
+        patch.setVersion(3L);
+        patch.setTags("java, micronaut");
+        blogPostService.patchPost(1L, patch);
+
+        verify(postTagSynchronizer, times(1)).sync(anyList());
+    }
+
+    @Test
+    void testPatchPost_contentWrittenToContentStore() {
+        BlogPost previous = new BlogPost("Title", null);
+        previous.setId(1L);
+        previous.setVersion(3);
+        when(postPatchWriter.patch(eq(1L), eq(3L), anyMap(), any(LocalDateTime.class))).thenReturn(Optional.of(previous));
+
+        PatchPostRequest patch = new PatchPostRequest();
+        patch.setVersion(3L);
+        patch.setContent("New Content");
+        BlogPost patched = blogPostService.patchPost(1L, patch);
+
+        assertEquals("New Content", patched.getContent());
+        verify(postPatchWriter, times(1)).patch(eq(1L), eq(3L), eq(Map.of()), any(LocalDateTime.class)); // Only the version and timestamp move on blog_posts
+        verify(postContentRepository, times(1)).updateContent(1L, "New Content");
+        verify(postContentRepository, never()).findContentByPostId(anyLong());
+    }
+
+    @Test
+    void testPatchPost_staleVersion() {
+        when(postPatchWriter.patch(eq(1L), eq(2L), anyMap(), any(LocalDateTime.class))).thenReturn(Optional.empty());
+        when(blogPostRepository.existsById(1L)).thenReturn(true);
+
+        PatchPostRequest patch = new PatchPostRequest();
+        patch.setVersion(2L);
+        patch.setPublished(true);
+
+        assertThrows(ConflictException.class, () -> blogPostService.patchPost(1L, patch));
+        verify(eventPublisher, never()).publishEvent(any(PostChangedEvent.class));
+    }
+
+    @Test
+    void testPatchPost_notFound() {
+        when(postPatchWriter.patch(eq(1L), eq(2L), anyMap(), any(LocalDateTime.class))).thenReturn(Optional.empty());
+        when(blogPostRepository.existsById(1L)).thenReturn(false);
+
+        PatchPostRequest patch = new PatchPostRequest();
+        patch.setVersion(2L);
+        patch.setTags("java");
+
+        assertThrows(BlogPostNotFoundException.class, () -> blogPostService.patchPost(1L, patch));
+    }
+
+    @Test
+    void testPatchPost_emptyPatch() {
+        PatchPostRequest patch = new PatchPostRequest();
+        patch.setVersion(2L);
+
+        ValidationException thrown = assertThrows(ValidationException.class, () -> blogPostService.patchPost(1L, patch));
+        assertEquals("Patch must change at least one field", thrown.getMessage());
+        verifyNoInteractions(postPatchWriter);
+    }
+
+    @Test
+    void testTogglePublishStatus_success() {
+        BlogPost previous = new BlogPost("Title", "Content");
+        previous.setId(1L);
+        previous.setPublished(false);
+        when(postPatchWriter.togglePublished(eq(1L), any(LocalDateTime.class))).thenReturn(Optional.of(previous));
+
+        BlogPost toggled = blogPostService.togglePublishStatus(1L);
+
+        assertTrue(toggled.isPublished());
+        assertFalse(previous.isPublished()); // The previous state is kept for the change event
+        assertEquals(1, toggled.getVersion());
+        verify(eventPublisher, times(1)).publishEvent(any(PostChangedEvent.class));
+    }
+
+    @Test
+    void testTogglePublishStatus_takesContentFromCache() {
+        BlogPost cached = new BlogPost("Title", null);
+        cached.setId(1L);
+        when(postContentRepository.findWithPost(1L)).thenReturn(Optional.of(new PostContent(cached, "Content")));
+        blogPostService.getPostById(1L); // Warm the cache
+        BlogPost previous = new BlogPost("Title", null);
+        previous.setId(1L);
+        when(postPatchWriter.togglePublished(eq(1L), any(LocalDateTime.class))).thenReturn(Optional.of(previous));
+
+        BlogPost toggled = blogPostService.togglePublishStatus(1L);
+
+        assertEquals("Content", toggled.getContent());
+        verify(postContentRepository, never()).findContentByPostId(anyLong()); // The cached body is at the toggled version
+    }
+
+    @Test
+    void testTogglePublishStatus_readsContentOnCacheMiss() {
+        BlogPost previous = new BlogPost("Title", null);
+        previous.setId(1L);
+        when(postPatchWriter.togglePublished(eq(1L), any(LocalDateTime.class))).thenReturn(Optional.of(previous));
+        when(postContentRepository.findContentByPostId(1L)).thenReturn(Optional.of("Content"));
+
+        BlogPost toggled = blogPostService.togglePublishStatus(1L);
+
+        assertEquals("Content", toggled.getContent()); // The response still carries the body
+        verify(postContentRepository, times(1)).findContentByPostId(1L); // One primary key read of post_contents
+        verify(postContentRepository, never()).updateContent(anyLong(), anyString()); // The body is never written
+        verify(blogPostRepository, never()).findById(anyLong());
+    }
+
     @Test
     void testGetPostByIdWithViewCount_success() {
-        BlogPost post = new BlogPost("Title", "Content");
+        BlogPost post = new BlogPost("Title", null);
         post.setId(1L);
         post.setViewCount(5);
-        when(blogPostRepository.findById(1L)).thenReturn(Optional.of(post));
-        when(blogPostRepository.update(any(BlogPost.class))).thenReturn(post);
+        when(postContentRepository.findWithPost(1L)).thenReturn(Optional.of(new PostContent(post, "Content")));
+        when(viewCountBuffer.pendingViews(1L)).thenReturn(1L);
 
         BlogPost result = blogPostService.getPostByIdWithViewCount(1L);
 
         assertNotNull(result);
-        assertEquals(6, result.getViewCount()); // View count should increment
-        verify(blogPostRepository, times(1)).findById(1L);
-        verify(blogPostRepository, times(1)).update(any(BlogPost.class));
+        assertEquals(6, result.getViewCount()); // Pending views are merged into the result
+        verify(postContentRepository, times(1)).findWithPost(1L);
+        verify(viewCountBuffer, times(1)).increment(1L);
+        verify(blogPostRepository, never()).update(any(BlogPost.class)); // No write on the read path
+    }
+
+    @Test
+    void testGetPostByIdWithViewCount_readsAgainWhenAFlushRanMeanwhile() {
+        BlogPost post = new BlogPost("Title", null);
+        post.setId(1L);
+        post.setViewCount(5);
+        when(postContentRepository.findWithPost(1L)).thenReturn(Optional.of(new PostContent(post, "Content")));
+        when(viewCountBuffer.flushGeneration()).thenReturn(2L, 4L);
+        when(viewCountBuffer.flushedSince(2L)).thenAnswer(invocation -> {
+            postCache.beginViewFlush(); // Three buffered views were flushed after the post was read
+            postCache.endViewFlush(Map.of(1L, 3L));
+            return true;
+        });
+        when(viewCountBuffer.pendingViews(1L)).thenReturn(0L);
+
+        BlogPost result = blogPostService.getPostByIdWithViewCount(1L);
+
+        assertEquals(8, result.getViewCount()); // Not 5: the first read missed the flushed views
+        verify(viewCountBuffer, times(1)).awaitFlush();
+        verify(viewCountBuffer, times(1)).increment(1L); // The view is recorded once
+    }
+
+    @Test
+    void testGetPostById_servedFromCache() {
+        BlogPost post = new BlogPost("Cached Post", null);
+        post.setId(1L);
+        when(postContentRepository.findWithPost(1L)).thenReturn(Optional.of(new PostContent(post, "Content")));
+
+        blogPostService.getPostById(1L);
+        BlogPost cachedPost = blogPostService.getPostById(1L);
+
+        assertEquals("Cached Post", cachedPost.getTitle());
+        verify(postContentRepository, times(1)).findWithPost(1L); // Second read never reaches the repository
+    }
+
+    @Test
+    void testUpdatePost_bypassesCache() {
+        BlogPost cached = new BlogPost("Original Title", null);
+        cached.setId(1L);
+        when(postContentRepository.findWithPost(1L)).thenReturn(Optional.of(new PostContent(cached, "Content")));
+        BlogPost managed = new BlogPost("Original Title", null);
+        managed.setId(1L);
+        when(blogPostRepository.findById(1L)).thenReturn(Optional.of(managed));
+        when(blogPostRepository.update(any(BlogPost.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        blogPostService.getPostById(1L); // Warm the cache
+
+        BlogPost updateData = new BlogPost("Updated Title", null);
+        BlogPost updated = blogPostService.updatePost(1L, updateData);
+
+        verify(blogPostRepository, times(1)).findById(1L); // The write loaded a managed entity itself
+        assertEquals("Content", updated.getContent()); // The unchanged body comes from the cached copy
+        verify(postContentRepository, never()).findContentByPostId(anyLong());
+        verify(postContentRepository, never()).updateContent(anyLong(), anyString());
+    }
+
+    @Test
+    void testGetMostPopularPosts_servedFromLeaderboard() {
+        when(popularityLeaderboard.top(5)).thenReturn(List.of(summary(2L, "Popular")));
+
+        CursorPage<PostResponse> page = blogPostService.getMostPopularPosts(5, null);
+
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.hasNext()); // One bounded page
+        verifyNoInteractions(blogPostRepository, postContentRepository); // No database query for the summary view
+    }
+
+    @Test
+    void testGetPostByIdWithViewCount_updatesLeaderboard() {
+        BlogPost post = new BlogPost("Viewed", null);
+        post.setId(1L);
+        post.setPublished(true);
+        post.setViewCount(4);
+        when(postContentRepository.findWithPost(1L)).thenReturn(Optional.of(new PostContent(post, "Content")));
+        when(viewCountBuffer.pendingViews(1L)).thenReturn(1L);
+
+        blogPostService.getPostByIdWithViewCount(1L);
+
+        verify(popularityLeaderboard, times(1)).recordView(any(BlogPost.class), eq(5L));
     }
 
     @Test
     void testSearchByTitle_success() {
-        BlogPost post = new BlogPost("Searchable Title", "Content");
-        when(blogPostRepository.findByTitleContainingIgnoreCase("search")).thenReturn(List.of(post));
+        BlogPost first = new BlogPost("Searchable Title", "Content");
+        first.setId(1L);
+        BlogPost second = new BlogPost("Another Searchable Title", "Content");
+        second.setId(2L);
+        when(searchBackend.search(eq(SearchField.TITLE), eq("search"), anyDouble(), anyLong(), anyInt()))
+                .thenReturn(List.of(new SearchHit(2L, 3.0), new SearchHit(1L, 1.5)));
+        when(postContentRepository.findWithPostByPostIdIn(anyCollection()))
+                .thenReturn(List.of(new PostContent(first, "Content"), new PostContent(second, "Content")));
 
-        List<BlogPost> results = blogPostService.searchByTitle("search");
+        List<BlogPost> results = blogPostService.searchByTitle("search", null, null).getItems();
 
         assertNotNull(results);
-        assertEquals(1, results.size());
-        assertEquals("Searchable Title", results.get(0).getTitle());
-        verify(blogPostRepository, times(1)).findByTitleContainingIgnoreCase("search");
+        assertEquals(2, results.size());
+        assertEquals(2L, results.get(0).getId()); // Ranked order is kept
+        assertEquals(1L, results.get(1).getId());
+        verify(searchBackend, times(1)).search(SearchField.TITLE, "search", Double.POSITIVE_INFINITY, Long.MAX_VALUE, 21);
     }
 
     @Test
     void testSearchByTitle_emptyQuery() {
         ValidationException thrown = assertThrows(ValidationException.class, () -> {
-            blogPostService.searchByTitle("");
+            blogPostService.searchByTitle("", null, null);
         });
         assertEquals("Search title cannot be empty", thrown.getMessage());
-        verify(blogPostRepository, never()).findByTitleContainingIgnoreCase(anyString());
+        verify(searchBackend, never()).search(any(), anyString(), anyDouble(), anyLong(), anyInt());
+    }
+
+    @Test
+    void testSearchByTags_normalizesTagsAndMatchesAll() {
+        BlogPost post = new BlogPost("Tagged", "Content");
+        post.setId(7L);
+        when(tagIndex.find(List.of("java", "micronaut"), true, Long.MAX_VALUE, 21)).thenReturn(List.of(7L));
+        when(postContentRepository.findWithPostByPostIdIn(anyCollection())).thenReturn(List.of(new PostContent(post, "Content")));
+
+        List<BlogPost> results = blogPostService.searchByTags(" Java, micronaut ", null, null, null).getItems();
+
+        assertEquals(1, results.size());
+        assertEquals(7L, results.get(0).getId());
+    }
+
+    @Test
+    void testSearchByTags_invalidMatch() {
+        ValidationException thrown = assertThrows(ValidationException.class, () -> {
+            blogPostService.searchByTags("java", "some", null, null);
+        });
+        assertEquals("Tag match must be 'all' or 'any'", thrown.getMessage());
+        verify(tagIndex, never()).find(anyCollection(), anyBoolean(), anyLong(), anyInt());
+    }
+
+    @Test
+    void testApplyBatch_skipsRejectedItemsAndWritesTheRest() {
+        BlogPost existing = new BlogPost("Old Title", "Old Content");
+        existing.setId(1L);
+        BlogPost doomed = new BlogPost("Doomed", "Content");
+        doomed.setId(2L);
+        when(blogPostRepository.findByIdIn(anyCollection())).thenReturn(List.of(existing, doomed));
+        when(blogPostRepository.save(any(BlogPost.class))).thenAnswer(invocation -> {
+            BlogPost post = invocation.getArgument(0);
+            post.setId(10L);
+            return post;
+        });
+
+        List<BatchResult> results = blogPostService.applyBatch(List.of(
+                new BatchOperation("create", null, fields("New Title", "New Content")),
+                new BatchOperation("create", null, fields("", "No title")),
+                new BatchOperation("update", 1L, fields("New Title", null)),
+                new BatchOperation("update", 99L, fields("Missing", null)),
+                new BatchOperation("delete", 2L, null),
+                new BatchOperation("delete", 2L, null)));
+
+        assertEquals(List.of(201, 400, 200, 404, 204, 404), results.stream().map(BatchResult::getStatus).toList());
+        assertEquals(10L, results.get(0).getId());
+        assertEquals("Title is required", results.get(1).getError());
+        assertEquals("New Title", existing.getTitle());
+        assertEquals("Old Content", existing.getContent());
+        verify(blogPostRepository, times(1)).findByIdIn(anyCollection()); // Targets are loaded in one query
+        verify(blogPostRepository, times(1)).delete(doomed);
+        verify(blogPostRepository, times(1)).flush();
+        verify(eventPublisher, times(3)).publishEvent(any(PostChangedEvent.class)); // Only applied items publish events
+        verify(postTagSynchronizer, times(1)).sync(argThat(events -> events.size() == 3)); // Tags of the whole batch are synchronized at once
+    }
+
+    @Test
+    void testApplyBatch_contentUpdatesWriteLoadedBodies() {
+        BlogPost existing = new BlogPost("Title", null);
+        existing.setId(1L);
+        PostContent content = new PostContent(existing, "Old Content");
+        when(blogPostRepository.findByIdIn(anyCollection())).thenReturn(List.of(existing));
+        when(postContentRepository.findByPostIdIn(anyCollection())).thenReturn(List.of(content));
+
+        List<BatchResult> results = blogPostService.applyBatch(List.of(
+                new BatchOperation("update", 1L, fields(null, "New Content"))));
+
+        assertEquals(200, results.get(0).getStatus());
+        assertEquals("New Content", content.getContent()); // Managed body, written at flush with the post
+        verify(postContentRepository, times(1)).findByPostIdIn(anyCollection()); // Bodies are loaded in one query
+        verify(postContentRepository, never()).save(any(PostContent.class));
+    }
+
+    @Test
+    void testApplyBatch_rejectedUpdateLeavesPostUntouched() {
+        BlogPost existing = new BlogPost("Old Title", "Old Content");
+        existing.setId(1L);
+        when(blogPostRepository.findByIdIn(anyCollection())).thenReturn(List.of(existing));
+
+        List<BatchResult> results = blogPostService.applyBatch(List.of(
+                new BatchOperation("update", 1L, fields("New Title", " "))));
+
+        assertEquals(400, results.get(0).getStatus());
+        assertEquals("Old Title", existing.getTitle());
+        verify(eventPublisher, never()).publishEvent(any(PostChangedEvent.class));
+    }
+
+    @Test
+    void testApplyBatch_tooManyOperations() {
+        batchConfiguration.setMaxSize(1);
+
+        ValidationException thrown = assertThrows(ValidationException.class, () -> {
+            blogPostService.applyBatch(List.of(new BatchOperation("delete", 1L, null), new BatchOperation("delete", 2L, null)));
+        });
+        assertEquals("Batch must not contain more than 1 operations", thrown.getMessage());
+        verify(blogPostRepository, never()).flush();
+    }
+
+    private static UpdatePostRequest fields(String title, String content) {
+        UpdatePostRequest fields = new UpdatePostRequest();
+        fields.setTitle(title);
+        fields.setContent(content);
+        return fields;
+    }
+
+    private static PostResponse summary(Long id, String title) {
+        BlogPost post = new BlogPost(title, null);
+        post.setId(id);
+        return PostResponse.from(post);
     }
 }
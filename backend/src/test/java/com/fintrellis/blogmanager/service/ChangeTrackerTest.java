@@ -0,0 +1,76 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.repository.BlogPostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ChangeTrackerTest {
+
+    @Mock
+    private BlogPostRepository blogPostRepository;
+
+    @Mock
+    private ExecutorService executor;
+
+    @InjectMocks
+    private ChangeTracker changeTracker;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run(); // Refresh on the calling thread
+            return null;
+        }).when(executor).execute(any());
+    }
+
+    @Test
+    void testListTag_movesOnLocalChange() {
+        when(blogPostRepository.changeFingerprint()).thenReturn("1-1-0-0", "2-2-0-0");
+        String before = changeTracker.listTag();
+
+        changeTracker.touch();
+
+        assertNotEquals(before, changeTracker.listTag());
+        assertTrue(before.startsWith("W/\""));
+    }
+
+    @Test
+    void testListTag_readsDatabaseOnlyAfterChanges() {
+        when(blogPostRepository.changeFingerprint()).thenReturn("1-1-0-0");
+
+        assertEquals(changeTracker.listTag(), changeTracker.listTag());
+
+        verify(blogPostRepository, times(1)).changeFingerprint();
+    }
+
+    // A write committed by another node reaches this one through the poll only
+    @Test
+    void testRefresh_picksUpChangesOfOtherNodes() {
+        when(blogPostRepository.changeFingerprint()).thenReturn("1-1-0-0", "1-1-1-0");
+        String before = changeTracker.listTag();
+        long changedBefore = changeTracker.lastChangeNanos();
+
+        changeTracker.refresh();
+
+        assertNotEquals(before, changeTracker.listTag());
+        assertTrue(changeTracker.lastChangeNanos() > changedBefore);
+    }
+
+    // No node-local part, so every node serving the same rows hands out the same tag
+    @Test
+    void testListTag_derivedFromTheRowsOnly() {
+        when(blogPostRepository.changeFingerprint()).thenReturn("3-7-12-40");
+
+        assertEquals(EntityTags.weak("3-7-12-40"), changeTracker.listTag());
+    }
+}
@@ -0,0 +1,37 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.BlogPost;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityTagsTest {
+
+    @Test
+    void testStrong_changesWithUpdatesAndViews() {
+        BlogPost post = new BlogPost("Title", "Content");
+        post.setId(1L);
+        post.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        String original = EntityTags.strong(post);
+
+        post.setViewCount(5);
+        String viewed = EntityTags.strong(post);
+        post.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 12, 0, 0, 1));
+
+        assertNotEquals(original, viewed);
+        assertNotEquals(viewed, EntityTags.strong(post));
+        assertTrue(original.startsWith("\"1-"));
+    }
+
+    @Test
+    void testMatches_weakComparisonAndLists() {
+        assertTrue(EntityTags.matches("\"a\"", "\"a\""));
+        assertTrue(EntityTags.matches("W/\"a\"", "\"a\""));
+        assertTrue(EntityTags.matches("\"b\", W/\"a\"", "W/\"a\""));
+        assertTrue(EntityTags.matches("*", "\"a\""));
+        assertFalse(EntityTags.matches("\"b\"", "\"a\""));
+        assertFalse(EntityTags.matches(null, "\"a\""));
+    }
+}
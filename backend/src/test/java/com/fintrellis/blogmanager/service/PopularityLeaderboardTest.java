@@ -0,0 +1,120 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.dto.PostResponse;
+import com.fintrellis.blogmanager.event.PostChangedEvent;
+import com.fintrellis.blogmanager.repository.BlogPostRepository;
+import io.micronaut.data.model.Pageable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PopularityLeaderboardTest {
+
+    @Mock
+    private BlogPostRepository blogPostRepository;
+
+    @Mock
+    private ExecutorService executor;
+
+    @InjectMocks
+    private PopularityLeaderboard leaderboard = new PopularityLeaderboard(2);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+    }
+
+    @Test
+    void testRecordView_ranksByViewsAndKeepsCapacity() {
+        leaderboard.recordView(post(1L, true), 5);
+        leaderboard.recordView(post(2L, true), 3);
+        leaderboard.recordView(post(3L, true), 4); // Pushes post 2 out
+        leaderboard.recordView(post(2L, true), 4); // Ties with post 3 but is older, so it stays out
+
+        assertEquals(List.of(1L, 3L), ids(leaderboard.top(10)));
+        assertEquals(4, leaderboard.top(10).get(1).getViewCount());
+    }
+
+    @Test
+    void testRecordView_ignoresDrafts() {
+        leaderboard.recordView(post(1L, false), 100);
+
+        assertTrue(leaderboard.top(10).isEmpty());
+    }
+
+    @Test
+    void testOnPostChanged_unpublishRemovesAndRebuildsWhenPostsWereLeftOut() {
+        leaderboard.recordView(post(1L, true), 5);
+        leaderboard.recordView(post(2L, true), 4);
+        leaderboard.recordView(post(3L, true), 3); // Left out, capacity is 2
+        when(blogPostRepository.findPublishedSummaryPageByViewCount(anyInt(), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(summary(2L, 4), summary(3L, 3)));
+
+        BlogPost unpublished = post(1L, false);
+        leaderboard.onPostChanged(PostChangedEvent.publishToggled(post(1L, true), unpublished));
+
+        assertEquals(List.of(2L, 3L), ids(leaderboard.top(2)));
+        verify(blogPostRepository, times(1)).findPublishedSummaryPageByViewCount(Integer.MAX_VALUE, Long.MAX_VALUE, Pageable.from(0, 3));
+    }
+
+    @Test
+    void testTop_servesHeldPostsWhileRebuilding() {
+        reset(executor);
+        leaderboard.recordView(post(1L, true), 5);
+        leaderboard.recordView(post(2L, true), 4);
+        leaderboard.recordView(post(3L, true), 3); // Left out, capacity is 2
+        when(blogPostRepository.findPublishedSummaryPageByViewCount(anyInt(), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(summary(2L, 4), summary(3L, 3)));
+        leaderboard.onPostChanged(PostChangedEvent.deleted(post(1L, true)));
+
+        assertEquals(List.of(2L), ids(leaderboard.top(2)));
+        assertEquals(List.of(2L), ids(leaderboard.top(2)));
+        verifyNoInteractions(blogPostRepository);
+
+        ArgumentCaptor<Runnable> rebuild = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, times(1)).execute(rebuild.capture()); // Queued once for both requests
+        rebuild.getValue().run();
+
+        assertEquals(List.of(2L, 3L), ids(leaderboard.top(2)));
+    }
+
+    @Test
+    void testTop_noRebuildWhileNothingWasLeftOut() {
+        leaderboard.recordView(post(1L, true), 5);
+        leaderboard.onPostChanged(PostChangedEvent.deleted(post(1L, true)));
+
+        assertTrue(leaderboard.top(2).isEmpty());
+        verifyNoInteractions(blogPostRepository);
+    }
+
+    private static List<Long> ids(List<PostResponse> posts) {
+        return posts.stream().map(PostResponse::getId).toList();
+    }
+
+    private static BlogPost post(Long id, boolean published) {
+        BlogPost post = new BlogPost("Title " + id, "Content");
+        post.setId(id);
+        post.setPublished(published);
+        return post;
+    }
+
+    private static PostResponse summary(Long id, int views) {
+        BlogPost post = post(id, true);
+        post.setViewCount(views);
+        return PostResponse.summaryOf(post);
+    }
+}
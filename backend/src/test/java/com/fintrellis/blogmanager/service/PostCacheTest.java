@@ -0,0 +1,116 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.BlogPost;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void testGet_loadsOnceThenHits() {
+        PostCache cache = newCache(1024 * 1024, Duration.ofMinutes(1));
+
+        cache.get(1L, this::load);
+        cache.get(1L, this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    void testGet_evictsLeastRecentlyUsedByWeight() {
+        long postWeight = PostCache.weigh(post(1L));
+        PostCache cache = newCache(postWeight * 2, Duration.ofMinutes(1));
+
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        cache.get(1L, this::load); // Post 1 becomes the most recently used
+        cache.get(3L, this::load); // Pushes post 2 out
+
+        assertEquals(2, cache.stats().size());
+        assertEquals(1, cache.stats().evictions());
+        cache.get(1L, this::load);
+        assertEquals(3, loads.get());
+        cache.get(2L, this::load);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void testGet_reloadsAfterTtl() {
+        PostCache cache = newCache(1024 * 1024, Duration.ofSeconds(10));
+
+        cache.get(1L, this::load);
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        cache.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.stats().expirations());
+    }
+
+    @Test
+    void testGet_doesNotCacheRowLoadedDuringInvalidation() {
+        PostCache cache = newCache(1024 * 1024, Duration.ofMinutes(1));
+
+        cache.get(1L, id -> {
+            cache.invalidate(id); // A write commits while the row is being read
+            return load(id);
+        });
+        cache.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testEndViewFlush_updatesCachedCopy() {
+        PostCache cache = newCache(1024 * 1024, Duration.ofMinutes(1));
+        BlogPost first = cache.get(1L, this::load).orElseThrow();
+
+        cache.beginViewFlush();
+        cache.endViewFlush(Map.of(1L, 5L));
+
+        assertEquals(0, first.getViewCount()); // Posts already handed out are not modified
+        assertEquals(5, cache.get(1L, this::load).orElseThrow().getViewCount());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testBeginViewFlush_loadsDuringTheFlushAreNotCached() {
+        PostCache cache = newCache(1024 * 1024, Duration.ofMinutes(1));
+
+        cache.beginViewFlush();
+        cache.get(1L, this::load); // May already include the views being written
+        cache.endViewFlush(Map.of(1L, 5L));
+
+        assertEquals(0, cache.get(1L, this::load).orElseThrow().getViewCount()); // Loaded again, not counted twice
+        assertEquals(2, loads.get());
+    }
+
+    private PostCache newCache(long maxWeight, Duration ttl) {
+        PostCacheConfiguration configuration = new PostCacheConfiguration();
+        configuration.setMaxWeight(maxWeight);
+        configuration.setTtl(ttl);
+        return new PostCache(configuration, clock::get);
+    }
+
+    private Optional<BlogPost> load(Long id) {
+        loads.incrementAndGet();
+        return Optional.of(post(id));
+    }
+
+    private static BlogPost post(Long id) {
+        BlogPost post = new BlogPost("Post " + id, "Content of post " + id);
+        post.setId(id);
+        return post;
+    }
+}
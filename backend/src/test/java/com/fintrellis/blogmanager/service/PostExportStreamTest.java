@@ -0,0 +1,95 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.BlogPost;
+import io.micronaut.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PostExportStreamTest {
+
+    private final AtomicInteger closes = new AtomicInteger();
+    private JsonMapper jsonMapper;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        jsonMapper = mock(JsonMapper.class);
+        when(jsonMapper.writeValueAsBytes(any())).thenAnswer(invocation -> {
+            BlogPost post = invocation.getArgument(0);
+            return ("{\"id\":" + post.getId() + "}").getBytes(StandardCharsets.UTF_8);
+        });
+    }
+
+    @Test
+    void testJson_writesOneArray() throws IOException {
+        String body = readAll(open(posts(3), ExportFormat.JSON));
+
+        assertEquals("[{\"id\":1},{\"id\":2},{\"id\":3}]", body);
+        assertEquals(1, closes.get()); // Cursor released once the last row was written
+    }
+
+    @Test
+    void testNdjson_writesOnePostPerLine() throws IOException {
+        String body = readAll(open(posts(2), ExportFormat.NDJSON));
+
+        assertEquals("{\"id\":1}\n{\"id\":2}\n", body);
+    }
+
+    @Test
+    void testJson_emptyTable() throws IOException {
+        assertEquals("[]", readAll(open(posts(0), ExportFormat.JSON)));
+        assertEquals("", readAll(open(posts(0), ExportFormat.NDJSON)));
+    }
+
+    @Test
+    void testRead_pullsRowsInChunks() throws IOException {
+        List<BlogPost> posts = posts(50_000);
+        AtomicInteger pulled = new AtomicInteger();
+        InputStream stream = new PostExportStream(posts.stream().peek(post -> pulled.incrementAndGet()).iterator(),
+                closes::incrementAndGet, ExportFormat.JSON, jsonMapper);
+
+        stream.read(new byte[16]);
+
+        assertTrue(pulled.get() < posts.size()); // Only the first chunk was serialized
+        stream.close();
+        assertEquals(1, closes.get());
+    }
+
+    @Test
+    void testRead_serializationFailureReleasesCursor() throws IOException {
+        when(jsonMapper.writeValueAsBytes(any())).thenThrow(new IOException("boom"));
+        InputStream stream = open(posts(1), ExportFormat.JSON);
+
+        assertThrows(IOException.class, stream::read);
+        assertEquals(1, closes.get());
+    }
+
+    private InputStream open(List<BlogPost> posts, ExportFormat format) {
+        return new PostExportStream(posts.iterator(), closes::incrementAndGet, format, jsonMapper);
+    }
+
+    private static String readAll(InputStream stream) throws IOException {
+        try (stream) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static List<BlogPost> posts(int count) {
+        List<BlogPost> posts = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            BlogPost post = new BlogPost("Title " + id, "Content");
+            post.setId(id);
+            posts.add(post);
+        }
+        return posts;
+    }
+}
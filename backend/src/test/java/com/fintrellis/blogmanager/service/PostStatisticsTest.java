@@ -0,0 +1,162 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.dto.AnalyticsSummary;
+import com.fintrellis.blogmanager.dto.AuthorPostCount;
+import com.fintrellis.blogmanager.event.PostChangedEvent;
+import com.fintrellis.blogmanager.repository.BlogPostRepository;
+import jakarta.inject.Provider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PostStatisticsTest {
+
+    @Mock
+    private BlogPostRepository blogPostRepository;
+
+    @Mock
+    private Provider<ViewCountBuffer> viewCountBuffer;
+
+    @InjectMocks
+    private PostStatistics postStatistics;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testOnPostChanged_appliesDifferences() {
+        BlogPost post = post(1L, "alice", false);
+        postStatistics.onPostChanged(PostChangedEvent.created(post));
+        postStatistics.onPostChanged(PostChangedEvent.created(post(2L, "bob", true)));
+
+        BlogPost published = post.copy();
+        published.setPublished(true);
+        published.setAuthor("bob");
+        postStatistics.onPostChanged(PostChangedEvent.updated(post, published));
+
+        AnalyticsSummary summary = postStatistics.summary();
+        assertEquals(2, summary.getTotalPosts());
+        assertEquals(2, summary.getPublishedPosts());
+        assertEquals(0, summary.getDraftPosts());
+        assertEquals(Map.of("bob", 2L), summary.getPostsByAuthor());
+    }
+
+    @Test
+    void testViews_countedAndRemovedWithDeletedPost() {
+        BlogPost post = post(1L, "alice", true);
+        postStatistics.onPostChanged(PostChangedEvent.created(post));
+        postStatistics.recordView();
+        postStatistics.recordView();
+        postStatistics.recordView();
+
+        assertEquals(3, postStatistics.summary().getTotalViews());
+        assertEquals(3.0, postStatistics.summary().getAverageViews());
+
+        post.setViewCount(2); // Two views flushed, one still buffered and discarded with the post
+        postStatistics.discardViews(1);
+        postStatistics.onPostChanged(PostChangedEvent.deleted(post));
+
+        assertEquals(0, postStatistics.summary().getTotalViews());
+        assertEquals(0, postStatistics.summary().getTotalPosts());
+        assertTrue(postStatistics.summary().getPostsByAuthor().isEmpty());
+    }
+
+    @Test
+    void testReconcile_replacesFiguresWithDatabaseAggregates() {
+        ViewCountBuffer buffer = mock(ViewCountBuffer.class);
+        when(viewCountBuffer.get()).thenReturn(buffer);
+        when(buffer.totalViews(any())).thenAnswer(invocation -> invocation.<LongSupplier>getArgument(0).getAsLong() + 5); // Five buffered
+        when(blogPostRepository.count()).thenReturn(10L);
+        when(blogPostRepository.countByPublishedTrue()).thenReturn(4L);
+        when(blogPostRepository.sumViewCount()).thenReturn(95L);
+        when(blogPostRepository.countPostsByAuthor()).thenReturn(List.of(new AuthorPostCount("alice", 3), new AuthorPostCount("bob", 7)));
+
+        postStatistics.reconcile();
+
+        AnalyticsSummary summary = postStatistics.summary();
+        assertEquals(10, summary.getTotalPosts());
+        assertEquals(6, summary.getDraftPosts());
+        assertEquals(100, summary.getTotalViews());
+        assertEquals(10.0, summary.getAverageViews());
+        assertEquals(List.of("bob", "alice"), List.copyOf(summary.getPostsByAuthor().keySet())); // Most prolific first
+        assertNotNull(summary.getReconciledAt());
+    }
+
+    @Test
+    void testReconcile_keepsIncrementalFiguresWhenPostsChangeMeanwhile() {
+        ViewCountBuffer buffer = mock(ViewCountBuffer.class);
+        when(viewCountBuffer.get()).thenReturn(buffer);
+        when(blogPostRepository.count()).thenAnswer(invocation -> {
+            postStatistics.onPostChanged(PostChangedEvent.created(post(1L, "alice", true))); // Commit lands mid-reconcile
+            return 0L;
+        });
+
+        postStatistics.reconcile();
+
+        assertEquals(1, postStatistics.summary().getTotalPosts());
+        assertNull(postStatistics.summary().getReconciledAt());
+    }
+
+    @Test
+    void testReconcile_retriesWhileWritesCommitConcurrently() {
+        ViewCountBuffer buffer = mock(ViewCountBuffer.class);
+        when(viewCountBuffer.get()).thenReturn(buffer);
+        when(buffer.totalViews(any())).thenAnswer(invocation -> invocation.<LongSupplier>getArgument(0).getAsLong());
+        AtomicInteger scans = new AtomicInteger();
+        when(blogPostRepository.count()).thenAnswer(invocation -> {
+            int scan = scans.incrementAndGet();
+            if (scan <= 2) { // The first two scans overlap a write committed by another thread
+                Thread writer = new Thread(() -> postStatistics.onPostChanged(PostChangedEvent.created(post((long) scan, "alice", true))));
+                writer.start();
+                writer.join();
+            }
+            return 2L;
+        });
+        when(blogPostRepository.countByPublishedTrue()).thenReturn(2L);
+        when(blogPostRepository.sumViewCount()).thenReturn(7L);
+        when(blogPostRepository.countPostsByAuthor()).thenReturn(List.of(new AuthorPostCount("alice", 2)));
+
+        postStatistics.reconcile();
+
+        AnalyticsSummary summary = postStatistics.summary();
+        assertEquals(3, scans.get());
+        assertEquals(2, summary.getTotalPosts());
+        assertEquals(7, summary.getTotalViews());
+        assertEquals(Map.of("alice", 2L), summary.getPostsByAuthor());
+        assertNotNull(summary.getReconciledAt());
+    }
+
+    @Test
+    void testReconcile_keepsViewsRecordedSinceTheScan() {
+        ViewCountBuffer buffer = mock(ViewCountBuffer.class);
+        when(viewCountBuffer.get()).thenReturn(buffer);
+        postStatistics.recordView(); // Drift: counted here, but the database and buffer hold 10 views
+        when(buffer.totalViews(any())).thenReturn(10L);
+
+        postStatistics.reconcile();
+        postStatistics.recordView();
+
+        assertEquals(11, postStatistics.summary().getTotalViews());
+    }
+
+    private static BlogPost post(Long id, String author, boolean published) {
+        BlogPost post = new BlogPost("Title " + id, "Content");
+        post.setId(id);
+        post.setAuthor(author);
+        post.setPublished(published);
+        return post;
+    }
+}
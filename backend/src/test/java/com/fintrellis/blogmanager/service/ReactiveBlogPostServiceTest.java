@@ -0,0 +1,127 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.dto.PostResponse;
+import com.fintrellis.blogmanager.exception.BlogPostNotFoundException;
+import com.fintrellis.blogmanager.exception.ValidationException;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Functional parity of the R2DBC read path with the JPA path, both reading one embedded H2 database in PostgreSQL mode
+@MicronautTest(environments = {"test", ReactiveBlogPostService.ENVIRONMENT}, transactional = false)
+@Property(name = "datasources.default.url", value = ReactiveBlogPostServiceTest.JDBC_URL)
+@Property(name = "r2dbc.datasources.default.url", value = "r2dbc:h2:mem:///reactiveParity?options=DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+@Property(name = "r2dbc.datasources.default.username", value = "sa")
+@Property(name = "r2dbc.datasources.default.password", value = "")
+class ReactiveBlogPostServiceTest {
+
+    static final String JDBC_URL = "jdbc:h2:mem:reactiveParity;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE";
+
+    @Inject
+    private BlogPostService blogPostService;
+
+    @Inject
+    private ReactiveBlogPostService reactiveBlogPostService;
+
+    private static Long firstId; // Posts are created once and shared by every test
+
+    @BeforeEach
+    void setUp() {
+        if (firstId != null) {
+            return;
+        }
+        firstId = create("Reactive streams", "Backpressure all the way down", "Ada", "java, reactor", true).getId();
+        create("Blocking JDBC", "One thread per connection", "Ada", "java", false);
+        create("Reactive search", "Search without blocking", "Grace", "reactor", true);
+    }
+
+    @Test
+    void testListPages_matchJpaPath() {
+        CursorPage<PostResponse> blocking = blogPostService.getAllPosts(null, 2, null);
+        CursorPage<PostResponse> reactive = reactiveBlogPostService.getAllPosts(null, 2, null).block();
+
+        assertEquals(ids(blocking.getItems()), ids(reactive.getItems()));
+        assertEquals(blocking.getNextCursor(), reactive.getNextCursor());
+        assertNull(reactive.getItems().get(0).getContent()); // Summary pages leave out the body
+
+        CursorPage<PostResponse> blockingNext = blogPostService.getAllPosts(blocking.getNextCursor(), 2, null);
+        CursorPage<PostResponse> reactiveNext = reactiveBlogPostService.getAllPosts(reactive.getNextCursor(), 2, null).block();
+        assertEquals(ids(blockingNext.getItems()), ids(reactiveNext.getItems()));
+
+        assertEquals(ids(blogPostService.getAllPublishedPosts(null, null, "full").getItems()),
+                ids(reactiveBlogPostService.getAllPublishedPosts(null, null, "full").block().getItems()));
+        assertEquals(ids(blogPostService.getPostsByAuthor("Ada", null, null, null).getItems()),
+                ids(reactiveBlogPostService.getPostsByAuthor("Ada", null, null, null).block().getItems()));
+    }
+
+    @Test
+    void testSingleReadsAndCounts_matchJpaPath() {
+        BlogPost reactive = reactiveBlogPostService.getPostById(firstId).block();
+
+        assertEquals(blogPostService.getPostById(firstId).getTitle(), reactive.getTitle());
+        assertEquals("Backpressure all the way down", reactive.getContent());
+        assertEquals(blogPostService.getTotalPostsCount(), reactiveBlogPostService.getTotalPostsCount().block());
+        assertEquals(blogPostService.getPublishedPostsCount(), reactiveBlogPostService.getPublishedPostsCount().block());
+        assertEquals(blogPostService.getPostsCountByAuthor("Ada"), reactiveBlogPostService.getPostsCountByAuthor("Ada").block());
+        assertThrows(BlogPostNotFoundException.class, () -> reactiveBlogPostService.getPostById(999_999L).block());
+    }
+
+    @Test
+    void testSearches_matchJpaPath() {
+        assertEquals(postIds(blogPostService.searchByTitle("reactive", null, null).getItems()),
+                postIds(reactiveBlogPostService.searchByTitle("reactive", null, null).block().getItems()));
+        assertEquals(postIds(blogPostService.searchByTags("java, reactor", "any", null, null).getItems()),
+                postIds(reactiveBlogPostService.searchByTags("java, reactor", "any", null, null).block().getItems()));
+        assertThrows(ValidationException.class, () -> reactiveBlogPostService.searchByContent(" ", null, null).block());
+    }
+
+    // Another node writing to the same database: no event reaches this application context
+    @Test
+    void testReads_seeWritesMadeOutsideThisNode() throws SQLException {
+        BlogPost post = create("Written elsewhere", "Body before", "Linus", "elsewhere", true);
+        assertEquals("Written elsewhere", reactiveBlogPostService.getPostById(post.getId()).block().getTitle());
+        long views = reactiveBlogPostService.getAnalyticsSummary().block().getTotalViews();
+
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE blog_posts SET title = 'Renamed elsewhere', view_count = 1000000, version = version + 1 WHERE id = " + post.getId());
+            statement.executeUpdate("UPDATE post_contents SET content = 'Body after' WHERE post_id = " + post.getId());
+            statement.executeUpdate("INSERT INTO post_tags (post_id, tag_id) SELECT " + firstId + ", id FROM tags WHERE name = 'elsewhere'");
+        }
+
+        BlogPost reread = reactiveBlogPostService.getPostById(post.getId()).block();
+        assertEquals("Renamed elsewhere", reread.getTitle());
+        assertEquals("Body after", reread.getContent());
+        assertEquals(List.of(post.getId(), firstId), postIds(reactiveBlogPostService.searchByTags("elsewhere", null, null, null).block().getItems()));
+        assertEquals(2, reactiveBlogPostService.getTagCounts().block().get("elsewhere"));
+        assertEquals(post.getId(), reactiveBlogPostService.getMostPopularPosts(1, null).block().getItems().get(0).getId());
+        assertEquals(views + 1_000_000, reactiveBlogPostService.getAnalyticsSummary().block().getTotalViews());
+    }
+
+    private BlogPost create(String title, String content, String author, String tags, boolean published) {
+        BlogPost post = new BlogPost(title, content);
+        post.setAuthor(author);
+        post.setTags(tags);
+        post.setPublished(published);
+        return blogPostService.createPost(post);
+    }
+
+    private static List<Long> ids(List<PostResponse> posts) {
+        return posts.stream().map(PostResponse::getId).toList();
+    }
+
+    private static List<Long> postIds(List<BlogPost> posts) {
+        return posts.stream().map(BlogPost::getId).toList();
+    }
+}
@@ -0,0 +1,168 @@
+package com.fintrellis.blogmanager.service;
+
+import com.fintrellis.blogmanager.BlogPost;
+import com.fintrellis.blogmanager.event.PostChangedEvent;
+import com.fintrellis.blogmanager.repository.ViewCountWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+class ViewCountBufferTest {
+
+    @Mock
+    private ViewCountWriter viewCountWriter;
+
+    @Mock
+    private PostCache postCache;
+
+    @Mock
+    private PostStatistics postStatistics;
+
+    @Mock
+    private ChangeTracker changeTracker;
+
+    @InjectMocks
+    private ViewCountBuffer viewCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testFlush_writesBufferedDeltas() {
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(2L);
+        assertEquals(2, viewCountBuffer.pendingViews(1L));
+
+        viewCountBuffer.flush();
+
+        verify(viewCountWriter, times(1)).writeDeltas(Map.of(1L, 2L, 2L, 1L));
+        verify(postCache, times(1)).beginViewFlush();
+        verify(postCache, times(1)).endViewFlush(Map.of(1L, 2L, 2L, 1L));
+        verify(changeTracker, times(1)).touch();
+        assertEquals(0, viewCountBuffer.pendingViews(1L));
+    }
+
+    @Test
+    void testTotalViews_countsViewsOfARunningFlushOnce() throws InterruptedException {
+        AtomicLong database = new AtomicLong(10);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            commit.await(200, TimeUnit.MILLISECONDS); // Committed early if the query below gets in first
+            database.addAndGet(3);
+            return null;
+        }).when(viewCountWriter).writeDeltas(anyMap());
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(1L);
+
+        Thread flusher = new Thread(viewCountBuffer::flush);
+        flusher.start();
+        writing.await();
+        long total = viewCountBuffer.totalViews(() -> {
+            long flushed = database.get();
+            commit.countDown(); // A flush running alongside the query would now complete and empty the buffer
+            join(flusher);
+            return flushed;
+        });
+
+        assertEquals(13, total);
+    }
+
+    @Test
+    void testFlush_nothingBuffered() {
+        viewCountBuffer.flush();
+
+        verify(viewCountWriter, never()).writeDeltas(anyMap());
+    }
+
+    @Test
+    void testFlush_failureKeepsDeltas() {
+        viewCountBuffer.increment(1L);
+        doThrow(new IllegalStateException("database down")).when(viewCountWriter).writeDeltas(anyMap());
+
+        viewCountBuffer.flush();
+
+        assertEquals(1, viewCountBuffer.pendingViews(1L)); // Retried on the next flush
+        verify(postCache, times(1)).endViewFlush(Map.of()); // Cached copies keep their counts
+    }
+
+    @Test
+    void testFlushedSince_whileAndAfterAFlushWrites() {
+        viewCountBuffer.increment(1L);
+        long before = viewCountBuffer.flushGeneration();
+        doAnswer(invocation -> {
+            long during = viewCountBuffer.flushGeneration();
+            assertTrue(viewCountBuffer.flushedSince(before));
+            assertTrue(viewCountBuffer.flushedSince(during)); // Reads starting now may see the write or not
+            assertEquals(1, viewCountBuffer.pendingViews(1L)); // Still counted while in flight
+            return null;
+        }).when(viewCountWriter).writeDeltas(anyMap());
+
+        viewCountBuffer.flush();
+
+        long after = viewCountBuffer.flushGeneration();
+        assertTrue(viewCountBuffer.flushedSince(before));
+        assertFalse(viewCountBuffer.flushedSince(after));
+        assertEquals(0, viewCountBuffer.pendingViews(1L));
+    }
+
+    @Test
+    void testDiscard_dropsPendingViews() {
+        viewCountBuffer.increment(1L);
+
+        viewCountBuffer.discard(1L);
+
+        assertEquals(0, viewCountBuffer.pendingViews(1L));
+        verify(postStatistics, times(1)).discardViews(1L); // Views that never reach the database leave the totals
+    }
+
+    @Test
+    void testOnPostChanged_deletedPostDropsPendingViews() {
+        BlogPost post = new BlogPost("Title", "Content");
+        post.setId(1L);
+        viewCountBuffer.increment(1L);
+
+        viewCountBuffer.onPostChanged(PostChangedEvent.deleted(post));
+
+        assertEquals(0, viewCountBuffer.pendingViews(1L));
+        verify(postStatistics, times(1)).discardViews(1L);
+    }
+
+    @Test
+    void testFlush_removesIdleCounters() {
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.flush(); // Writes the view, keeps the counter
+        assertEquals(1, viewCountBuffer.bufferedPosts());
+
+        viewCountBuffer.flush(); // No views since, the counter is removed
+
+        assertEquals(0, viewCountBuffer.bufferedPosts());
+        viewCountBuffer.increment(1L); // A later view gets a fresh counter
+        viewCountBuffer.flush();
+        verify(viewCountWriter, times(2)).writeDeltas(Map.of(1L, 1L));
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
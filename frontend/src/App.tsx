@@ -1,10 +1,10 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import { BrowserRouter as Router, Routes, Route } from 'react-router-dom';
 import CreatePostForm from './components/CreatePostForm';
 import ViewPost from './components/ViewPost';
 import EditPostForm from './components/EditPostForm';
 import AnalyticsDashboard from './components/AnalyticsDashboard'; // <--- NEW IMPORT
-import { blogAPI, BlogPost } from './services/api';
+import { blogAPI, BlogPost, Page } from './services/api';
 
 export {}; // Ensures this file is treated as a module
 
@@ -18,6 +18,10 @@ const App: React.FC = () => {
   const [posts, setPosts] = useState<BlogPost[]>([]);
   const [loading, setLoading] = useState(false);
   const [searchTerm, setSearchTerm] = useState('');
+  const [nextCursor, setNextCursor] = useState<string | undefined>();
+  const [loadingMore, setLoadingMore] = useState(false);
+  // The list shown last, asked again with the cursor when more posts are requested
+  const currentQuery = useRef<(cursor?: string) => Promise<Page<BlogPost>>>(blogAPI.getPublishedPosts);
   const [selectedPost, setSelectedPost] = useState<BlogPost | null>(null);
   const [editingPost, setEditingPost] = useState<BlogPost | null>(null);
 
@@ -50,11 +54,13 @@ const App: React.FC = () => {
   }, []);
 
   // Blog functionality
-  const loadPosts = async () => {
+  const showFirstPage = async (query: (cursor?: string) => Promise<Page<BlogPost>>) => {
     try {
       setLoading(true);
-      const data = await blogAPI.getPublishedPosts();
-      setPosts(data);
+      currentQuery.current = query;
+      const page = await query();
+      setPosts(page.items);
+      setNextCursor(page.nextCursor);
     } catch (error) {
       console.error('Error loading posts:', error);
     } finally {
@@ -62,22 +68,33 @@ const App: React.FC = () => {
     }
   };
 
-  const searchPosts = async () => {
-    if (!searchTerm.trim()) {
-      loadPosts();
+  const loadPosts = () => showFirstPage(blogAPI.getPublishedPosts);
+
+  const loadMorePosts = async () => {
+    if (!nextCursor) {
       return;
     }
     try {
-      setLoading(true);
-      const results = await blogAPI.searchByTitle(searchTerm);
-      setPosts(results);
+      setLoadingMore(true);
+      const page = await currentQuery.current(nextCursor);
+      setPosts((shown) => [...shown, ...page.items]);
+      setNextCursor(page.nextCursor);
     } catch (error) {
-      console.error('Error searching posts:', error);
+      console.error('Error loading more posts:', error);
     } finally {
-      setLoading(false);
+      setLoadingMore(false);
     }
   };
 
+  const searchPosts = () => {
+    const term = searchTerm.trim();
+    if (!term) {
+      loadPosts();
+      return;
+    }
+    showFirstPage((cursor) => blogAPI.searchByTitle(term, cursor));
+  };
+
   const handleSelectPost = (post: BlogPost) => {
     setSelectedPost(post);
     setCurrentView('view');
@@ -272,6 +289,14 @@ const App: React.FC = () => {
                 )}
               </div>
             )}
+
+            {!loading && nextCursor && (
+              <div style={{ textAlign: 'center', marginTop: '2rem' }}>
+                <button className="premium-button" onClick={loadMorePosts} disabled={loadingMore}>
+                  {loadingMore ? '🔄 Loading...' : '⬇️ Load More'}
+                </button>
+              </div>
+            )}
           </div>
         );
 
@@ -24,20 +24,12 @@ const AnalyticsDashboard: React.FC<AnalyticsDashboardProps> = ({ onBack, posts }
     const fetchAnalyticsData = useCallback(async () => {
         try {
             setLoading(true);
-            const totalPostsResponse = await blogAPI.getTotalPostsCount();
-            setTotalPosts(totalPostsResponse);
-
-            const publishedPostsResponse = await blogAPI.getPublishedPostsCount();
-            setPublishedPosts(publishedPostsResponse);
-
-            if (posts && posts.length > 0) {
-                const views = posts.reduce((sum: number, post: BlogPost) => sum + (post.viewCount || 0), 0);
-                setTotalViews(views);
-                setAvgViewsPerPost((views / posts.length).toFixed(1));
-            } else {
-                setTotalViews(0);
-                setAvgViewsPerPost('0');
-            }
+            // One request, answered from server-side aggregates instead of summing views over every post
+            const summary = await blogAPI.getAnalyticsSummary();
+            setTotalPosts(summary.totalPosts);
+            setPublishedPosts(summary.publishedPosts);
+            setTotalViews(summary.totalViews);
+            setAvgViewsPerPost(summary.averageViews.toFixed(1));
 
             toast.success('Analytics data loaded!');
         } catch (error) {
@@ -46,7 +38,7 @@ const AnalyticsDashboard: React.FC<AnalyticsDashboardProps> = ({ onBack, posts }
         } finally {
             setLoading(false);
         }
-    }, [posts]);
+    }, []);
 
     useEffect(() => {
         fetchAnalyticsData();
@@ -1,7 +1,7 @@
 export {}; // Added this for isolatedModules error
 
-import React, { useState, useEffect } from 'react';
-import { blogAPI, BlogPost } from '../services/api';
+import React, { useState, useEffect, useRef } from 'react';
+import { blogAPI, BlogPost, Page } from '../services/api';
 
 interface BlogPostListProps {
   onSelectPost: (post: BlogPost) => void;
@@ -13,16 +13,22 @@ const BlogPostList: React.FC<BlogPostListProps> = ({ onSelectPost, onCreateNew }
   const [loading, setLoading] = useState(true);
   const [searchTerm, setSearchTerm] = useState('');
   const [searchType, setSearchType] = useState<'title' | 'content' | 'tags'>('title');
+  const [nextCursor, setNextCursor] = useState<string | undefined>();
+  const [loadingMore, setLoadingMore] = useState(false);
+  // The list shown last, asked again with the cursor when more posts are requested
+  const currentQuery = useRef<(cursor?: string) => Promise<Page<BlogPost>>>(blogAPI.getPublishedPosts);
 
   useEffect(() => {
     loadPosts();
   }, []);
 
-  const loadPosts = async () => {
+  const showFirstPage = async (query: (cursor?: string) => Promise<Page<BlogPost>>) => {
     try {
       setLoading(true);
-      const data = await blogAPI.getPublishedPosts();
-      setPosts(data);
+      currentQuery.current = query;
+      const page = await query();
+      setPosts(page.items);
+      setNextCursor(page.nextCursor);
     } catch (error) {
       console.error('Error loading posts:', error);
     } finally {
@@ -30,33 +36,41 @@ const BlogPostList: React.FC<BlogPostListProps> = ({ onSelectPost, onCreateNew }
     }
   };
 
-  const handleSearch = async () => {
-    if (!searchTerm.trim()) {
-      loadPosts();
+  const loadPosts = () => showFirstPage(blogAPI.getPublishedPosts);
+
+  const loadMore = async () => {
+    if (!nextCursor) {
       return;
     }
-
     try {
-      setLoading(true);
-      let results: BlogPost[] = [];
-
-      switch (searchType) {
-        case 'title':
-          results = await blogAPI.searchByTitle(searchTerm);
-          break;
-        case 'content':
-          results = await blogAPI.searchByContent(searchTerm);
-          break;
-        case 'tags':
-          results = await blogAPI.searchByTags(searchTerm);
-          break;
-      }
-
-      setPosts(results);
+      setLoadingMore(true);
+      const page = await currentQuery.current(nextCursor);
+      setPosts((shown) => [...shown, ...page.items]);
+      setNextCursor(page.nextCursor);
     } catch (error) {
-      console.error('Error searching posts:', error);
+      console.error('Error loading more posts:', error);
     } finally {
-      setLoading(false);
+      setLoadingMore(false);
+    }
+  };
+
+  const handleSearch = () => {
+    const term = searchTerm.trim();
+    if (!term) {
+      loadPosts();
+      return;
+    }
+
+    switch (searchType) {
+      case 'title':
+        showFirstPage((cursor) => blogAPI.searchByTitle(term, cursor));
+        break;
+      case 'content':
+        showFirstPage((cursor) => blogAPI.searchByContent(term, cursor));
+        break;
+      case 'tags':
+        showFirstPage((cursor) => blogAPI.searchByTags(term, cursor));
+        break;
     }
   };
 
@@ -262,6 +276,14 @@ const BlogPostList: React.FC<BlogPostListProps> = ({ onSelectPost, onCreateNew }
           ))
         )}
       </div>
+
+      {nextCursor && (
+        <div style={{ textAlign: 'center', marginTop: '2rem' }}>
+          <button className="premium-button" onClick={loadMore} disabled={loadingMore}>
+            {loadingMore ? '🔄 Loading...' : '⬇️ Load More'}
+          </button>
+        </div>
+      )}
     </div>
   );
 };
@@ -1,5 +1,6 @@
 import React, { useState, useEffect, useCallback } from 'react';
-import { blogAPI, BlogPost } from '../services/api';
+import axios from 'axios';
+import { blogAPI, BlogPost, PostPatch } from '../services/api';
 
 export {}; // Ensures this file is treated as a module
 
@@ -66,11 +67,29 @@ const EditPostForm: React.FC<EditPostFormProps> = ({ post, onSuccess, onCancel }
 
     try {
       setIsSubmitting(true);
-      await blogAPI.updatePost(post.id!, formData);
+      if (post.version === undefined) {
+        await blogAPI.updatePost(post.id!, formData);
+      } else {
+        // Send only what was edited, so concurrent edits to other fields are not overwritten
+        const patch: PostPatch = { version: post.version };
+        if (formData.title !== post.title) patch.title = formData.title;
+        if (formData.content !== post.content) patch.content = formData.content;
+        if (formData.summary !== (post.summary || '')) patch.summary = formData.summary;
+        if (formData.author !== (post.author || '')) patch.author = formData.author;
+        if (formData.tags !== (post.tags || '')) patch.tags = formData.tags;
+        if (formData.published !== post.published) patch.published = formData.published;
+        if (Object.keys(patch).length > 1) {
+          await blogAPI.patchPost(post.id!, patch);
+        }
+      }
       onSuccess();
     } catch (error) {
       console.error('Error updating post:', error);
-      setErrors({ submit: 'Failed to update post. Please try again.' });
+      if (axios.isAxiosError(error) && error.response?.status === 409) {
+        setErrors({ submit: 'This post was changed by someone else. Reload it to see the latest version.' });
+      } else {
+        setErrors({ submit: 'Failed to update post. Please try again.' });
+      }
     } finally {
       setIsSubmitting(false);
     }
@@ -1,5 +1,5 @@
 // src/services/api.ts
-import axios from 'axios';
+import axios, { AxiosResponse } from 'axios';
 
 const API_BASE_URL = 'http://localhost:8888/api';
 
@@ -9,6 +9,8 @@ const api = axios.create({
   headers: {
     'Content-Type': 'application/json',
   },
+  // Send the read-your-writes cookie, so our own changes are visible right after we make them
+  withCredentials: true,
 });
 
 // Blog Post Interface
@@ -23,20 +25,49 @@ export interface BlogPost {
   updatedAt?: string;
   published: boolean;
   viewCount?: number;
+  version?: number;
+}
+
+// Partial update: only the fields present are written, and only if the post is still at `version`
+export type PostPatch = Partial<Omit<BlogPost, 'id' | 'createdAt' | 'updatedAt' | 'viewCount' | 'version'>> & {
+  version: number;
+};
+
+// One page of a list; nextCursor asks for the page after it and is missing on the last page
+export interface Page<T> {
+  items: T[];
+  nextCursor?: string;
+}
+
+// Lists answer with one page and send the cursor of the next one in the X-Next-Cursor header
+const toPage = <T>(response: AxiosResponse<T[]>): Page<T> => ({
+  items: response.data,
+  nextCursor: response.headers['x-next-cursor'] || undefined,
+});
+
+// Analytics Summary Interface
+export interface AnalyticsSummary {
+  totalPosts: number;
+  publishedPosts: number;
+  draftPosts: number;
+  totalViews: number;
+  averageViews: number;
+  postsByAuthor: Record<string, number>;
+  reconciledAt?: string;
 }
 
 // API Functions
 export const blogAPI = {
-  // Get all posts
-  getAllPosts: async (): Promise<BlogPost[]> => {
-    const response = await api.get('/posts');
-    return response.data;
+  // Get all posts, one page at a time (the first page without a cursor)
+  getAllPosts: async (cursor?: string): Promise<Page<BlogPost>> => {
+    const response = await api.get('/posts', { params: { cursor } });
+    return toPage(response);
   },
 
-  // Get published posts only
-  getPublishedPosts: async (): Promise<BlogPost[]> => {
-    const response = await api.get('/posts/published');
-    return response.data;
+  // Get published posts only, one page at a time
+  getPublishedPosts: async (cursor?: string): Promise<Page<BlogPost>> => {
+    const response = await api.get('/posts/published', { params: { cursor } });
+    return toPage(response);
   },
 
   // Get post by ID (with view count increment)
@@ -57,27 +88,33 @@ export const blogAPI = {
     return response.data;
   },
 
+  // Patch post, rejected with 409 Conflict if someone else saved it first
+  patchPost: async (id: number, patch: PostPatch): Promise<BlogPost> => {
+    const response = await api.patch(`/posts/${id}`, patch);
+    return response.data;
+  },
+
   // Delete post
   deletePost: async (id: number): Promise<void> => {
     await api.delete(`/posts/${id}`);
   },
 
   // Search posts by title
-  searchByTitle: async (query: string): Promise<BlogPost[]> => {
-    const response = await api.get(`/posts/search/title?q=${encodeURIComponent(query)}`);
-    return response.data;
+  searchByTitle: async (query: string, cursor?: string): Promise<Page<BlogPost>> => {
+    const response = await api.get('/posts/search/title', { params: { q: query, cursor } });
+    return toPage(response);
   },
 
   // Search posts by content
-  searchByContent: async (query: string): Promise<BlogPost[]> => {
-    const response = await api.get(`/posts/search/content?q=${encodeURIComponent(query)}`);
-    return response.data;
+  searchByContent: async (query: string, cursor?: string): Promise<Page<BlogPost>> => {
+    const response = await api.get('/posts/search/content', { params: { q: query, cursor } });
+    return toPage(response);
   },
 
   // Search posts by tags
-  searchByTags: async (query: string): Promise<BlogPost[]> => {
-    const response = await api.get(`/posts/search/tags?q=${encodeURIComponent(query)}`);
-    return response.data;
+  searchByTags: async (query: string, cursor?: string): Promise<Page<BlogPost>> => {
+    const response = await api.get('/posts/search/tags', { params: { q: query, cursor } });
+    return toPage(response);
   },
 
   // Get analytics
@@ -90,6 +127,12 @@ export const blogAPI = {
     const response = await api.get('/posts/analytics/published');
     return response.data;
   },
+
+  // All dashboard metrics in one request
+  getAnalyticsSummary: async (): Promise<AnalyticsSummary> => {
+    const response = await api.get('/posts/analytics/summary');
+    return response.data;
+  },
 };
 
 export default api;